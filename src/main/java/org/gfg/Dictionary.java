@@ -1,6 +1,8 @@
 package org.gfg;
 
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 /**
  * Dictionary abstraction that stores a set of keys and associated values.
@@ -8,6 +10,66 @@ import java.util.List;
  * @param <V> type of values
  */
 public interface Dictionary<K, V>{
+    /**
+     * Key/value pair stored in a dictionary.
+     * @param <K> type of keys
+     * @param <V> type of values
+     */
+    public interface Entry<K, V>{
+        /**
+         * Returns the key of this entry.
+         * @return key
+         */
+        public K getKey();
+
+        /**
+         * Returns the value of this entry.
+         * @return value
+         */
+        public V getValue();
+    }
+
+    /**
+     * Forward-only position over the key/value pairs of a dictionary. Unlike an iterator,
+     * a cursor exposes the current key and value directly and can be rewound, so a single
+     * cursor can traverse a dictionary any number of times without allocating.
+     * The dictionary must not be modified while a traversal is in progress.
+     * @param <K> type of keys
+     * @param <V> type of values
+     */
+    public interface Cursor<K, V>{
+        /**
+         * Advances this cursor to the next key/value pair.
+         * @return false if there are no more pairs
+         */
+        public boolean next();
+
+        /**
+         * Returns the key at the current position.
+         * @return current key
+         */
+        public K key();
+
+        /**
+         * Returns the value at the current position.
+         * @return current value
+         */
+        public V value();
+
+        /**
+         * Rewinds this cursor to before the first key/value pair.
+         */
+        public void reset();
+
+        /**
+         * Returns the key/value pair at the current position.
+         * @return current entry
+         */
+        public default Entry<K, V> entry(){
+            return new DictionaryViews.SimpleEntry<>(key(), value());
+        }
+    }
+
     /**
      * Checks for presence of a key in this dictionary.
      * @param key input key
@@ -47,4 +109,101 @@ public interface Dictionary<K, V>{
      * @return list of keys
      */
     public List<K> keys();
-}
\ No newline at end of file
+
+    /**
+     * Retrieves value associated with a given key, or {@code defaultValue} if the key
+     * is not present in this dictionary.
+     * @param key input key
+     * @param defaultValue value to return if the key is not present
+     * @return value associated with the key, or {@code defaultValue}
+     */
+    public default V getOrDefault(K key, V defaultValue){
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    /**
+     * Adds a key/value pair to this dictionary unless the key is already present.
+     * @param key input key
+     * @param value input value
+     * @return value already associated with the key, or null if the key was absent
+     */
+    public default V putIfAbsent(K key, V value){
+        if(containsKey(key)) return get(key);
+        add(key, value);
+        return null;
+    }
+
+    /**
+     * Computes a new value for a given key from its current value and stores it.
+     * The current value passed to {@code remappingFunction} is null if the key is absent.
+     * Since this dictionary permits null values, a null result is stored like any other value.
+     * @param key input key
+     * @param remappingFunction function computing the new value from the key and its current value
+     * @return new value associated with the key
+     */
+    public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction){
+        V value = remappingFunction.apply(key, containsKey(key) ? get(key) : null);
+        add(key, value);
+        return value;
+    }
+
+    /**
+     * Associates {@code value} with a given key if the key is absent, otherwise replaces
+     * the current value with the result of {@code remappingFunction} applied to the current
+     * value and {@code value}.
+     * @param key input key
+     * @param value value to add or merge with the current value
+     * @param remappingFunction function merging the current value with {@code value}
+     * @return new value associated with the key
+     */
+    public default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction){
+        V newValue = containsKey(key) ? remappingFunction.apply(get(key), value) : value;
+        add(key, newValue);
+        return newValue;
+    }
+
+    /**
+     * Returns a cursor positioned before the first key/value pair of this dictionary.
+     * The default implementation walks a copy of {@link #keys()} and looks up each value
+     * with {@link #get(Object)}, so it fails if a key is deleted during the traversal;
+     * dictionaries that allow concurrent updates must provide their own cursor.
+     * @return cursor over this dictionary
+     */
+    public default Cursor<K, V> cursor(){
+        return new DictionaryViews.KeyListCursor<>(this);
+    }
+
+    /**
+     * Performs an action for each key/value pair of this dictionary.
+     * @param action action to perform
+     */
+    public default void forEach(BiConsumer<? super K, ? super V> action){
+        Cursor<K, V> cursor = cursor();
+        while(cursor.next()) action.accept(cursor.key(), cursor.value());
+    }
+
+    /**
+     * Returns a live view of the keys stored in this dictionary. Unlike {@link #keys()},
+     * the view does not copy the keys. The view is only iterable; it is not a set.
+     * @return iterable over the keys
+     */
+    public default Iterable<K> keyView(){
+        return () -> new DictionaryViews.CursorIterator<>(cursor(), Cursor::key);
+    }
+
+    /**
+     * Returns a live view of the values stored in this dictionary.
+     * @return iterable over the values
+     */
+    public default Iterable<V> values(){
+        return () -> new DictionaryViews.CursorIterator<>(cursor(), Cursor::value);
+    }
+
+    /**
+     * Returns a live view of the key/value pairs stored in this dictionary.
+     * @return iterable over the entries
+     */
+    public default Iterable<Entry<K, V>> entries(){
+        return () -> new DictionaryViews.CursorIterator<>(cursor(), Cursor::entry);
+    }
+}
@@ -0,0 +1,103 @@
+package org.gfg;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Default cursor, iterator and entry implementations backing the views of {@link Dictionary}.
+ */
+final class DictionaryViews{
+    private DictionaryViews(){}
+
+    static final class SimpleEntry<K, V> implements Dictionary.Entry<K, V>{
+        private final K key;
+        private final V value;
+
+        SimpleEntry(K key, V value){
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey(){
+            return key;
+        }
+
+        @Override
+        public V getValue(){
+            return value;
+        }
+
+        @Override
+        public String toString(){
+            return key + "=" + value;
+        }
+    }
+
+    /*
+        Cursor for dictionaries that do not provide their own: walks a copy of the key list
+        and looks up each value. Not safe under concurrent updates: value() throws if the
+        key has been deleted since the copy was taken.
+    */
+    static final class KeyListCursor<K, V> implements Dictionary.Cursor<K, V>{
+        private final Dictionary<K, V> dictionary;
+        private List<K> keys;
+        private int index;
+
+        KeyListCursor(Dictionary<K, V> dictionary){
+            this.dictionary = dictionary;
+            reset();
+        }
+
+        @Override
+        public boolean next(){
+            return ++index < keys.size();
+        }
+
+        @Override
+        public K key(){
+            return keys.get(index);
+        }
+
+        @Override
+        public V value(){
+            return dictionary.get(key());
+        }
+
+        @Override
+        public void reset(){
+            keys = dictionary.keys();
+            index = -1;
+        }
+    }
+
+    static final class CursorIterator<K, V, T> implements Iterator<T>{
+        private final Dictionary.Cursor<K, V> cursor;
+        private final Function<Dictionary.Cursor<K, V>, T> extractor;
+        private boolean advanced;
+        private boolean hasNext;
+
+        CursorIterator(Dictionary.Cursor<K, V> cursor, Function<Dictionary.Cursor<K, V>, T> extractor){
+            this.cursor = cursor;
+            this.extractor = extractor;
+        }
+
+        @Override
+        public boolean hasNext(){
+            if(!advanced){
+                hasNext = cursor.next();
+                advanced = true;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next(){
+            if(!hasNext()) throw new NoSuchElementException();
+            advanced = false;
+            return extractor.apply(cursor);
+        }
+    }
+}
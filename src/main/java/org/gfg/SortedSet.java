@@ -51,6 +51,61 @@ public interface SortedSet<T extends Comparable<T>> extends Set<T> {
      */
     public T max();
 
+    /**
+     * Returns the number of elements in this set that are strictly less than the given key,
+     * i.e. the position the key has or would have in sorted order.
+     * @param key key whose rank to compute
+     * @return rank of the supplied key
+     */
+    public int rank(T key);
+
+    /**
+     * Returns the element at a given position in sorted order, counting from 0.
+     * @param k position of the element
+     * @return k-th smallest element of this set
+     * @throws IllegalArgumentException if k is negative or not less than the size of this set
+     */
+    public T select(int k);
+
+    /**
+     * Returns an iterator over elements in this set that are greater than or equal to
+     * {@code lo} and less than or equal to {@code hi}, in sorted order.
+     * @param lo lower bound of the range, inclusive
+     * @param hi upper bound of the range, inclusive
+     * @return iterator over the elements in the range
+     */
+    public Iterator<T> range(T lo, T hi);
+
+    /**
+     * Returns the number of elements in this set that are greater than or equal to
+     * {@code lo} and less than or equal to {@code hi}.
+     * @param lo lower bound of the range, inclusive
+     * @param hi upper bound of the range, inclusive
+     * @return number of elements in the range
+     */
+    public default int countInRange(T lo, T hi){
+        if(lo.compareTo(hi) > 0) return 0;
+        return rank(hi) - rank(lo) + (contains(hi) ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of elements in this set that are strictly less than the given key.
+     * @param key upper bound, exclusive
+     * @return number of elements less than the key
+     */
+    public default int headCount(T key){
+        return rank(key);
+    }
+
+    /**
+     * Returns the number of elements in this set that are greater than or equal to the given key.
+     * @param key lower bound, inclusive
+     * @return number of elements greater than or equal to the key
+     */
+    public default int tailCount(T key){
+        return size() - rank(key);
+    }
+
     /**
      * Returns an iterator over elements in this set in sorted order.
      * @return iterator that supplies elements in inorder traversal order
@@ -0,0 +1,469 @@
+package org.gfg.bst;
+
+import java.util.*;
+import java.util.function.Consumer;
+import org.gfg.SortedSet;
+
+/**
+ * Implements {@link SortedSet} interface using an AVL tree whose nodes are slots in
+ * arrays instead of objects. A node is an index; its element is stored at that index in an
+ * array of elements, and its children, height and subtree size in four consecutive ints of
+ * an array of links, so they share a cache line. Children are referred to by index, with 0
+ * standing for no child. This saves the object header and the references of an
+ * {@link AvlTree} node, roughly halving the memory taken by the tree itself, and leaves the
+ * garbage collector two arrays to trace instead of one object per element.
+ * <p>Slots of removed elements are kept on a free list, threaded through the left child
+ * links, and reused by later insertions. The arrays grow as needed and never shrink.
+ * Null elements are not permitted.</p>
+ * @param <T> type of elements stored in this tree
+ */
+public class ArrayAvlTree<T extends Comparable<T>> implements SortedSet<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = 0; // slot 0 is never used, so children default to none
+
+    // offsets of the fields of a node within its four ints of the links array
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+    private static final int COUNT = 2; // number of nodes in the subtree rooted at a slot, 0 for NIL
+    private static final int HEIGHT = 3; // a leaf has height 1 and NIL 0
+
+    private Object[] values;
+    private int[] links;
+
+    private int root = NIL;
+    private int size;
+    private int free = NIL; // first slot on the free list
+    private int used = 1; // slots from here on have never been used
+
+    /**
+     * Initializes a new empty tree.
+     */
+    public ArrayAvlTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes a new empty tree with room for {@code expectedSize} elements.
+     * @param expectedSize expected number of elements
+     */
+    public ArrayAvlTree(int expectedSize) {
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        int capacity = (int) Math.min(1 << 29, Math.max(DEFAULT_CAPACITY, expectedSize + 1L));
+        values = new Object[capacity];
+        links = new int[capacity << 2];
+    }
+
+    private int left(int node) {
+        return links[node << 2 | LEFT];
+    }
+
+    private int right(int node) {
+        return links[node << 2 | RIGHT];
+    }
+
+    private int count(int node) {
+        return links[node << 2 | COUNT];
+    }
+
+    private int height(int node) {
+        return links[node << 2 | HEIGHT];
+    }
+
+    private void setLeft(int node, int child) {
+        links[node << 2 | LEFT] = child;
+    }
+
+    private void setRight(int node, int child) {
+        links[node << 2 | RIGHT] = child;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int node) {
+        return (T) values[node];
+    }
+
+    private int allocate(T value) {
+        int node;
+        if(free != NIL){
+            node = free;
+            free = left(node);
+        }else{
+            node = used++;
+        }
+        values[node] = value;
+        setLeft(node, NIL);
+        setRight(node, NIL);
+        links[node << 2 | COUNT] = 1;
+        links[node << 2 | HEIGHT] = 1;
+        size++;
+        return node;
+    }
+
+    private void release(int node) {
+        values[node] = null;
+        setLeft(node, free);
+        free = node;
+        size--;
+    }
+
+    // makes sure the next allocation does not have to grow the arrays in the middle of an update
+    private void ensureFreeSlot() {
+        if(free != NIL || used < values.length) return;
+        // the links array has four ints per slot, which caps the number of slots at 2^29
+        int capacity = Math.min(1 << 29, values.length + (values.length >> 1));
+        if(capacity == values.length) throw new IllegalStateException("Tree is full.");
+        values = Arrays.copyOf(values, capacity);
+        links = Arrays.copyOf(links, capacity << 2);
+    }
+
+    private void update(int node) {
+        int l = left(node), r = right(node);
+        links[node << 2 | HEIGHT] = Math.max(height(l), height(r)) + 1;
+        links[node << 2 | COUNT] = count(l) + count(r) + 1;
+    }
+
+    /*
+            y                   x
+           / \                 / \
+          x   T3  ---->       T1  y
+         / \                     / \
+        T1  T2                  T2 T3
+    */
+    private int rotateRight(int y) {
+        int x = left(y);
+        setLeft(y, right(x));
+        setRight(x, y);
+        update(y);
+        update(x);
+        return x;
+    }
+
+    /*
+            x                   y
+           / \                 / \
+         T1   y    ------>    x   T3
+             / \             / \
+            T2 T3           T1  T2
+    */
+    private int rotateLeft(int x) {
+        int y = right(x);
+        setRight(x, left(y));
+        setLeft(y, x);
+        update(x);
+        update(y);
+        return y;
+    }
+
+    // updates a node whose subtrees differ in height by at most 2 and restores its balance
+    private int balance(int node) {
+        update(node);
+        int bf = height(left(node)) - height(right(node));
+        if(bf > 1){
+            if(height(left(left(node))) < height(right(left(node)))) setLeft(node, rotateLeft(left(node)));
+            return rotateRight(node);
+        }else if(bf < -1){
+            if(height(right(right(node))) < height(left(right(node)))) setRight(node, rotateRight(right(node)));
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    @Override
+    public void add(T item) {
+        Objects.requireNonNull(item);
+        ensureFreeSlot();
+        root = add(root, item);
+    }
+
+    private int add(int node, T item) {
+        if(node == NIL) return allocate(item);
+        int cmp = item.compareTo(value(node));
+        if(cmp < 0){
+            setLeft(node, add(left(node), item));
+        }else if(cmp > 0){
+            setRight(node, add(right(node), item));
+        }else{
+            values[node] = item; // overwrite key value
+            return node;
+        }
+        return balance(node);
+    }
+
+    @Override
+    public void remove(T item) {
+        root = remove(root, item);
+    }
+
+    private int remove(int node, T item) {
+        if(node == NIL) return NIL;
+        int cmp = item.compareTo(value(node));
+        if(cmp < 0){
+            setLeft(node, remove(left(node), item));
+        }else if(cmp > 0){
+            setRight(node, remove(right(node), item));
+        }else if(left(node) == NIL || right(node) == NIL){
+            int child = left(node) != NIL ? left(node) : right(node);
+            release(node);
+            return child;
+        }else{
+            // take over the successor's element and remove its slot instead
+            int successor = right(node);
+            while(left(successor) != NIL) successor = left(successor);
+            values[node] = values[successor];
+            setRight(node, removeMin(right(node)));
+        }
+        return balance(node);
+    }
+
+    private int removeMin(int node) {
+        if(left(node) == NIL){
+            int child = right(node);
+            release(node);
+            return child;
+        }
+        setLeft(node, removeMin(left(node)));
+        return balance(node);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        int node = root;
+        while(node != NIL){
+            int cmp = item.compareTo(value(node));
+            if(cmp == 0) return true;
+            node = cmp < 0 ? left(node) : right(node);
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the height of this tree, counting a single node as height 1.
+     * @return height of this tree
+     */
+    public int height() {
+        return height(root);
+    }
+
+    @Override
+    public T successor(T key) {
+        T successor = null;
+        int node = root;
+        while(node != NIL){
+            if(value(node).compareTo(key) > 0){
+                successor = value(node);
+                node = left(node);
+            }else{
+                node = right(node);
+            }
+        }
+        return successor;
+    }
+
+    @Override
+    public T predecessor(T key) {
+        T predecessor = null;
+        int node = root;
+        while(node != NIL){
+            if(value(node).compareTo(key) < 0){
+                predecessor = value(node);
+                node = right(node);
+            }else{
+                node = left(node);
+            }
+        }
+        return predecessor;
+    }
+
+    @Override
+    public T ceil(T key) {
+        T ceil = null;
+        int node = root;
+        while(node != NIL){
+            int cmp = value(node).compareTo(key);
+            if(cmp == 0) return value(node);
+            if(cmp > 0){
+                ceil = value(node);
+                node = left(node);
+            }else{
+                node = right(node);
+            }
+        }
+        return ceil;
+    }
+
+    @Override
+    public T floor(T key) {
+        T floor = null;
+        int node = root;
+        while(node != NIL){
+            int cmp = value(node).compareTo(key);
+            if(cmp == 0) return value(node);
+            if(cmp < 0){
+                floor = value(node);
+                node = right(node);
+            }else{
+                node = left(node);
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T min() {
+        if(root == NIL) return null;
+        int node = root;
+        while(left(node) != NIL) node = left(node);
+        return value(node);
+    }
+
+    @Override
+    public T max() {
+        if(root == NIL) return null;
+        int node = root;
+        while(right(node) != NIL) node = right(node);
+        return value(node);
+    }
+
+    @Override
+    public int rank(T key) {
+        int rank = 0;
+        int node = root;
+        while(node != NIL){
+            int cmp = key.compareTo(value(node));
+            if(cmp == 0) return rank + count(left(node));
+            if(cmp < 0){
+                node = left(node);
+            }else{
+                rank += count(left(node)) + 1;
+                node = right(node);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        if(k < 0 || k >= size){
+            throw new IllegalArgumentException(
+                String.format("Position %d is out of range [0, %d).", k, size));
+        }
+        int node = root;
+        while(true){
+            int leftCount = count(left(node));
+            if(k == leftCount) return value(node);
+            if(k < leftCount){
+                node = left(node);
+            }else{
+                k -= leftCount + 1;
+                node = right(node);
+            }
+        }
+    }
+
+    /*
+        Iterates elements in sorted order, keeping the slots whose element and right
+        subtree are still to be visited on an int stack.
+    */
+    private class ArrayAvlTreeIterator implements Iterator<T> {
+        private final int[] stack = new int[height(root) + 1];
+        private int top = 0;
+        private final T lo;
+        private final T hi;
+
+        public ArrayAvlTreeIterator(T lo, T hi) {
+            this.lo = lo;
+            this.hi = hi;
+            pushLeft(root);
+        }
+
+        // descends to the least element not less than lo
+        private void pushLeft(int node) {
+            while(node != NIL){
+                if(lo != null && value(node).compareTo(lo) < 0){
+                    node = right(node);
+                }else{
+                    stack[top++] = node;
+                    node = left(node);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0 && (hi == null || value(stack[top - 1]).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            int node = stack[--top];
+            pushLeft(right(node));
+            return value(node);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayAvlTreeIterator(null, null);
+    }
+
+    @Override
+    public Iterator<T> range(T lo, T hi) {
+        return new ArrayAvlTreeIterator(lo, hi);
+    }
+
+    /**
+     * Performs an action for each element of this tree in sorted order.
+     * Walks the tree recursively instead of creating an iterator.
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEach(root, action);
+    }
+
+    private void forEach(int node, Consumer<? super T> action) {
+        while(node != NIL){
+            forEach(left(node), action);
+            action.accept(value(node));
+            node = right(node);
+        }
+    }
+
+    @Override
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    // checks order, balance, heights and counts of every node; used by tests
+    boolean isValid() {
+        return count(root) == size && isValid(root, null, null);
+    }
+
+    private boolean isValid(int node, T lo, T hi) {
+        if(node == NIL) return true;
+        T value = value(node);
+        if(lo != null && value.compareTo(lo) <= 0) return false;
+        if(hi != null && value.compareTo(hi) >= 0) return false;
+        int l = left(node), r = right(node);
+        if(Math.abs(height(l) - height(r)) > 1) return false;
+        if(height(node) != Math.max(height(l), height(r)) + 1) return false;
+        if(count(node) != count(l) + count(r) + 1) return false;
+        return isValid(l, lo, value) && isValid(r, value, hi);
+    }
+}
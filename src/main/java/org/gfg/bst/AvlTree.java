@@ -1,5 +1,8 @@
 package org.gfg.bst;
 
+import java.util.Iterator;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * Extends a binary search tree by adding tree balance guarantees.
  * More specifically, this implementation guarantees that for each tree node 
@@ -20,11 +23,13 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
         return node.height;
     }
 
+    // keeps both the height and the subtree size of a node in sync with its children
     @SuppressWarnings("unchecked")
     private void updateHeight(AvlNode node){
         node.height = Math.max(
             nodeHeight((AvlNode) node.left), 
             nodeHeight((AvlNode) node.right)) + 1;
+        updateCount(node);
     }
 
     /*
@@ -69,6 +74,32 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
         return y;
     }
 
+    @Override
+    protected AvlNode newNode(T value){
+        return new AvlNode(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void updateNode(BstNode node){
+        updateHeight((AvlNode) node);
+    }
+
+    /**
+     * Builds a perfectly balanced AVL tree from elements supplied in ascending order,
+     * in time linear in their number. Runs of equal elements are collapsed into the
+     * last element of the run, as if the elements were added one by one.
+     * @param <T> type of elements
+     * @param sorted elements in ascending order
+     * @return AVL tree of the elements
+     * @throws IllegalArgumentException if the elements are not in ascending order
+     */
+    public static <T extends Comparable<T>> AvlTree<T> fromSorted(Iterator<T> sorted){
+        AvlTree<T> tree = new AvlTree<>();
+        tree.build(distinctSorted(sorted));
+        return tree;
+    }
+
     @SuppressWarnings("unchecked")
     private int balanceFactor(AvlNode node){
         if(node == null) return 0;
@@ -82,11 +113,12 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
             size++;
             return new AvlNode(key);
         }
-        if(root.value.compareTo(key) > 0){
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0){
             root.left = add(key, (AvlNode) root.left);
-        }else if(root.value.compareTo(key) < 0){
+        }else if(cmp < 0){
             root.right = add(key, (AvlNode) root.right);
-        }else if(root.value.compareTo(key) == 0) {
+        }else{
             // overwrite key value
             root.value = key;
             return (AvlNode) root;
@@ -118,10 +150,11 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
     @SuppressWarnings("unchecked")
     protected AvlNode delete(BstNode root, T key){
         if(root == null) return null; // key not found
-        if(root.value.compareTo(key) > 0) root.left = delete(root.left, key);
-        else if(root.value.compareTo(key) < 0) root.right = delete(root.right, key);
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0) root.left = delete(root.left, key);
+        else if(cmp < 0) root.right = delete(root.right, key);
         else{ // key to be deleted found
-            nodeDeleted = true;
+            T value = root.value;
             if(root.left == null) {
                 root = root.right;
             }else if(root.right == null) {
@@ -132,6 +165,8 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
                 // delete inorder successor in the right subtree
                 root.right = delete(root.right, root.value);
             }
+            // set after deleting the successor, whose deletion reports the successor instead
+            removed = value;
         }
 
         if(root == null) return null;
@@ -157,4 +192,277 @@ public class AvlTree<T extends Comparable<T>> extends Bst<T> {
 
         return (AvlNode) root;
     }
+
+    /*
+        Set operations below are built on two primitives that work on node level:
+        join(left, node, right) links two trees and a middle node whose value lies
+        between them in time proportional to the difference of their heights, and
+        split(tree, key) cuts a tree into the elements less than and greater than key
+        in time proportional to its height. Both reuse the nodes of their inputs.
+    */
+
+    // subtrees with fewer elements than this are combined sequentially
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private class SplitResult {
+        public AvlNode left;
+        public AvlNode middle; // node holding the split key, or null if the key is absent
+        public AvlNode right;
+
+        public SplitResult(AvlNode left, AvlNode middle, AvlNode right) {
+            this.left = left;
+            this.middle = middle;
+            this.right = right;
+        }
+    }
+
+    private AvlNode link(AvlNode left, AvlNode node, AvlNode right){
+        node.left = left;
+        node.right = right;
+        updateHeight(node);
+        return node;
+    }
+
+    private AvlNode join(AvlNode left, AvlNode node, AvlNode right){
+        if(nodeHeight(left) > nodeHeight(right) + 1) return joinRight(left, node, right);
+        if(nodeHeight(right) > nodeHeight(left) + 1) return joinLeft(left, node, right);
+        return link(left, node, right);
+    }
+
+    // descends the right spine of the taller left tree to a subtree as high as the right tree
+    @SuppressWarnings("unchecked")
+    private AvlNode joinRight(AvlNode left, AvlNode node, AvlNode right){
+        AvlNode c = (AvlNode) left.right;
+        if(nodeHeight(c) <= nodeHeight(right) + 1){
+            AvlNode joined = link(c, node, right);
+            if(joined.height > nodeHeight((AvlNode) left.left) + 1) joined = rotateRight(joined);
+            left.right = joined;
+        }else{
+            left.right = joinRight(c, node, right);
+        }
+        updateHeight(left);
+        return nodeHeight((AvlNode) left.right) > nodeHeight((AvlNode) left.left) + 1 ? rotateLeft(left) : left;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AvlNode joinLeft(AvlNode left, AvlNode node, AvlNode right){
+        AvlNode c = (AvlNode) right.left;
+        if(nodeHeight(c) <= nodeHeight(left) + 1){
+            AvlNode joined = link(left, node, c);
+            if(joined.height > nodeHeight((AvlNode) right.right) + 1) joined = rotateLeft(joined);
+            right.left = joined;
+        }else{
+            right.left = joinLeft(left, node, c);
+        }
+        updateHeight(right);
+        return nodeHeight((AvlNode) right.left) > nodeHeight((AvlNode) right.right) + 1 ? rotateRight(right) : right;
+    }
+
+    // joins two trees whose elements are all less than, respectively greater than each other
+    @SuppressWarnings("unchecked")
+    private AvlNode join2(AvlNode left, AvlNode right){
+        if(left == null) return right;
+        if(right == null) return left;
+        AvlNode max = (AvlNode) maxNode(left);
+        return join(removeMax(left), max, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AvlNode removeMax(AvlNode node){
+        if(node.right == null) return (AvlNode) node.left;
+        return join((AvlNode) node.left, node, removeMax((AvlNode) node.right));
+    }
+
+    private SplitResult split(AvlNode node, T key){
+        SplitResult result = new SplitResult(null, null, null);
+        split(node, key, result);
+        return result;
+    }
+
+    // fills in one result object on the way back up instead of allocating one per level
+    @SuppressWarnings("unchecked")
+    private void split(AvlNode node, T key, SplitResult result){
+        if(node == null) return;
+        AvlNode left = (AvlNode) node.left;
+        AvlNode right = (AvlNode) node.right;
+        int cmp = node.value.compareTo(key);
+        if(cmp == 0){
+            node.left = null;
+            node.right = null;
+            result.left = left;
+            result.middle = node;
+            result.right = right;
+        }else if(cmp > 0){
+            split(left, key, result);
+            result.right = join(result.right, node, right);
+        }else{
+            split(right, key, result);
+            result.left = join(left, node, result.left);
+        }
+    }
+
+    private enum Operation { UNION, INTERSECTION, DIFFERENCE }
+
+    private class SetOperation extends RecursiveTask<AvlNode> {
+        private static final long serialVersionUID = 1L;
+        private final Operation operation;
+        private final AvlNode a;
+        private final AvlNode b;
+
+        public SetOperation(Operation operation, AvlNode a, AvlNode b) {
+            this.operation = operation;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected AvlNode compute() {
+            return combine(operation, a, b);
+        }
+    }
+
+    /*
+        Splits one tree by the root of the other and combines the halves recursively,
+        forking one of the two recursive calls while the trees are large.
+    */
+    @SuppressWarnings("unchecked")
+    private AvlNode combine(Operation operation, AvlNode a, AvlNode b){
+        if(a == null) return operation == Operation.UNION ? b : null;
+        if(b == null) return operation == Operation.INTERSECTION ? null : a;
+
+        // difference keeps the nodes of a, so it splits a by the root of b; the others split b by the root of a
+        boolean difference = operation == Operation.DIFFERENCE;
+        AvlNode pivot = difference ? b : a;
+        SplitResult split = split(difference ? a : b, pivot.value);
+        AvlNode pivotLeft = (AvlNode) pivot.left;
+        AvlNode pivotRight = (AvlNode) pivot.right;
+        AvlNode leftA = difference ? split.left : pivotLeft;
+        AvlNode leftB = difference ? pivotLeft : split.left;
+        AvlNode rightA = difference ? split.right : pivotRight;
+        AvlNode rightB = difference ? pivotRight : split.right;
+
+        AvlNode left;
+        AvlNode right;
+        if(count(a) + count(b) >= PARALLEL_THRESHOLD){
+            SetOperation leftTask = new SetOperation(operation, leftA, leftB);
+            leftTask.fork();
+            right = combine(operation, rightA, rightB);
+            left = leftTask.join();
+        }else{
+            left = combine(operation, leftA, leftB);
+            right = combine(operation, rightA, rightB);
+        }
+
+        switch(operation){
+            case UNION:
+                // elements of the second tree replace equal ones of the first, as add would
+                if(split.middle != null) pivot.value = split.middle.value;
+                return join(left, pivot, right);
+            case INTERSECTION:
+                return split.middle != null ? join(left, pivot, right) : join2(left, right);
+            default:
+                return join2(left, right);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> AvlTree<T> combine(Operation operation, AvlTree<T> a, AvlTree<T> b){
+        AvlTree<T> result = new AvlTree<>();
+        result.root = result.new SetOperation(operation,
+            (AvlTree<T>.AvlNode) a.root, (AvlTree<T>.AvlNode) b.root).invoke();
+        result.size = result.count(result.root);
+        a.clear();
+        b.clear();
+        return result;
+    }
+
+    private void clear(){
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the union of two trees. Elements of {@code b} replace equal elements of
+     * {@code a}. Takes O(m log(n/m + 1)) time for trees of sizes m &lt;= n and runs
+     * the recursion for large trees in parallel. The nodes of both trees are reused,
+     * so both trees are left empty.
+     * @param <T> type of elements
+     * @param a first tree
+     * @param b second tree
+     * @return tree of the elements present in either tree
+     */
+    public static <T extends Comparable<T>> AvlTree<T> union(AvlTree<T> a, AvlTree<T> b){
+        return combine(Operation.UNION, a, b);
+    }
+
+    /**
+     * Returns the intersection of two trees, holding the elements of {@code a} that are
+     * also present in {@code b}. Takes O(m log(n/m + 1)) time for trees of sizes m &lt;= n
+     * and runs the recursion for large trees in parallel. The nodes of both trees are
+     * reused, so both trees are left empty.
+     * @param <T> type of elements
+     * @param a first tree
+     * @param b second tree
+     * @return tree of the elements present in both trees
+     */
+    public static <T extends Comparable<T>> AvlTree<T> intersect(AvlTree<T> a, AvlTree<T> b){
+        return combine(Operation.INTERSECTION, a, b);
+    }
+
+    /**
+     * Returns the difference of two trees, holding the elements of {@code a} that are not
+     * present in {@code b}. Takes O(m log(n/m + 1)) time for trees of sizes m &lt;= n and
+     * runs the recursion for large trees in parallel. The nodes of both trees are reused,
+     * so both trees are left empty.
+     * @param <T> type of elements
+     * @param a first tree
+     * @param b tree of elements to remove
+     * @return tree of the elements of {@code a} absent from {@code b}
+     */
+    public static <T extends Comparable<T>> AvlTree<T> difference(AvlTree<T> a, AvlTree<T> b){
+        return combine(Operation.DIFFERENCE, a, b);
+    }
+
+    /**
+     * Returns a tree of the elements of two trees and a middle element, where all elements
+     * of {@code left} are less than {@code key} and all elements of {@code right} greater.
+     * Takes time proportional to the difference of the heights of the trees. The nodes of
+     * both trees are reused, so both trees are left empty.
+     * @param <T> type of elements
+     * @param left tree of elements less than the key
+     * @param key middle element
+     * @param right tree of elements greater than the key
+     * @return tree of all elements
+     * @throws IllegalArgumentException if the trees and the key are not ordered
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> AvlTree<T> join(AvlTree<T> left, T key, AvlTree<T> right){
+        if((!left.isEmpty() && left.max().compareTo(key) >= 0) || (!right.isEmpty() && right.min().compareTo(key) <= 0)){
+            throw new IllegalArgumentException(
+                "Elements of the left tree must be less than the key and elements of the right tree greater.");
+        }
+        AvlTree<T> result = new AvlTree<>();
+        result.root = result.join((AvlTree<T>.AvlNode) left.root, result.newNode(key), (AvlTree<T>.AvlNode) right.root);
+        result.size = result.count(result.root);
+        left.clear();
+        right.clear();
+        return result;
+    }
+
+    /**
+     * Moves all elements greater than or equal to a given key into a new tree. Takes time
+     * proportional to the height of this tree.
+     * @param key key to split at
+     * @return tree of the elements greater than or equal to the key
+     */
+    @SuppressWarnings("unchecked")
+    public AvlTree<T> split(T key){
+        SplitResult result = split((AvlNode) root, key);
+        AvlTree<T> upper = new AvlTree<>();
+        upper.root = result.middle != null ? join(null, result.middle, result.right) : result.right;
+        upper.size = count(upper.root);
+        root = result.left;
+        size = count(root);
+        return upper;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,612 @@
+package org.gfg.bst;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+import org.gfg.SortedSet;
+
+/**
+ * Implements {@link SortedSet} interface using a B-tree. Each node keeps up to
+ * {@code fanout - 1} sorted keys in an array together with the array of its children,
+ * so a lookup reads a few contiguous arrays per level instead of chasing one pointer per
+ * comparison as in {@link AvlTree}, and the tree is only about log<sub>fanout/2</sub>(n)
+ * levels deep. All leaves are at the same depth. Every node also keeps the number of keys
+ * in its subtree, which makes {@link #rank(Comparable)} and {@link #select(int)} take time
+ * proportional to the height of the tree times the fanout.
+ * @param <T> type of elements stored in this B-tree
+ */
+public class BTree<T extends Comparable<T>> implements KeyedSortedSet<T> {
+    private static final int DEFAULT_FANOUT = 64;
+
+    private static final class Node {
+        Object[] keys;
+        Node[] children; // null for leaves
+        int n; // number of keys in this node
+        int count; // number of keys in the subtree rooted at this node
+
+        Node(int maxKeys, boolean leaf) {
+            keys = new Object[maxKeys];
+            if(!leaf) children = new Node[maxKeys + 1];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private final int t; // minimum degree: every node but the root has between t - 1 and 2t - 1 keys
+    private Node root;
+    private int height; // number of levels below the root
+
+    /**
+     * Initializes a new empty B-tree with a default fanout.
+     */
+    public BTree() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /**
+     * Initializes a new empty B-tree whose nodes have at most {@code fanout} children.
+     * @param fanout maximum number of children of a node, at least 4; odd values are rounded down
+     */
+    public BTree(int fanout) {
+        if(fanout < 4){
+            throw new IllegalArgumentException(
+                String.format("Fanout must be at least 4, but was %d.", fanout));
+        }
+        t = fanout / 2;
+        root = new Node(maxKeys(), true);
+    }
+
+    private int maxKeys() {
+        return 2 * t - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T key(Node node, int i) {
+        return (T) node.keys[i];
+    }
+
+    private static int count(Node node) {
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns the position of the first key in a node that is not less than {@code key},
+     * or the bitwise complement of that position if the key is present there.
+     */
+    private int search(Node node, T key) {
+        int lo = 0;
+        int hi = node.n - 1;
+        while(lo <= hi){
+            int mid = (lo + hi) >>> 1;
+            int cmp = BTree.<T>key(node, mid).compareTo(key);
+            if(cmp < 0) lo = mid + 1;
+            else if(cmp > 0) hi = mid - 1;
+            else return ~mid;
+        }
+        return lo;
+    }
+
+    @Override
+    public int size() {
+        return root.count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the height of this B-tree - the number of levels below the root.
+     * @return height of this B-tree
+     */
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        Node node = root;
+        while(true){
+            int i = search(node, item);
+            if(i < 0) return true;
+            if(node.isLeaf()) return false;
+            node = node.children[i];
+        }
+    }
+
+    /**
+     * Looks up an element by a key of another type, e.g. an entry by the key it holds,
+     * without building an element to compare against. The comparator must order
+     * elements against keys consistently with the ordering of the elements, returning
+     * a negative number, zero or a positive number if the element is less than, equal
+     * to or greater than the key.
+     * @param <K> type of the key
+     * @param key key to look up
+     * @param comparator compares an element with the key
+     * @return element equal to the key, or null if there is none
+     */
+    @Override
+    public <K> T find(K key, ToIntBiFunction<? super T, ? super K> comparator) {
+        Node node = root;
+        while(true){
+            int lo = 0;
+            int hi = node.n - 1;
+            while(lo <= hi){
+                int mid = (lo + hi) >>> 1;
+                int cmp = comparator.applyAsInt(BTree.<T>key(node, mid), key);
+                if(cmp < 0) lo = mid + 1;
+                else if(cmp > 0) hi = mid - 1;
+                else return key(node, mid);
+            }
+            if(node.isLeaf()) return null;
+            node = node.children[lo];
+        }
+    }
+
+    /*
+        Insertion splits every full node on the way down, so that a node that receives
+        a key from a split child always has room for it and the tree is traversed once.
+    */
+    @Override
+    public void add(T item) {
+        if(root.n == maxKeys()){
+            Node newRoot = new Node(maxKeys(), false);
+            newRoot.children[0] = root;
+            newRoot.count = root.count;
+            root = newRoot;
+            height++;
+            splitChild(root, 0);
+        }
+
+        Node node = root;
+        while(true){
+            int i = search(node, item);
+            if(i < 0){
+                // already present: overwrite it and undo the counts incremented on the way down
+                node.keys[~i] = item;
+                uncount(item, node);
+                return;
+            }
+            node.count++;
+            if(node.isLeaf()){
+                System.arraycopy(node.keys, i, node.keys, i + 1, node.n - i);
+                node.keys[i] = item;
+                node.n++;
+                return;
+            }
+            if(node.children[i].n == maxKeys()){
+                splitChild(node, i);
+                int cmp = BTree.<T>key(node, i).compareTo(item);
+                if(cmp == 0){
+                    node.keys[i] = item;
+                    node.count--;
+                    uncount(item, node);
+                    return;
+                }
+                if(cmp < 0) i++;
+            }
+            node = node.children[i];
+        }
+    }
+
+    // decrements the counts of the nodes above target on the path to key
+    private void uncount(T key, Node target) {
+        Node node = root;
+        while(node != target){
+            node.count--;
+            node = node.children[search(node, key)];
+        }
+    }
+
+    /*
+        Moves the upper half of the full child i of a node into a new sibling and
+        the median key of the child into the node.
+    */
+    private void splitChild(Node parent, int i) {
+        Node child = parent.children[i];
+        Node sibling = new Node(maxKeys(), child.isLeaf());
+        sibling.n = t - 1;
+        System.arraycopy(child.keys, t, sibling.keys, 0, t - 1);
+        Arrays.fill(child.keys, t, maxKeys(), null);
+        if(!child.isLeaf()){
+            System.arraycopy(child.children, t, sibling.children, 0, t);
+            Arrays.fill(child.children, t, maxKeys() + 1, null);
+        }
+        sibling.count = subtreeCount(sibling);
+        child.count -= sibling.count + 1;
+
+        System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.n - i);
+        System.arraycopy(parent.children, i + 1, parent.children, i + 2, parent.n - i);
+        parent.keys[i] = child.keys[t - 1];
+        child.keys[t - 1] = null;
+        child.n = t - 1;
+        parent.children[i + 1] = sibling;
+        parent.n++;
+    }
+
+    private static int subtreeCount(Node node) {
+        int count = node.n;
+        if(!node.isLeaf()){
+            for(int i = 0; i <= node.n; i++) count += node.children[i].count;
+        }
+        return count;
+    }
+
+    /*
+        Deletion makes sure that every node it descends into has at least t keys,
+        borrowing a key from a sibling or merging with it, so that a key can always be
+        removed from a leaf without underflowing it. The descent assumes the key is present
+        and decrements counts on its way; if the key turns out to be absent, the counts on
+        the path to where it would be are restored, while the rebalancing already done
+        leaves a valid tree anyway.
+    */
+    @Override
+    public void remove(T item) {
+        removeAndGet(item);
+    }
+
+    @Override
+    public T removeAndGet(T item) {
+        Node node = root;
+        T key = item;
+        T removed = null;
+        while(true){
+            node.count--;
+            int i = search(node, key);
+            if(node.isLeaf()){
+                if(i >= 0) break; // key absent
+                i = ~i;
+                if(removed == null) removed = key(node, i);
+                System.arraycopy(node.keys, i + 1, node.keys, i, node.n - i - 1);
+                node.keys[--node.n] = null;
+                break;
+            }
+            if(i < 0){
+                i = ~i;
+                // the first match is the element removed; later ones are the key moved down by a merge
+                if(removed == null) removed = key(node, i);
+                Node left = node.children[i];
+                Node right = node.children[i + 1];
+                if(left.n >= t){
+                    // replace the key by its predecessor and delete that from the left subtree
+                    key = maxNode(left);
+                    node.keys[i] = key;
+                    node = left;
+                }else if(right.n >= t){
+                    key = minNode(right);
+                    node.keys[i] = key;
+                    node = right;
+                }else{
+                    merge(node, i);
+                    node = left;
+                }
+            }else{
+                Node child = node.children[i];
+                if(child.n == t - 1){
+                    if(i > 0 && node.children[i - 1].n >= t){
+                        borrowFromLeft(node, i);
+                    }else if(i < node.n && node.children[i + 1].n >= t){
+                        borrowFromRight(node, i);
+                    }else if(i < node.n){
+                        merge(node, i);
+                    }else{
+                        merge(node, i - 1);
+                        child = node.children[i - 1];
+                    }
+                }
+                node = child;
+            }
+        }
+
+        if(root.n == 0 && !root.isLeaf()){
+            root = root.children[0];
+            height--;
+        }
+        if(removed == null) restoreCounts(item);
+        return removed;
+    }
+
+    // undoes the count decrements of a removal that did not find its key
+    private void restoreCounts(T key) {
+        Node node = root;
+        while(true){
+            node.count++;
+            if(node.isLeaf()) return;
+            node = node.children[search(node, key)];
+        }
+    }
+
+    private T maxNode(Node node) {
+        while(!node.isLeaf()) node = node.children[node.n];
+        return key(node, node.n - 1);
+    }
+
+    private T minNode(Node node) {
+        while(!node.isLeaf()) node = node.children[0];
+        return key(node, 0);
+    }
+
+    // moves the last key of child i - 1 up into the parent and the separating key down into child i
+    private void borrowFromLeft(Node parent, int i) {
+        Node child = parent.children[i];
+        Node left = parent.children[i - 1];
+        System.arraycopy(child.keys, 0, child.keys, 1, child.n);
+        child.keys[0] = parent.keys[i - 1];
+        parent.keys[i - 1] = left.keys[left.n - 1];
+        left.keys[left.n - 1] = null;
+        int moved = 1;
+        if(!child.isLeaf()){
+            System.arraycopy(child.children, 0, child.children, 1, child.n + 1);
+            child.children[0] = left.children[left.n];
+            left.children[left.n] = null;
+            moved += child.children[0].count;
+        }
+        left.n--;
+        child.n++;
+        left.count -= moved;
+        child.count += moved;
+    }
+
+    // moves the first key of child i + 1 up into the parent and the separating key down into child i
+    private void borrowFromRight(Node parent, int i) {
+        Node child = parent.children[i];
+        Node right = parent.children[i + 1];
+        child.keys[child.n] = parent.keys[i];
+        parent.keys[i] = right.keys[0];
+        System.arraycopy(right.keys, 1, right.keys, 0, right.n - 1);
+        right.keys[right.n - 1] = null;
+        int moved = 1;
+        if(!child.isLeaf()){
+            child.children[child.n + 1] = right.children[0];
+            System.arraycopy(right.children, 1, right.children, 0, right.n);
+            right.children[right.n] = null;
+            moved += child.children[child.n + 1].count;
+        }
+        right.n--;
+        child.n++;
+        right.count -= moved;
+        child.count += moved;
+    }
+
+    // merges child i + 1 and the key separating it from child i into child i
+    private void merge(Node parent, int i) {
+        Node left = parent.children[i];
+        Node right = parent.children[i + 1];
+        left.keys[left.n] = parent.keys[i];
+        System.arraycopy(right.keys, 0, left.keys, left.n + 1, right.n);
+        if(!left.isLeaf()){
+            System.arraycopy(right.children, 0, left.children, left.n + 1, right.n + 1);
+        }
+        left.n += right.n + 1;
+        left.count += right.count + 1;
+
+        System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.n - i - 1);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.n - i - 1);
+        parent.n--;
+        parent.keys[parent.n] = null;
+        parent.children[parent.n + 1] = null;
+    }
+
+    /*
+        The lookups below descend from the root once, remembering the closest key
+        found so far on the side of the answer.
+    */
+    @Override
+    public T successor(T key) {
+        T successor = null;
+        Node node = root;
+        while(true){
+            int i = search(node, key);
+            if(i < 0) i = ~i + 1;
+            if(i < node.n) successor = key(node, i);
+            if(node.isLeaf()) return successor;
+            node = node.children[i];
+        }
+    }
+
+    @Override
+    public T predecessor(T key) {
+        T predecessor = null;
+        Node node = root;
+        while(true){
+            int i = search(node, key);
+            if(i < 0) i = ~i;
+            if(i > 0) predecessor = key(node, i - 1);
+            if(node.isLeaf()) return predecessor;
+            node = node.children[i];
+        }
+    }
+
+    @Override
+    public T ceil(T key) {
+        T ceil = null;
+        Node node = root;
+        while(true){
+            int i = search(node, key);
+            if(i < 0) return key(node, ~i);
+            if(i < node.n) ceil = key(node, i);
+            if(node.isLeaf()) return ceil;
+            node = node.children[i];
+        }
+    }
+
+    @Override
+    public T floor(T key) {
+        T floor = null;
+        Node node = root;
+        while(true){
+            int i = search(node, key);
+            if(i < 0) return key(node, ~i);
+            if(i > 0) floor = key(node, i - 1);
+            if(node.isLeaf()) return floor;
+            node = node.children[i];
+        }
+    }
+
+    @Override
+    public T min() {
+        return isEmpty() ? null : minNode(root);
+    }
+
+    @Override
+    public T max() {
+        return isEmpty() ? null : maxNode(root);
+    }
+
+    @Override
+    public int rank(T key) {
+        int rank = 0;
+        Node node = root;
+        while(true){
+            int i = search(node, key);
+            boolean found = i < 0;
+            if(found) i = ~i;
+            rank += i;
+            if(node.isLeaf()) return rank;
+            for(int j = 0; j < i; j++) rank += node.children[j].count;
+            if(found) return rank + node.children[i].count;
+            node = node.children[i];
+        }
+    }
+
+    @Override
+    public T select(int k) {
+        if(k < 0 || k >= size()){
+            throw new IllegalArgumentException(
+                String.format("Position %d is out of range [0, %d).", k, size()));
+        }
+        Node node = root;
+        while(!node.isLeaf()){
+            int i = 0;
+            while(true){
+                int childCount = node.children[i].count;
+                if(k < childCount) break;
+                k -= childCount;
+                if(k == 0) return key(node, i);
+                k--;
+                i++;
+            }
+            node = node.children[i];
+        }
+        return key(node, k);
+    }
+
+    /*
+        Iterates keys in sorted order, keeping the path from the root to the current key
+        in two parallel arrays instead of a stack of node objects. Frame f refers to the
+        next key to be returned from nodes[f]; for an inner node it is returned after the
+        child to its left is exhausted.
+    */
+    private class BTreeIterator implements Iterator<T> {
+        private final Node[] nodes = new Node[height + 1];
+        private final int[] index = new int[height + 1];
+        private int top = -1;
+        private final T hi;
+
+        public BTreeIterator(T lo, T hi) {
+            this.hi = hi;
+            Node node = root;
+            while(true){
+                int i = lo == null ? 0 : search(node, lo);
+                push(node, i < 0 ? ~i : i);
+                if(i < 0 || node.isLeaf()) break;
+                node = node.children[i];
+            }
+        }
+
+        private void push(Node node, int i) {
+            top++;
+            nodes[top] = node;
+            index[top] = i;
+        }
+
+        private void pushLeftmost(Node node) {
+            while(true){
+                push(node, 0);
+                if(node.isLeaf()) return;
+                node = node.children[0];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(top >= 0 && index[top] >= nodes[top].n) top--;
+            return top >= 0 && (hi == null || BTree.<T>key(nodes[top], index[top]).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            Node node = nodes[top];
+            T key = key(node, index[top]++);
+            if(!node.isLeaf()) pushLeftmost(node.children[index[top]]);
+            return key;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BTreeIterator(null, null);
+    }
+
+    @Override
+    public Iterator<T> range(T lo, T hi) {
+        return new BTreeIterator(lo, hi);
+    }
+
+    /**
+     * Performs an action for each element of this B-tree in sorted order.
+     * Walks the tree recursively instead of creating an iterator.
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEach(root, action);
+    }
+
+    private void forEach(Node node, Consumer<? super T> action) {
+        for(int i = 0; i < node.n; i++){
+            if(!node.isLeaf()) forEach(node.children[i], action);
+            action.accept(key(node, i));
+        }
+        if(!node.isLeaf()) forEach(node.children[node.n], action);
+    }
+
+    @Override
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Checks the structural invariants of this B-tree: keys are sorted, every node but
+     * the root is at least half full, all leaves are at the same depth and subtree counts
+     * are correct.
+     * @return true if all invariants hold
+     */
+    boolean isValid() {
+        return isValid(root, null, null, 0);
+    }
+
+    private boolean isValid(Node node, T lo, T hi, int depth) {
+        if(node != root && (node.n < t - 1 || node.n > maxKeys())) return false;
+        for(int i = 0; i < node.n; i++){
+            T key = key(node, i);
+            if(i > 0 && BTree.<T>key(node, i - 1).compareTo(key) >= 0) return false;
+            if(lo != null && key.compareTo(lo) <= 0) return false;
+            if(hi != null && key.compareTo(hi) >= 0) return false;
+        }
+        if(node.isLeaf()) return depth == height && node.count == node.n;
+        if(node.count != subtreeCount(node)) return false;
+        for(int i = 0; i <= node.n; i++){
+            T childLo = i == 0 ? lo : key(node, i - 1);
+            T childHi = i == node.n ? hi : key(node, i);
+            if(!isValid(node.children[i], childLo, childHi, depth + 1)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package org.gfg.bst;
+
+import org.gfg.Dictionary;
+
+/**
+ * Implements {@link Dictionary} abstraction using a B-tree.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+public class BTreeDictionary<K extends Comparable<K>, V> extends SortedSetDictionary<K, V> {
+
+    /**
+     * Initializes a new empty dictionary backed by a B-tree with a default fanout.
+     */
+    public BTreeDictionary() {
+        super(new BTree<>());
+    }
+
+    /**
+     * Initializes a new empty dictionary backed by a B-tree whose nodes have at most
+     * {@code fanout} children.
+     * @param fanout maximum number of children of a node, at least 4
+     */
+    public BTreeDictionary(int fanout) {
+        super(new BTree<>(fanout));
+    }
+}
@@ -1,6 +1,8 @@
 package org.gfg.bst;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
 import org.gfg.SortedSet;
 
 /**
@@ -12,12 +14,13 @@ import org.gfg.SortedSet;
  * 
  * @param <T> type of elements stored in binary search tree
  */
-public class Bst<T extends Comparable<T>> implements SortedSet<T> {
+public class Bst<T extends Comparable<T>> implements KeyedSortedSet<T> {
 
     protected class BstNode {
         public T value;
         public BstNode left;
         public BstNode right;
+        public int count = 1; // number of nodes in the subtree rooted at this node
 
         public BstNode(T value) {
             this.value = value;
@@ -52,9 +55,200 @@ public class Bst<T extends Comparable<T>> implements SortedSet<T> {
         }
     }
 
+    private class RangeBstIterator implements Iterator<T>{
+        private Stack<BstNode> stack;
+        private T hi;
+        public RangeBstIterator(T lo, T hi){
+            this.hi = hi;
+            stack = new Stack<BstNode>();
+            // push the path to the least element not less than lo, skipping smaller subtrees
+            BstNode node = root;
+            while(node != null){
+                if(node.value.compareTo(lo) < 0){
+                    node = node.right;
+                }else{
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty() && stack.peek().value.compareTo(hi) <= 0;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            BstNode topNode = stack.pop();
+            BstNode node = topNode.right;
+            while(node != null){
+                stack.push(node);
+                node = node.left;
+            }
+            return topNode.value;
+        }
+    }
+
     protected BstNode root;
     protected int size;
 
+    protected int count(BstNode node){
+        return node == null ? 0 : node.count;
+    }
+
+    protected void updateCount(BstNode node){
+        node.count = count(node.left) + count(node.right) + 1;
+    }
+
+    /**
+     * Creates a node for a given value. Subclasses that keep extra state in their nodes
+     * return their own node type.
+     */
+    protected BstNode newNode(T value){
+        return new BstNode(value);
+    }
+
+    /**
+     * Recomputes the state a node derives from its children after the children changed.
+     */
+    protected void updateNode(BstNode node){
+        updateCount(node);
+    }
+
+    /**
+     * Rotates a subtree right, making the left child of its root the new root, and
+     * updates both nodes that changed children.
+     * @return new root of the subtree
+     */
+    protected BstNode rotateRight(BstNode y){
+        BstNode x = y.left;
+        y.left = x.right;
+        x.right = y;
+        updateNode(y);
+        updateNode(x);
+        return x;
+    }
+
+    /**
+     * Rotates a subtree left, making the right child of its root the new root, and
+     * updates both nodes that changed children.
+     * @return new root of the subtree
+     */
+    protected BstNode rotateLeft(BstNode x){
+        BstNode y = x.right;
+        x.right = y.left;
+        y.left = x;
+        updateNode(x);
+        updateNode(y);
+        return y;
+    }
+
+    /**
+     * Builds a binary search tree of minimal height from elements supplied in ascending
+     * order, in time linear in their number. Runs of equal elements are collapsed into
+     * the last element of the run, as if the elements were added one by one.
+     * @param <T> type of elements
+     * @param sorted elements in ascending order
+     * @return balanced binary search tree of the elements
+     * @throws IllegalArgumentException if the elements are not in ascending order
+     */
+    public static <T extends Comparable<T>> Bst<T> fromSorted(Iterator<T> sorted){
+        Bst<T> tree = new Bst<>();
+        tree.build(distinctSorted(sorted));
+        return tree;
+    }
+
+    /**
+     * Returns the elements of an ascending sequence with runs of equal elements collapsed
+     * into their last element.
+     * @throws IllegalArgumentException if the elements are not in ascending order
+     */
+    protected static <T extends Comparable<T>> List<T> distinctSorted(Iterator<T> sorted){
+        List<T> list = new ArrayList<>();
+        sorted.forEachRemaining(list::add);
+        List<T> distinct = distinctIfSorted(list);
+        if(distinct == null) throw new IllegalArgumentException("Input is not sorted in ascending order.");
+        return distinct;
+    }
+
+    // returns null if the list is not sorted in ascending order
+    private static <T extends Comparable<T>> List<T> distinctIfSorted(List<T> list){
+        List<T> distinct = new ArrayList<>(list.size());
+        for(T item : list){
+            int last = distinct.size() - 1;
+            if(last >= 0){
+                int cmp = distinct.get(last).compareTo(item);
+                if(cmp > 0) return null;
+                if(cmp == 0){
+                    distinct.set(last, item);
+                    continue;
+                }
+            }
+            distinct.add(item);
+        }
+        return distinct;
+    }
+
+    /**
+     * Replaces the contents of this tree with a perfectly balanced tree of distinct
+     * elements given in ascending order.
+     */
+    protected void build(List<T> sorted){
+        root = build(sorted, 0, sorted.size() - 1);
+        size = sorted.size();
+    }
+
+    private BstNode build(List<T> sorted, int lo, int hi){
+        if(lo > hi) return null;
+        // halves differ in size by at most one, so do the heights of the subtrees
+        int mid = (lo + hi) >>> 1;
+        BstNode node = newNode(sorted.get(mid));
+        node.left = build(sorted, lo, mid - 1);
+        node.right = build(sorted, mid + 1, hi);
+        updateNode(node);
+        return node;
+    }
+
+    /**
+     * Adds all items of a batch to this tree. If the batch is sorted in ascending order
+     * and inserting its items one by one would cost more than rebuilding, it is merged
+     * with the elements of this tree in linear time and the tree is rebuilt balanced.
+     * @param items items to be added
+     */
+    public void addAll(Iterable<? extends T> items){
+        List<T> batch = new ArrayList<>();
+        for(T item : items) batch.add(item);
+        List<T> sorted = distinctIfSorted(batch);
+        // inserting costs about log2(n) comparisons per item, rebuilding about one per element
+        long total = (long) size + batch.size();
+        if(sorted != null && (long) batch.size() * (64 - Long.numberOfLeadingZeros(total)) >= total){
+            build(isEmpty() ? sorted : mergeSorted(toList(), sorted));
+        }else{
+            for(T item : batch) add(item);
+        }
+    }
+
+    // merges two ascending lists of distinct elements; elements of the second list replace equal ones of the first
+    private static <T extends Comparable<T>> List<T> mergeSorted(List<T> first, List<T> second){
+        List<T> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while(i < first.size() && j < second.size()){
+            int cmp = first.get(i).compareTo(second.get(j));
+            if(cmp < 0) merged.add(first.get(i++));
+            else if(cmp > 0) merged.add(second.get(j++));
+            else{
+                merged.add(second.get(j++));
+                i++;
+            }
+        }
+        while(i < first.size()) merged.add(first.get(i++));
+        while(j < second.size()) merged.add(second.get(j++));
+        return merged;
+    }
+
     @Override
     public int size() {
         return size;
@@ -75,8 +269,10 @@ public class Bst<T extends Comparable<T>> implements SortedSet<T> {
             size++;
             return new BstNode(key);
         }
-        if(root.value.compareTo(key) > 0) root.left = add(key, root.left);
-        else if(root.value.compareTo(key) < 0) root.right = add(key, root.right);
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0) root.left = add(key, root.left);
+        else if(cmp < 0) root.right = add(key, root.right);
+        updateCount(root);
         return root;
     }
 
@@ -85,11 +281,35 @@ public class Bst<T extends Comparable<T>> implements SortedSet<T> {
         return search(root, item) != null;
     }
 
-    private BstNode search(BstNode root, T key){
-        if (root == null) return null;
-        if (root.value.compareTo(key) == 0) return root;
-        if (root.value.compareTo(key) > 0) return search(root.left, key);
-        return search(root.right, key);
+    private BstNode search(BstNode node, T key){
+        while(node != null){
+            int cmp = node.value.compareTo(key);
+            if(cmp == 0) return node;
+            node = cmp > 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Looks up an element by a key of another type, e.g. an entry by the key it holds,
+     * without building an element to compare against. The comparator must order
+     * elements against keys consistently with the ordering of the elements, returning
+     * a negative number, zero or a positive number if the element is less than, equal
+     * to or greater than the key.
+     * @param <K> type of the key
+     * @param key key to look up
+     * @param comparator compares an element with the key
+     * @return element equal to the key, or null if there is none
+     */
+    @Override
+    public <K> T find(K key, ToIntBiFunction<? super T, ? super K> comparator) {
+        BstNode node = root;
+        while(node != null){
+            int cmp = comparator.applyAsInt(node.value, key);
+            if(cmp == 0) return node.value;
+            node = cmp > 0 ? node.left : node.right;
+        }
+        return null;
     }
 
     /**
@@ -111,98 +331,174 @@ public class Bst<T extends Comparable<T>> implements SortedSet<T> {
         return new InorderBstIterator();
     }
 
+    /**
+     * Performs an action for each element of this binary search tree in sorted order.
+     * Walks the tree recursively instead of creating an iterator.
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEach(root, action);
+    }
+
+    private void forEach(BstNode root, Consumer<? super T> action){
+        if(root == null) return;
+        forEach(root.left, action);
+        action.accept(root.value);
+        forEach(root.right, action);
+    }
+
     @Override
     public void remove(T item) {
-        nodeDeleted = false;
+        removeAndGet(item);
+    }
+
+    /**
+     * Removes the element equal to a given item in a single descent and returns it.
+     * @param item item equal to the element to remove
+     * @return removed element, or null if there was none
+     */
+    @Override
+    public T removeAndGet(T item) {
+        removed = null;
         root = delete(root, item);
-        if(nodeDeleted) {
+        if(removed != null) {
             size--;
         }
+        return removed;
     }
 
-    protected boolean nodeDeleted;
+    protected T removed; // element removed by the last call to delete, null if the key was absent
     protected BstNode delete(BstNode root, T key){
         if(root == null) return null;
-        if(root.value.compareTo(key) > 0) root.left = delete(root.left, key);
-        else if(root.value.compareTo(key) < 0) root.right = delete(root.right, key);
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0) root.left = delete(root.left, key);
+        else if(cmp < 0) root.right = delete(root.right, key);
         else{ // key to be deleted found
-            nodeDeleted = true;
+            T value = root.value;
+            removed = value;
             if(root.left == null) return root.right;
             if(root.right == null) return root.left;
             // replace node value with the value of inorder successor
             root.value = minNode(root.right).value;
-            // delete inorder successor in the right subtree
+            // delete inorder successor in the right subtree; the element removed is still this one
             root.right = delete(root.right, root.value);
+            removed = value;
         }
+        updateCount(root);
         return root;
     }
 
+    /*
+        The lookups below descend from the root once, comparing each node with the key
+        a single time and remembering the last node where the descent turned towards
+        the answer.
+    */
     @Override
     public T successor(T key) {
-        BstNode successorNode = successor(root, null, key);
-        if(successorNode != null) return successorNode.value;
-        return null;
-    }
-
-    private BstNode successor(BstNode root, BstNode inorderParent, T key){
-        if(root == null) return inorderParent;
+        BstNode node = root;
         BstNode successorNode = null;
-        if(root.value.compareTo(key) == 0) successorNode = minNode(root.right);
-        else if(root.value.compareTo(key) > 0) successorNode = successor(root.left, root, key);
-        else successorNode = successor(root.right, inorderParent, key);
-        if(successorNode == null) successorNode = inorderParent;
-        return successorNode;
+        while(node != null){
+            if(node.value.compareTo(key) > 0){
+                successorNode = node;
+                node = node.left;
+            }else{
+                node = node.right;
+            }
+        }
+        return successorNode != null ? successorNode.value : null;
     }
 
     @Override
     public T ceil(T key) {
-        BstNode ceilNode = ceil(root, null, key);
-        if(ceilNode != null) return ceilNode.value;
-        return null;
-    }
-
-    private BstNode ceil(BstNode root, BstNode inorderParent, T key){
-        if(root == null) return inorderParent;
-        if(root.value.compareTo(key) == 0) return root;
+        BstNode node = root;
         BstNode ceilNode = null;
-        if(root.value.compareTo(key) > 0) ceilNode = ceil(root.left, root, key);
-        else ceilNode = ceil(root.right, inorderParent, key);
-        if(ceilNode == null) ceilNode = inorderParent;
-        return ceilNode;
+        while(node != null){
+            int cmp = node.value.compareTo(key);
+            if(cmp == 0) return node.value;
+            if(cmp > 0){
+                ceilNode = node;
+                node = node.left;
+            }else{
+                node = node.right;
+            }
+        }
+        return ceilNode != null ? ceilNode.value : null;
     }
 
     @Override
     public T predecessor(T key) {
-        BstNode predecessorNode = predecessor(root, null, key);
-        if(predecessorNode != null) return predecessorNode.value;
-        return null;
-    }
-
-    private BstNode predecessor(BstNode root, BstNode inorderParent, T key){
-        if(root == null) return inorderParent;
+        BstNode node = root;
         BstNode predecessorNode = null;
-        if(root.value.compareTo(key) == 0) predecessorNode = maxNode(root.left);
-        else if(root.value.compareTo(key) > 0) predecessorNode = predecessor(root.left, inorderParent, key);
-        else predecessorNode = predecessor(root.right, root, key);
-        if(predecessorNode == null) predecessorNode = inorderParent;
-        return predecessorNode;
+        while(node != null){
+            if(node.value.compareTo(key) < 0){
+                predecessorNode = node;
+                node = node.right;
+            }else{
+                node = node.left;
+            }
+        }
+        return predecessorNode != null ? predecessorNode.value : null;
     }
 
     @Override
     public T floor(T key) {
-        BstNode floorNode = floor(root, null, key);
-        if(floorNode != null) return floorNode.value;
-        return null;
+        BstNode node = root;
+        BstNode floorNode = null;
+        while(node != null){
+            int cmp = node.value.compareTo(key);
+            if(cmp == 0) return node.value;
+            if(cmp < 0){
+                floorNode = node;
+                node = node.right;
+            }else{
+                node = node.left;
+            }
+        }
+        return floorNode != null ? floorNode.value : null;
     }
 
-    private BstNode floor(BstNode root, BstNode inorderParent, T key){
-        if(root == null) return inorderParent;
-        if(root.value.compareTo(key) == 0) return root;
-        BstNode floorNode = null;
-        if(root.value.compareTo(key) > 0) floorNode = floor(root.left, inorderParent, key);
-        else floorNode = floor(root.right, root, key);
-        if(floorNode == null) floorNode = inorderParent;
-        return floorNode;
+    @Override
+    public int rank(T key) {
+        int rank = 0;
+        BstNode node = root;
+        while(node != null){
+            int cmp = node.value.compareTo(key);
+            if(cmp < 0){
+                rank += count(node.left) + 1;
+                node = node.right;
+            }else if(cmp > 0){
+                node = node.left;
+            }else{
+                return rank + count(node.left);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        if(k < 0 || k >= size){
+            throw new IllegalArgumentException(
+                String.format("Position %d is out of range [0, %d).", k, size));
+        }
+        BstNode node = root;
+        while(true){
+            int leftCount = count(node.left);
+            if(k < leftCount){
+                node = node.left;
+            }else if(k > leftCount){
+                k -= leftCount + 1;
+                node = node.right;
+            }else{
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> range(T lo, T hi) {
+        return new RangeBstIterator(lo, hi);
     }
 
     @Override
@@ -215,14 +511,16 @@ public class Bst<T extends Comparable<T>> implements SortedSet<T> {
         return maxNode(root).value;
     }
 
-    protected BstNode minNode(BstNode root){
-        if(root == null || root.left == null) return root;
-        return minNode(root.left);
+    protected BstNode minNode(BstNode node){
+        if(node == null) return null;
+        while(node.left != null) node = node.left;
+        return node;
     }
 
-    private BstNode maxNode(BstNode root){
-        if(root == null || root.right == null) return root;
-        return maxNode(root.right);
+    protected BstNode maxNode(BstNode node){
+        if(node == null) return null;
+        while(node.right != null) node = node.right;
+        return node;
     }
 
     @Override
@@ -0,0 +1,305 @@
+package org.gfg.bst;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import org.gfg.SortedSet;
+
+/**
+ * Thread-safe implementation of {@link SortedSet} interface using a lock-free skip list.
+ * Every element sits on the bottom list and, with probability 2<sup>-l</sup>, also on
+ * the l lists above it, which let lookups skip ahead in O(log n) expected time.
+ * An element is removed by first marking its links, which makes it logically absent
+ * and stops other threads from linking anything after it, and then unlinking it; threads
+ * that come across a marked node help unlink it. No operation takes a lock.
+ * <p>{@code add}, {@code remove}, {@code contains}, {@code ceil}, {@code floor},
+ * {@code successor} and {@code predecessor} are linearizable. Iterators, {@code size()},
+ * {@code rank} and {@code select} are weakly consistent: they reflect the set at some
+ * point during or since the start of the call and never throw
+ * {@link ConcurrentModificationException}. {@code rank} and {@code select} walk the bottom
+ * list and take linear time. Null elements are not permitted.</p>
+ * @param <T> type of elements stored in this set
+ */
+public class ConcurrentSortedSet<T extends Comparable<T>> implements SortedSet<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private static final class Node<T> {
+        volatile T value; // null only for the head; replaced in place when an equal element is added
+        final AtomicMarkableReference<Node<T>>[] next; // a marked link means the node is being removed
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(T value, int height) {
+            this.value = value;
+            next = (AtomicMarkableReference<Node<T>>[]) new AtomicMarkableReference[height];
+            for(int level = 0; level < height; level++) next[level] = new AtomicMarkableReference<>(null, false);
+        }
+
+        int topLevel() {
+            return next.length - 1;
+        }
+
+        boolean isRemoved() {
+            return next[0].isMarked();
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final AtomicInteger size = new AtomicInteger();
+
+    private static int randomLevel() {
+        // level l is chosen with probability 2^-(l + 1)
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    /*
+        Fills preds and succs with the last node before key and the first node not less
+        than key on every level, unlinking marked nodes on the way. Starts over from the
+        head if unlinking fails because the predecessor changed.
+    */
+    private boolean find(T key, Node<T>[] preds, Node<T>[] succs) {
+        boolean[] marked = { false };
+        retry:
+        while(true){
+            Node<T> pred = head;
+            Node<T> curr = null;
+            for(int level = MAX_LEVEL - 1; level >= 0; level--){
+                curr = pred.next[level].getReference();
+                while(curr != null){
+                    Node<T> succ = curr.next[level].get(marked);
+                    while(marked[0]){
+                        if(!pred.next[level].compareAndSet(curr, succ, false, false)) continue retry;
+                        curr = succ;
+                        if(curr == null) break;
+                        succ = curr.next[level].get(marked);
+                    }
+                    if(curr == null || curr.value.compareTo(key) >= 0) break;
+                    pred = curr;
+                    curr = succ;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && curr.value.compareTo(key) == 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Node<T>[] newPath() {
+        return (Node<T>[]) new Node[MAX_LEVEL];
+    }
+
+    @Override
+    public void add(T item) {
+        Objects.requireNonNull(item);
+        Node<T>[] preds = newPath();
+        Node<T>[] succs = newPath();
+        while(true){
+            if(find(item, preds, succs)){
+                succs[0].value = item;
+                return;
+            }
+            Node<T> node = new Node<>(item, randomLevel() + 1);
+            for(int level = 0; level <= node.topLevel(); level++){
+                node.next[level].set(succs[level], false);
+            }
+            // the node is in the set once it is linked into the bottom list; the size is counted
+            // first, so a remove that follows the link can never take it below zero
+            size.incrementAndGet();
+            if(!preds[0].next[0].compareAndSet(succs[0], node, false, false)){
+                size.decrementAndGet();
+                continue;
+            }
+
+            for(int level = 1; level <= node.topLevel(); level++){
+                while(true){
+                    Node<T> pred = preds[level];
+                    Node<T> succ = succs[level];
+                    // refresh the link of the node itself, unless it is already being removed
+                    Node<T> next = node.next[level].getReference();
+                    if(next != succ && !node.next[level].compareAndSet(next, succ, false, false)) return;
+                    if(pred.next[level].compareAndSet(succ, node, false, false)) break;
+                    find(item, preds, succs);
+                    if(succs[0] != node) return; // removed meanwhile, stop linking it
+                }
+            }
+            return;
+        }
+    }
+
+    @Override
+    public void remove(T item) {
+        Node<T>[] preds = newPath();
+        Node<T>[] succs = newPath();
+        if(!find(item, preds, succs)) return;
+        Node<T> node = succs[0];
+        boolean[] marked = { false };
+        for(int level = node.topLevel(); level > 0; level--){
+            Node<T> succ = node.next[level].get(marked);
+            while(!marked[0]){
+                node.next[level].compareAndSet(succ, succ, false, true);
+                succ = node.next[level].get(marked);
+            }
+        }
+        // marking the bottom link removes the element; only one thread can succeed
+        Node<T> succ = node.next[0].get(marked);
+        while(!marked[0]){
+            if(node.next[0].compareAndSet(succ, succ, false, true)){
+                size.decrementAndGet();
+                find(item, preds, succs); // unlinks the node
+                return;
+            }
+            succ = node.next[0].get(marked);
+        }
+    }
+
+    /*
+        Read-only descent that skips marked nodes instead of unlinking them. Returns the
+        last unmarked node before the first node not less than key (or greater than key
+        if inclusive is false) on the bottom list, which is the head if there is none.
+    */
+    private Node<T> lastBefore(T key, boolean inclusive) {
+        boolean[] marked = { false };
+        Node<T> pred = head;
+        for(int level = MAX_LEVEL - 1; level >= 0; level--){
+            Node<T> curr = pred.next[level].getReference();
+            while(curr != null){
+                Node<T> succ = curr.next[level].get(marked);
+                if(!marked[0]){
+                    int cmp = key == null ? -1 : curr.value.compareTo(key);
+                    if(cmp > 0 || (cmp == 0 && !inclusive)) break;
+                    pred = curr;
+                }
+                curr = succ;
+            }
+        }
+        return pred;
+    }
+
+    // first unmarked node on the bottom list after a given node
+    private Node<T> nextLive(Node<T> node) {
+        Node<T> curr = node.next[0].getReference();
+        while(curr != null && curr.isRemoved()) curr = curr.next[0].getReference();
+        return curr;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        Node<T> node = lastBefore(item, true);
+        return node != head && node.value.compareTo(item) == 0;
+    }
+
+    @Override
+    public T ceil(T key) {
+        Node<T> node = lastBefore(key, true);
+        if(node != head && node.value.compareTo(key) == 0) return node.value;
+        node = nextLive(node);
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public T successor(T key) {
+        Node<T> node = nextLive(lastBefore(key, true));
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public T floor(T key) {
+        Node<T> node = lastBefore(key, true);
+        return node != head ? node.value : null;
+    }
+
+    @Override
+    public T predecessor(T key) {
+        Node<T> node = lastBefore(key, false);
+        return node != head ? node.value : null;
+    }
+
+    @Override
+    public T min() {
+        Node<T> node = nextLive(head);
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public T max() {
+        Node<T> node = lastBefore(null, true);
+        return node != head ? node.value : null;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nextLive(head) == null;
+    }
+
+    @Override
+    public int rank(T key) {
+        int rank = 0;
+        for(Node<T> node = nextLive(head); node != null && node.value.compareTo(key) < 0; node = nextLive(node)){
+            rank++;
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        if(k >= 0){
+            int i = 0;
+            for(Node<T> node = nextLive(head); node != null; node = nextLive(node)){
+                if(i++ == k) return node.value;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format("Position %d is out of range [0, %d).", k, size()));
+    }
+
+    private class SkipListIterator implements Iterator<T> {
+        private Node<T> next;
+        private final T hi;
+
+        public SkipListIterator(Node<T> first, T hi) {
+            this.next = first;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null && (hi == null || next.value.compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            T value = next.value;
+            next = nextLive(next);
+            return value;
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over elements in this set in sorted order.
+     * @return iterator that supplies elements in ascending order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SkipListIterator(nextLive(head), null);
+    }
+
+    @Override
+    public Iterator<T> range(T lo, T hi) {
+        Node<T> first = lastBefore(lo, false);
+        return new SkipListIterator(nextLive(first), hi);
+    }
+
+    @Override
+    public List<T> toList() {
+        List<T> list = new ArrayList<>();
+        iterator().forEachRemaining(list::add);
+        return list;
+    }
+}
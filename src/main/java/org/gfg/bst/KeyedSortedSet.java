@@ -0,0 +1,33 @@
+package org.gfg.bst;
+
+import java.util.function.ToIntBiFunction;
+import org.gfg.SortedSet;
+
+/**
+ * Represents a sorted set whose elements can also be looked up by a key of another
+ * type, and removed in a way that returns the removed element. This lets
+ * {@link SortedSetDictionary} keep its key/value pairs in any tree.
+ * @param <T> type of elements stored in the set
+ */
+interface KeyedSortedSet<T extends Comparable<T>> extends SortedSet<T> {
+    /**
+     * Looks up an element by a key of another type, e.g. an entry by the key it holds,
+     * without building an element to compare against. The comparator must order
+     * elements against keys consistently with the ordering of the elements, returning
+     * a negative number, zero or a positive number if the element is less than, equal
+     * to or greater than the key.
+     * @param <K> type of the key
+     * @param key key to look up
+     * @param comparator compares an element with the key
+     * @return element equal to the key, or null if there is none
+     */
+    public <K> T find(K key, ToIntBiFunction<? super T, ? super K> comparator);
+
+    /**
+     * Removes the element equal to a given item and returns it, so that a caller that
+     * needs the removed element does not have to look it up first.
+     * @param item item equal to the element to remove
+     * @return removed element, or null if there was none
+     */
+    public T removeAndGet(T item);
+}
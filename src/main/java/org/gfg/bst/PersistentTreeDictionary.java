@@ -0,0 +1,365 @@
+package org.gfg.bst;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.gfg.Dictionary;
+
+/**
+ * Implements {@link Dictionary} abstraction using a persistent AVL tree. Nodes are never
+ * modified once created: {@code add} and {@code delete} copy the nodes on the path from the
+ * root to the affected key, rebalancing the copies on the way back up, and share every other
+ * subtree with the previous version of the tree. The new root is then published atomically.
+ * <p>This makes {@link #snapshot()} an O(1) operation and lets readers run without locks:
+ * each lookup and each traversal works on the root it read first, so it always sees a
+ * consistent version of the dictionary, whatever writers do in the meantime. Writers do not
+ * lock either; a writer that loses a race with another one retries on the newer root.
+ * {@code add} and {@code delete} are atomic, while the default {@code putIfAbsent},
+ * {@code compute} and {@code merge} are a lookup followed by an update.</p>
+ * <p>Each update allocates O(log n) new nodes, which become garbage unless an older version
+ * is still referenced by a snapshot or a running traversal.</p>
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+public class PersistentTreeDictionary<K extends Comparable<K>, V> implements Dictionary<K, V> {
+
+    private static final class Node<K, V> implements Dictionary.Entry<K, V> {
+        final K key;
+        final V value;
+        final Node<K, V> left;
+        final Node<K, V> right;
+        final int height;
+        final int count; // number of nodes in the subtree rooted at this node
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.count = count(left) + count(right) + 1;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    private static int count(Node<?, ?> node) {
+        return node == null ? 0 : node.count;
+    }
+
+    private final AtomicReference<Node<K, V>> root;
+
+    /**
+     * Initializes a new empty dictionary.
+     */
+    public PersistentTreeDictionary() {
+        this(null);
+    }
+
+    private PersistentTreeDictionary(Node<K, V> root) {
+        this.root = new AtomicReference<>(root);
+    }
+
+    /**
+     * Returns an independent copy of this dictionary in O(1) time. The copy shares all
+     * nodes with this dictionary; later updates to either of them are not visible in the other.
+     * @return snapshot of the current contents of this dictionary
+     */
+    public PersistentTreeDictionary<K, V> snapshot() {
+        return new PersistentTreeDictionary<>(root.get());
+    }
+
+    /*
+        Builds a node from a key, a value and two subtrees whose heights differ by at most 2,
+        rotating it if they differ by 2. Only new nodes are created; the subtrees are shared.
+    */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int bf = height(left) - height(right);
+        if(bf > 1){
+            if(height(left.left) >= height(left.right)){ // left/left case
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> lr = left.right; // left/right case
+            return new Node<>(lr.key, lr.value,
+                new Node<>(left.key, left.value, left.left, lr.left),
+                new Node<>(key, value, lr.right, right));
+        }else if(bf < -1){
+            if(height(right.right) >= height(right.left)){ // right/right case
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> rl = right.left; // right/left case
+            return new Node<>(rl.key, rl.value,
+                new Node<>(key, value, left, rl.left),
+                new Node<>(right.key, right.value, rl.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K extends Comparable<K>, V> Node<K, V> add(Node<K, V> node, K key, V value) {
+        if(node == null) return new Node<>(key, value, null, null);
+        int cmp = key.compareTo(node.key);
+        if(cmp < 0) return balance(node.key, node.value, add(node.left, key, value), node.right);
+        if(cmp > 0) return balance(node.key, node.value, node.left, add(node.right, key, value));
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    // expects the key to be present
+    private static <K extends Comparable<K>, V> Node<K, V> delete(Node<K, V> node, K key) {
+        int cmp = key.compareTo(node.key);
+        if(cmp < 0) return balance(node.key, node.value, delete(node.left, key), node.right);
+        if(cmp > 0) return balance(node.key, node.value, node.left, delete(node.right, key));
+        if(node.left == null) return node.right;
+        if(node.right == null) return node.left;
+        Node<K, V> min = node.right;
+        while(min.left != null) min = min.left;
+        return balance(min.key, min.value, node.left, deleteMin(node.right));
+    }
+
+    private static <K, V> Node<K, V> deleteMin(Node<K, V> node) {
+        if(node.left == null) return node.right;
+        return balance(node.key, node.value, deleteMin(node.left), node.right);
+    }
+
+    private static <K extends Comparable<K>, V> Node<K, V> find(Node<K, V> node, K key) {
+        while(node != null){
+            int cmp = key.compareTo(node.key);
+            if(cmp == 0) return node;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <K> IllegalArgumentException keyDoesNotExist(K key) {
+        return new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(root.get(), key) != null;
+    }
+
+    @Override
+    public V delete(K key) {
+        while(true){
+            Node<K, V> current = root.get();
+            Node<K, V> node = find(current, key);
+            if(node == null) throw keyDoesNotExist(key);
+            if(root.compareAndSet(current, delete(current, key))) return node.value;
+        }
+    }
+
+    @Override
+    public void add(K key, V value) {
+        while(true){
+            Node<K, V> current = root.get();
+            if(root.compareAndSet(current, add(current, key, value))) return;
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = find(root.get(), key);
+        if(node == null) throw keyDoesNotExist(key);
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = find(root.get(), key);
+        return node != null ? node.value : defaultValue;
+    }
+
+    @Override
+    public int size() {
+        return count(root.get());
+    }
+
+    @Override
+    public List<K> keys() {
+        Node<K, V> current = root.get();
+        List<K> list = new ArrayList<>(count(current));
+        forEach(current, (key, value) -> list.add(key));
+        return list;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        forEach(root.get(), action);
+    }
+
+    private static <K, V> void forEach(Node<K, V> node, BiConsumer<? super K, ? super V> action) {
+        while(node != null){
+            forEach(node.left, action);
+            action.accept(node.key, node.value);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the number of keys in this dictionary that are strictly less than the given key.
+     * @param key key whose rank to compute
+     * @return rank of the supplied key
+     */
+    public int rank(K key) {
+        int rank = 0;
+        Node<K, V> node = root.get();
+        while(node != null){
+            int cmp = key.compareTo(node.key);
+            if(cmp <= 0){
+                if(cmp == 0) return rank + count(node.left);
+                node = node.left;
+            }else{
+                rank += count(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the key at a given position in ascending key order, counting from 0.
+     * @param k position of the key
+     * @return k-th smallest key of this dictionary
+     * @throws IllegalArgumentException if k is negative or not less than the size of this dictionary
+     */
+    public K select(int k) {
+        Node<K, V> node = root.get();
+        if(k < 0 || k >= count(node)){
+            throw new IllegalArgumentException(
+                String.format("Position %d is out of range [0, %d).", k, count(node)));
+        }
+        while(true){
+            int leftCount = count(node.left);
+            if(k == leftCount) return node.key;
+            if(k < leftCount){
+                node = node.left;
+            }else{
+                k -= leftCount + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    // checks order, balance, heights and counts of every node; used by tests
+    boolean isValid() {
+        return isValid(root.get(), null, null);
+    }
+
+    private static <K extends Comparable<K>, V> boolean isValid(Node<K, V> node, K lo, K hi) {
+        if(node == null) return true;
+        if(lo != null && node.key.compareTo(lo) <= 0) return false;
+        if(hi != null && node.key.compareTo(hi) >= 0) return false;
+        if(Math.abs(height(node.left) - height(node.right)) > 1) return false;
+        if(node.height != Math.max(height(node.left), height(node.right)) + 1) return false;
+        if(node.count != count(node.left) + count(node.right) + 1) return false;
+        return isValid(node.left, lo, node.key) && isValid(node.right, node.key, hi);
+    }
+
+    /*
+        Walks the tree of a single version in ascending key order, between optional bounds.
+        Reset takes the current root, so every pass sees a consistent version of the dictionary.
+    */
+    private class TreeCursor implements Cursor<K, V> {
+        private final K lo;
+        private final K hi;
+        private Node<K, V>[] stack; // nodes whose key and right subtree are still to be visited
+        private int depth;
+        private Node<K, V> node;
+
+        public TreeCursor(K lo, K hi) {
+            this.lo = lo;
+            this.hi = hi;
+            reset();
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void reset() {
+            Node<K, V> current = root.get();
+            stack = (Node<K, V>[]) new Node[height(current) + 1];
+            depth = 0;
+            node = null;
+            pushLeft(current);
+        }
+
+        // descends to the least key not less than lo, keeping the nodes still to be visited
+        private void pushLeft(Node<K, V> n) {
+            while(n != null){
+                if(lo != null && n.key.compareTo(lo) < 0){
+                    n = n.right;
+                }else{
+                    stack[depth++] = n;
+                    n = n.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean next() {
+            if(depth == 0 || (hi != null && stack[depth - 1].key.compareTo(hi) > 0)){
+                depth = 0;
+                node = null;
+                return false;
+            }
+            node = stack[--depth];
+            pushLeft(node.right);
+            return true;
+        }
+
+        @Override
+        public K key() {
+            if(node == null) throw new NoSuchElementException();
+            return node.key;
+        }
+
+        @Override
+        public V value() {
+            if(node == null) throw new NoSuchElementException();
+            return node.value;
+        }
+
+        @Override
+        public Dictionary.Entry<K, V> entry() {
+            if(node == null) throw new NoSuchElementException();
+            return node;
+        }
+    }
+
+    /**
+     * Returns a cursor over the key/value pairs of this dictionary in ascending key order.
+     * Each pass of the cursor traverses the version of the dictionary current when the
+     * cursor was created or last reset, so concurrent updates are never partially visible.
+     * @return cursor over this dictionary
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new TreeCursor(null, null);
+    }
+
+    /**
+     * Returns a cursor over the key/value pairs of this dictionary whose keys are greater
+     * than or equal to {@code lo} and less than or equal to {@code hi}, in ascending key order.
+     * @param lo lower bound of the range, inclusive
+     * @param hi upper bound of the range, inclusive
+     * @return cursor over the key/value pairs in the range
+     */
+    public Cursor<K, V> range(K lo, K hi) {
+        return new TreeCursor(lo, hi);
+    }
+}
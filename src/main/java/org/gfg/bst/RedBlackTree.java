@@ -0,0 +1,218 @@
+package org.gfg.bst;
+
+import java.util.List;
+
+/**
+ * Extends a binary search tree by keeping it a left-leaning red-black tree. Every node
+ * is colored red or black; red nodes only ever hang off the left of a black parent, and
+ * every path from the root to a missing child passes through the same number of black
+ * nodes, which keeps the height below 2 log2(n). Compared to {@link AvlTree}, rebalancing
+ * after an update mostly recolors nodes and stops early, at the cost of a somewhat
+ * taller tree and so slightly longer lookups.
+ * @param <T> type of elements stored in this binary search tree
+ */
+public class RedBlackTree<T extends Comparable<T>> extends Bst<T> {
+
+    protected class RbNode extends BstNode {
+        public boolean red = true; // color of the link from the parent
+        public RbNode(T value) {
+            super(value);
+        }
+    }
+
+    private boolean isRed(BstNode node){
+        return node != null && ((RbNode) node).red;
+    }
+
+    private void setRed(BstNode node, boolean red){
+        ((RbNode) node).red = red;
+    }
+
+    @Override
+    protected RbNode newNode(T value){
+        return new RbNode(value);
+    }
+
+    // the new root of a rotated subtree takes over the color of the old root, which turns red
+    @Override
+    protected BstNode rotateRight(BstNode y){
+        BstNode x = super.rotateRight(y);
+        setRed(x, isRed(y));
+        setRed(y, true);
+        return x;
+    }
+
+    @Override
+    protected BstNode rotateLeft(BstNode x){
+        BstNode y = super.rotateLeft(x);
+        setRed(y, isRed(x));
+        setRed(x, true);
+        return y;
+    }
+
+    private void flipColors(BstNode node){
+        setRed(node, !isRed(node));
+        setRed(node.left, !isRed(node.left));
+        setRed(node.right, !isRed(node.right));
+    }
+
+    // restores left-leaning red-black invariants on the way up from an update
+    private BstNode fixUp(BstNode node){
+        if(isRed(node.right) && !isRed(node.left)) node = rotateLeft(node);
+        if(isRed(node.left) && isRed(node.left.left)) node = rotateRight(node);
+        if(isRed(node.left) && isRed(node.right)) flipColors(node);
+        updateCount(node);
+        return node;
+    }
+
+    @Override
+    public void add(T item) {
+        root = add(item, root);
+        setRed(root, false);
+    }
+
+    @Override
+    protected BstNode add(T key, BstNode root){
+        if(root == null){
+            size++;
+            return newNode(key);
+        }
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0){
+            root.left = add(key, root.left);
+        }else if(cmp < 0){
+            root.right = add(key, root.right);
+        }else{
+            // overwrite key value
+            root.value = key;
+            return root;
+        }
+        return fixUp(root);
+    }
+
+    /*
+        Deletion descends with the invariant that the current node or its left child is
+        red, borrowing a red link from a sibling or the parent where needed, so the node
+        finally removed is never a lone black node. It assumes the key is present.
+    */
+    @Override
+    public T removeAndGet(T item) {
+        T element = find(item, Comparable::compareTo);
+        if(element == null) return null;
+        if(!isRed(root.left) && !isRed(root.right)) setRed(root, true);
+        root = delete(root, item);
+        if(root != null) setRed(root, false);
+        size--;
+        return element;
+    }
+
+    @Override
+    protected BstNode delete(BstNode root, T key){
+        if(key.compareTo(root.value) < 0){
+            if(!isRed(root.left) && !isRed(root.left.left)) root = moveRedLeft(root);
+            root.left = delete(root.left, key);
+        }else{
+            if(isRed(root.left)) root = rotateRight(root);
+            if(key.compareTo(root.value) == 0 && root.right == null) return null;
+            if(!isRed(root.right) && !isRed(root.right.left)) root = moveRedRight(root);
+            if(key.compareTo(root.value) == 0){
+                // replace node value with the value of inorder successor and delete the successor
+                root.value = minNode(root.right).value;
+                root.right = deleteMin(root.right);
+            }else{
+                root.right = delete(root.right, key);
+            }
+        }
+        return fixUp(root);
+    }
+
+    private BstNode deleteMin(BstNode node){
+        if(node.left == null) return null;
+        if(!isRed(node.left) && !isRed(node.left.left)) node = moveRedLeft(node);
+        node.left = deleteMin(node.left);
+        return fixUp(node);
+    }
+
+    // makes the left child or one of its children red, given that the node is red and both children black
+    private BstNode moveRedLeft(BstNode node){
+        flipColors(node);
+        if(isRed(node.right.left)){
+            node.right = rotateRight(node.right);
+            node = rotateLeft(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    // makes the right child or one of its children red, given that the node is red and both children black
+    private BstNode moveRedRight(BstNode node){
+        flipColors(node);
+        if(isRed(node.left.left)){
+            node = rotateRight(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    /**
+     * Replaces the contents of this tree in linear time with the left-leaning red-black
+     * form of a 2-3 tree that has as many levels as a perfectly balanced tree of the
+     * elements. Its nodes are 2-nodes wherever the levels below can hold the remaining
+     * elements, and 3-nodes, a black node with a red left child, only where they cannot.
+     */
+    @Override
+    protected void build(List<T> sorted){
+        int levels = 31 - Integer.numberOfLeadingZeros(sorted.size() + 1); // floor(log2(n + 1))
+        root = build(sorted, 0, sorted.size(), levels);
+        size = sorted.size();
+    }
+
+    // builds a 2-3 tree of the given number of levels, which holds from 2^levels - 1 to 3^levels - 1 elements
+    private BstNode build(List<T> sorted, int lo, int count, int levels){
+        if(levels == 0) return null;
+        long childCapacity = 1;
+        for(int i = 1; i < levels; i++) childCapacity *= 3;
+        childCapacity--;
+        if(count - 1 <= 2 * childCapacity){
+            int left = (count - 1) / 2;
+            BstNode node = newNode(sorted.get(lo + left));
+            setRed(node, false);
+            node.left = build(sorted, lo, left, levels - 1);
+            node.right = build(sorted, lo + left + 1, count - 1 - left, levels - 1);
+            updateCount(node);
+            return node;
+        }
+        // split the elements other than the two keys of the 3-node as evenly as possible among its children
+        int first = (count - 2) / 3;
+        int second = (count - 2 - first) / 2;
+        BstNode red = newNode(sorted.get(lo + first));
+        red.left = build(sorted, lo, first, levels - 1);
+        red.right = build(sorted, lo + first + 1, second, levels - 1);
+        updateCount(red);
+        BstNode node = newNode(sorted.get(lo + first + second + 1));
+        setRed(node, false);
+        node.left = red;
+        node.right = build(sorted, lo + first + second + 2, count - 2 - first - second, levels - 1);
+        updateCount(node);
+        return node;
+    }
+
+    // checks order, counts, colors and black heights of every node; used by tests
+    boolean isValid(){
+        return !isRed(root) && blackHeight(root, null, null) >= 0;
+    }
+
+    // returns the number of black nodes on every path down from a node, or -1 if invariants do not hold
+    private int blackHeight(BstNode node, T lo, T hi){
+        if(node == null) return 0;
+        if(lo != null && node.value.compareTo(lo) <= 0) return -1;
+        if(hi != null && node.value.compareTo(hi) >= 0) return -1;
+        if(isRed(node.right)) return -1;
+        if(isRed(node) && isRed(node.left)) return -1;
+        if(node.count != count(node.left) + count(node.right) + 1) return -1;
+        int left = blackHeight(node.left, lo, node.value);
+        int right = blackHeight(node.right, node.value, hi);
+        if(left < 0 || left != right) return -1;
+        return left + (isRed(node) ? 0 : 1);
+    }
+}
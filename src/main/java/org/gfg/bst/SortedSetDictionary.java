@@ -0,0 +1,202 @@
+package org.gfg.bst;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+
+/**
+ * Implements {@link Dictionary} abstraction on top of a sorted set of key/value pairs
+ * ordered by key. Subclasses only choose the tree that keeps the pairs.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+abstract class SortedSetDictionary<K extends Comparable<K>, V> implements Dictionary<K, V> {
+
+    class KeyValuePair implements Dictionary.Entry<K, V>, Comparable<KeyValuePair> {
+        @Override
+        public int compareTo(SortedSetDictionary<K, V>.KeyValuePair pair) {
+            return this.key.compareTo(pair.key);
+        }
+
+        public K key;
+        public V value;
+
+        public KeyValuePair(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+    }
+
+    private class TreeCursor implements Cursor<K, V> {
+        private Supplier<Iterator<KeyValuePair>> source;
+        private Iterator<KeyValuePair> iterator;
+        private KeyValuePair pair;
+
+        public TreeCursor(Supplier<Iterator<KeyValuePair>> source) {
+            this.source = source;
+            reset();
+        }
+
+        @Override
+        public boolean next() {
+            pair = iterator.hasNext() ? iterator.next() : null;
+            return pair != null;
+        }
+
+        @Override
+        public K key() {
+            return pair.key;
+        }
+
+        @Override
+        public V value() {
+            return pair.value;
+        }
+
+        @Override
+        public Dictionary.Entry<K, V> entry() {
+            return pair;
+        }
+
+        @Override
+        public void reset() {
+            iterator = source.get();
+            pair = null;
+        }
+    }
+
+    KeyedSortedSet<KeyValuePair> tree;
+
+    SortedSetDictionary(KeyedSortedSet<KeyValuePair> tree) {
+        this.tree = tree;
+    }
+
+    // looks a pair up by its key directly, so lookups need not wrap the key into a probe pair
+    private KeyValuePair find(K key) {
+        return tree.find(key, (pair, k) -> pair.key.compareTo(k));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    private KeyValuePair ensureKeyExists(K key) {
+        KeyValuePair pair = find(key);
+        if (pair == null) {
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return pair;
+    }
+
+    @Override
+    public V delete(K key) {
+        // the tree returns the pair it removes, so a single descent both finds and removes it
+        KeyValuePair pair = tree.removeAndGet(new KeyValuePair(key, null));
+        if (pair == null) {
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return pair.value;
+    }
+
+    @Override
+    public void add(K key, V value) {
+        // the tree replaces an equal pair in place, so a single descent either inserts or updates
+        tree.add(new KeyValuePair(key, value));
+    }
+
+    @Override
+    public V get(K key) {
+        return ensureKeyExists(key).value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        KeyValuePair pair = find(key);
+        return pair != null ? pair.value : defaultValue;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public List<K> keys() {
+        return tree.toList().stream()
+                            .map(p -> p.key)
+                            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a cursor over the key/value pairs of this dictionary in ascending key order.
+     * @return cursor over this dictionary
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new TreeCursor(tree::iterator);
+    }
+
+    /**
+     * Returns the number of keys in this dictionary that are strictly less than the given key.
+     * @param key key whose rank to compute
+     * @return rank of the supplied key
+     */
+    public int rank(K key) {
+        return tree.rank(new KeyValuePair(key, null));
+    }
+
+    /**
+     * Returns the key at a given position in ascending key order, counting from 0.
+     * @param k position of the key
+     * @return k-th smallest key of this dictionary
+     * @throws IllegalArgumentException if k is negative or not less than the size of this dictionary
+     */
+    public K select(int k) {
+        return tree.select(k).key;
+    }
+
+    /**
+     * Returns the number of keys in this dictionary that are greater than or equal to
+     * {@code lo} and less than or equal to {@code hi}.
+     * @param lo lower bound of the range, inclusive
+     * @param hi upper bound of the range, inclusive
+     * @return number of keys in the range
+     */
+    public int countInRange(K lo, K hi) {
+        return tree.countInRange(new KeyValuePair(lo, null), new KeyValuePair(hi, null));
+    }
+
+    /**
+     * Returns a cursor over the key/value pairs of this dictionary whose keys are greater
+     * than or equal to {@code lo} and less than or equal to {@code hi}, in ascending key order.
+     * @param lo lower bound of the range, inclusive
+     * @param hi upper bound of the range, inclusive
+     * @return cursor over the key/value pairs in the range
+     */
+    public Cursor<K, V> range(K lo, K hi) {
+        KeyValuePair loPair = new KeyValuePair(lo, null);
+        KeyValuePair hiPair = new KeyValuePair(hi, null);
+        return new TreeCursor(() -> tree.range(loPair, hiPair));
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        tree.forEach(pair -> action.accept(pair.key, pair.value));
+    }
+}
@@ -0,0 +1,226 @@
+package org.gfg.bst;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Extends a binary search tree by splaying: every lookup and update moves the node it
+ * ends at to the root through a series of rotations that also roughly halve the depth
+ * of the nodes on the path. The tree keeps no balance information and may become deep
+ * temporarily, but any sequence of m operations takes O(m log n) time, and recently or
+ * frequently accessed elements stay close to the root, which makes skewed access
+ * patterns cheaper than in a balanced tree.
+ * <p>Since lookups restructure the tree, they are updates for the purposes of
+ * synchronization. Iteration does not splay.</p>
+ * @param <T> type of elements stored in this binary search tree
+ */
+public class SplayTree<T extends Comparable<T>> extends Bst<T> {
+
+    // roots of the trees of smaller and greater elements assembled during a splay
+    private final BstNode header = new BstNode(null);
+    // nodes linked into the assembled trees, whose counts are fixed once the splay is done
+    private final List<BstNode> leftSpine = new ArrayList<>();
+    private final List<BstNode> rightSpine = new ArrayList<>();
+
+    /*
+        Top-down splay: descends from the root towards key, rotating at every second step
+        where the path goes the same way twice, and hangs the nodes passed on the left and
+        on the right into two trees that finally become the subtrees of the node reached.
+        Returns that node, which holds key if it is present, or otherwise its predecessor
+        or successor.
+    */
+    private BstNode splay(BstNode node, T key){
+        if(node == null) return null;
+        header.left = null;
+        header.right = null;
+        BstNode left = header; // rightmost node of the tree of smaller elements
+        BstNode right = header; // leftmost node of the tree of greater elements
+        leftSpine.clear();
+        rightSpine.clear();
+        while(true){
+            int cmp = key.compareTo(node.value);
+            if(cmp < 0){
+                if(node.left == null) break;
+                if(key.compareTo(node.left.value) < 0){
+                    node = rotateRight(node);
+                    if(node.left == null) break;
+                }
+                right.left = node;
+                right = node;
+                rightSpine.add(node);
+                node = node.left;
+            }else if(cmp > 0){
+                if(node.right == null) break;
+                if(key.compareTo(node.right.value) > 0){
+                    node = rotateLeft(node);
+                    if(node.right == null) break;
+                }
+                left.right = node;
+                left = node;
+                leftSpine.add(node);
+                node = node.right;
+            }else{
+                break;
+            }
+        }
+        left.right = node.left;
+        right.left = node.right;
+        for(int i = leftSpine.size() - 1; i >= 0; i--) updateCount(leftSpine.get(i));
+        for(int i = rightSpine.size() - 1; i >= 0; i--) updateCount(rightSpine.get(i));
+        node.left = header.right;
+        node.right = header.left;
+        updateCount(node);
+        return node;
+    }
+
+    @Override
+    public void add(T item) {
+        if(root == null){
+            root = newNode(item);
+            size++;
+            return;
+        }
+        root = splay(root, item);
+        int cmp = item.compareTo(root.value);
+        if(cmp == 0){
+            // overwrite key value
+            root.value = item;
+            return;
+        }
+        BstNode node = newNode(item);
+        if(cmp < 0){
+            node.left = root.left;
+            node.right = root;
+            root.left = null;
+        }else{
+            node.right = root.right;
+            node.left = root;
+            root.right = null;
+        }
+        updateCount(root);
+        updateCount(node);
+        root = node;
+        size++;
+    }
+
+    @Override
+    public T removeAndGet(T item) {
+        root = splay(root, item);
+        if(root == null || item.compareTo(root.value) != 0) return null;
+        T element = root.value;
+        if(root.left == null){
+            root = root.right;
+        }else{
+            // every element on the left is smaller, so splaying it brings its maximum up with no right child
+            BstNode right = root.right;
+            root = splay(root.left, item);
+            root.right = right;
+            updateCount(root);
+        }
+        size--;
+        return element;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        root = splay(root, item);
+        return root != null && item.compareTo(root.value) == 0;
+    }
+
+    /*
+        The lookups below search like in any binary search tree and then splay the key
+        looked up, which follows the same path and pays for it.
+    */
+    @Override
+    public <K> T find(K key, ToIntBiFunction<? super T, ? super K> comparator) {
+        T value = super.find(key, comparator);
+        if(value != null) root = splay(root, value);
+        return value;
+    }
+
+    @Override
+    public T successor(T key) {
+        T successor = super.successor(key);
+        root = splay(root, key);
+        return successor;
+    }
+
+    @Override
+    public T predecessor(T key) {
+        T predecessor = super.predecessor(key);
+        root = splay(root, key);
+        return predecessor;
+    }
+
+    @Override
+    public T ceil(T key) {
+        T ceil = super.ceil(key);
+        root = splay(root, key);
+        return ceil;
+    }
+
+    @Override
+    public T floor(T key) {
+        T floor = super.floor(key);
+        root = splay(root, key);
+        return floor;
+    }
+
+    @Override
+    public T min() {
+        T min = super.min();
+        root = splay(root, min);
+        return min;
+    }
+
+    @Override
+    public T max() {
+        T max = super.max();
+        root = splay(root, max);
+        return max;
+    }
+
+    @Override
+    public int rank(T key) {
+        int rank = super.rank(key);
+        root = splay(root, key);
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        T value = super.select(k);
+        root = splay(root, value);
+        return value;
+    }
+
+    /**
+     * Performs an action for each element of this tree in sorted order. Uses an iterator
+     * rather than recursion, since a splay tree may be arbitrarily deep.
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        iterator().forEachRemaining(action);
+    }
+
+    // checks order and counts of every node without recursion; used by tests
+    boolean isValid(){
+        List<BstNode> nodes = new ArrayList<>();
+        if(root != null) nodes.add(root);
+        for(int i = 0; i < nodes.size(); i++){
+            BstNode node = nodes.get(i);
+            if(node.count != count(node.left) + count(node.right) + 1) return false;
+            if(node.left != null) nodes.add(node.left);
+            if(node.right != null) nodes.add(node.right);
+        }
+        T previous = null;
+        for(T value : this){
+            if(previous != null && previous.compareTo(value) >= 0) return false;
+            previous = value;
+        }
+        return count(root) == size;
+    }
+}
@@ -0,0 +1,127 @@
+package org.gfg.bst;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Extends a binary search tree by giving every node a random priority and keeping the
+ * tree heap-ordered by priority: no node has a higher priority than its parent. The
+ * shape is then that of a binary search tree built by inserting the elements in random
+ * order, whatever the actual order of updates, so its expected height is O(log n).
+ * Insertion rotates a new node up while its priority is higher than its parent's, and
+ * deletion merges the two subtrees of the removed node, which takes a single pass and
+ * on average fewer than two rotations per update.
+ * @param <T> type of elements stored in this binary search tree
+ */
+public class Treap<T extends Comparable<T>> extends Bst<T> {
+
+    protected class TreapNode extends BstNode {
+        public int priority = ThreadLocalRandom.current().nextInt();
+        public TreapNode(T value) {
+            super(value);
+        }
+    }
+
+    private int priority(BstNode node){
+        return ((TreapNode) node).priority;
+    }
+
+    @Override
+    protected TreapNode newNode(T value){
+        return new TreapNode(value);
+    }
+
+    @Override
+    protected BstNode add(T key, BstNode root){
+        if(root == null){
+            size++;
+            return newNode(key);
+        }
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0){
+            root.left = add(key, root.left);
+            if(priority(root.left) > priority(root)) return rotateRight(root);
+        }else if(cmp < 0){
+            root.right = add(key, root.right);
+            if(priority(root.right) > priority(root)) return rotateLeft(root);
+        }else{
+            // overwrite key value
+            root.value = key;
+            return root;
+        }
+        updateCount(root);
+        return root;
+    }
+
+    @Override
+    protected BstNode delete(BstNode root, T key){
+        if(root == null) return null;
+        int cmp = root.value.compareTo(key);
+        if(cmp > 0){
+            root.left = delete(root.left, key);
+        }else if(cmp < 0){
+            root.right = delete(root.right, key);
+        }else{ // key to be deleted found
+            removed = root.value;
+            return merge(root.left, root.right);
+        }
+        updateCount(root);
+        return root;
+    }
+
+    // merges two treaps whose elements are all less than, respectively greater than each other
+    private BstNode merge(BstNode left, BstNode right){
+        if(left == null) return right;
+        if(right == null) return left;
+        if(priority(left) > priority(right)){
+            left.right = merge(left.right, right);
+            updateCount(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        updateCount(right);
+        return right;
+    }
+
+    /**
+     * Builds a perfectly balanced tree of the elements and then rearranges the random
+     * priorities of its nodes into heap order, which takes linear time like building a
+     * binary heap.
+     */
+    @Override
+    protected void build(List<T> sorted){
+        super.build(sorted);
+        heapify(root);
+    }
+
+    private void heapify(BstNode node){
+        if(node == null) return;
+        heapify(node.left);
+        heapify(node.right);
+        // sift the priority of the node down until it is not lower than those of its children
+        while(true){
+            BstNode child = node.left;
+            if(node.right != null && (child == null || priority(node.right) > priority(child))) child = node.right;
+            if(child == null || priority(child) <= priority(node)) return;
+            int priority = priority(node);
+            ((TreapNode) node).priority = priority(child);
+            ((TreapNode) child).priority = priority;
+            node = child;
+        }
+    }
+
+    // checks order, counts and heap order of priorities of every node; used by tests
+    boolean isValid(){
+        return isValid(root, null, null);
+    }
+
+    private boolean isValid(BstNode node, T lo, T hi){
+        if(node == null) return true;
+        if(lo != null && node.value.compareTo(lo) <= 0) return false;
+        if(hi != null && node.value.compareTo(hi) >= 0) return false;
+        if(node.left != null && priority(node.left) > priority(node)) return false;
+        if(node.right != null && priority(node.right) > priority(node)) return false;
+        if(node.count != count(node.left) + count(node.right) + 1) return false;
+        return isValid(node.left, lo, node.value) && isValid(node.right, node.value, hi);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.*;
 import org.gfg.Dictionary;
 import org.gfg.graph.BellmanFord.Result;
 import org.gfg.hash.HashDictionary;
+import org.gfg.hash.StringDictionary;
 
 /**
  * Solves currency arbitrage problem.
@@ -20,7 +21,7 @@ public class Arbitrage{
     public static List<String> check(String[] currencies, double[][] exchangeRates){
         final String s = "_SOURCE_";
         // build graph
-        Dictionary<String, Integer> ci = new HashDictionary<>();
+        Dictionary<CharSequence, Integer> ci = new StringDictionary<>(currencies.length);
         for(int i = 0; i < currencies.length; i++){
             ci.add(currencies[i], i);
         }
@@ -71,26 +71,31 @@ public class BellmanFord{
      */
     public static <V> Result<V> run(Dictionary<V, List<WeightedEdge<V>>> graph, V source){
         final Double INF = Double.MAX_VALUE;
-        Dictionary<V, Double> d = new HashDictionary<>();
-        Dictionary<V, V> p = new HashDictionary<>();
+        Dictionary<V, Double> d = new HashDictionary<>(graph.size());
+        Dictionary<V, V> p = new HashDictionary<>(graph.size());
         
         // initialization
-        for(V v : graph.keys()){
+        for(V v : graph.keyView()){
             d.add(v, INF);
             p.add(v, null);
         }
         d.add(source, 0.0);
 
+        // one cursor serves every round, so the rounds neither copy the vertex list nor look up edge lists
+        Dictionary.Cursor<V, List<WeightedEdge<V>>> cursor = graph.cursor();
+
         // relax edges repeatedly
         for(int i = 0; i < graph.size() - 1; i++){ // relax |V| - 1 times
             // relax all edges
-            for(V u : graph.keys()){
-                List<WeightedEdge<V>> edges = graph.get(u);
-                for(WeightedEdge<V> edge : edges){
+            cursor.reset();
+            while(cursor.next()){
+                V u = cursor.key();
+                double du = d.get(u);
+                for(WeightedEdge<V> edge : cursor.value()){
                     V v = edge.getVertex();
                     double w = edge.getWeight();
-                    if(d.get(v) > d.get(u) + w){
-                        d.add(v, d.get(u) + w);
+                    if(d.get(v) > du + w){
+                        d.add(v, du + w);
                         p.add(v, u);
                     }
                 }
@@ -98,9 +103,10 @@ public class BellmanFord{
         }
 
         // check for negative weight cycle
-        for(V u : graph.keys()){
-            List<WeightedEdge<V>> edges = graph.get(u);
-            for(WeightedEdge<V> edge : edges){
+        cursor.reset();
+        while(cursor.next()){
+            V u = cursor.key();
+            for(WeightedEdge<V> edge : cursor.value()){
                 V v = edge.getVertex();
                 double w = edge.getWeight();
                 if(d.get(v) > d.get(u) + w){
@@ -113,6 +119,13 @@ public class BellmanFord{
     }
 
     private static <V> List<V> buildNegativeWeightCycle(V source, Dictionary<V, V> predecessor){
+        // the vertex whose edge still relaxes may only be reachable from the cycle, 
+        // so first follow predecessors until a vertex repeats - that vertex lies on the cycle
+        Set<V> visited = new HashSet<>();
+        while(visited.add(source)){
+            source = predecessor.get(source);
+        }
+
         List<V> cycle = new ArrayList<>();
         cycle.add(source);
         V v = source;
@@ -70,7 +70,7 @@ public class GraphSearch{
         } 
         List<V> toposort = new ArrayList<>();
         Dictionary<V, V> dfsParent = new HashDictionary<>();
-        for(V v : graph.keys()){
+        for(V v : graph.keyView()){
             if(!dfsParent.containsKey(v)){
                 dfsParent.add(v, null);
                 dfsToposort(graph, v, dfsParent, toposort);
@@ -106,10 +106,10 @@ public class GraphSearch{
      */
     public static <V> boolean hasCycle(Dictionary<V, List<V>> graph, boolean isDirected){
         Dictionary<V, Integer> color = new HashDictionary<>();
-        for(V v : graph.keys()){
+        for(V v : graph.keyView()){
             color.add(v, WHITE);
         }
-        for(V v : graph.keys()){
+        for(V v : graph.keyView()){
             if(color.get(v) == WHITE){
                 color.add(v, GRAY);
                 if(hasCycle(graph, v, v, color, isDirected)) return true;
@@ -148,7 +148,7 @@ public class GraphSearch{
     public static <V> List<Object> getConnectedComponents(Dictionary<V, List<V>> graph){
         int id = 0;
         Dictionary<V, Integer> component = new HashDictionary<>();
-        for(V v : graph.keys()){
+        for(V v : graph.keyView()){
             if(!component.containsKey(v)){
                 component.add(v, id);
                 dfsConnectedComponent(graph, v, component, id++);
@@ -2,8 +2,7 @@ package org.gfg.graph;
 
 import java.util.*;
 
-import org.gfg.Dictionary;
-import org.gfg.hash.HashDictionary;
+import org.gfg.hash.IntDictionary;
 
 /**
  * Solves 2x2x2 Rubik's cube. Based on MIT's implementation available at 
@@ -154,8 +153,8 @@ public class RubiksCube{
     public static List<int[]> solve(int[] start, int[] end){
         Queue<int[]> q1 = new LinkedList<>();
         Queue<int[]> q2 = new LinkedList<>();
-        Dictionary<Integer, int[]> parent1 = new HashDictionary<>();
-        Dictionary<Integer, int[]> parent2 = new HashDictionary<>();
+        IntDictionary<int[]> parent1 = new IntDictionary<>();
+        IntDictionary<int[]> parent2 = new IntDictionary<>();
         q1.add(start);
         q2.add(end);
         parent1.add(hash(start), null);
@@ -199,7 +198,7 @@ public class RubiksCube{
         return null;
     }
 
-    private static List<int[]> getPath(int[] config, Dictionary<Integer, int[]> parent){
+    private static List<int[]> getPath(int[] config, IntDictionary<int[]> parent){
         List<int[]> path = new ArrayList<>();
         int[] current = config;
         while(current != null){
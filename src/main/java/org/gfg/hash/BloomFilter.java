@@ -0,0 +1,85 @@
+package org.gfg.hash;
+
+/**
+ * Blocked Bloom filter. Every item sets its bits within one 512-bit block, the size of a
+ * typical cache line, so adding or checking an item touches a single block of memory no
+ * matter how many hash functions are used. Items cannot be removed.
+ * @param <T> type of items
+ */
+public class BloomFilter<T> implements MembershipFilter<T>{
+    private static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    // confining the bits of an item to one block loads blocks unevenly, which a slightly larger table offsets
+    private static final double BLOCKING_OVERHEAD = 1.2;
+
+    private final long[] words;
+    private final int blocks;
+    private final int k; // number of bits set per item
+    private final double falsePositiveRate;
+    private int n;
+
+    /**
+     * Initializes a new empty filter.
+     * @param expectedSize expected number of items
+     * @param falsePositiveRate desired false positive rate once {@code expectedSize} items are added
+     */
+    public BloomFilter(int expectedSize, double falsePositiveRate){
+        if(expectedSize < 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)){
+            throw new IllegalArgumentException(String.format(
+                "Expected size must be non-negative and false positive rate in (0, 1), but were %d and %f.",
+                expectedSize, falsePositiveRate));
+        }
+        double ln2 = Math.log(2);
+        int items = Math.max(1, expectedSize);
+        long bits = (long) Math.ceil(-BLOCKING_OVERHEAD * items * Math.log(falsePositiveRate) / (ln2 * ln2));
+        blocks = (int) Math.min(Integer.MAX_VALUE / WORDS_PER_BLOCK, Math.max(1, (bits + BLOCK_BITS - 1) / BLOCK_BITS));
+        words = new long[blocks * WORDS_PER_BLOCK];
+        k = (int) Math.max(1, Math.min(16, Math.round((double) bits / items * ln2)));
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public boolean addHash(int hashCode){
+        int base = reduceBlock(HashUtil.mix(hashCode)) * WORDS_PER_BLOCK;
+        int h = HashUtil.mix((long) hashCode);
+        for(int i = 0; i < k; i++){
+            // the top 9 bits of h select one of the 512 bits of the block
+            int bit = h >>> 23;
+            words[base + (bit >>> 6)] |= 1L << bit;
+            h = next(h);
+        }
+        n++;
+        return true;
+    }
+
+    @Override
+    public boolean mightContainHash(int hashCode){
+        int base = reduceBlock(HashUtil.mix(hashCode)) * WORDS_PER_BLOCK;
+        int h = HashUtil.mix((long) hashCode);
+        for(int i = 0; i < k; i++){
+            int bit = h >>> 23;
+            if((words[base + (bit >>> 6)] & (1L << bit)) == 0) return false;
+            h = next(h);
+        }
+        return true;
+    }
+
+    private static int next(int h){
+        // a linear congruential step, whose high bits change on every step
+        return h * 0x2C1B3C6D + 0x297A2D39;
+    }
+
+    private int reduceBlock(int hash){
+        return (int) (((hash & 0xFFFFFFFFL) * blocks) >>> 32);
+    }
+
+    @Override
+    public int size(){
+        return n;
+    }
+
+    @Override
+    public double falsePositiveRate(){
+        return falsePositiveRate;
+    }
+}
@@ -0,0 +1,144 @@
+package org.gfg.hash;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes values of a given type into a fixed number of bytes, so that they can be
+ * stored in flat {@link ByteBuffer}s outside the Java heap.
+ * @param <T> type of encoded values
+ */
+public interface Codec<T>{
+    /**
+     * Codec for {@code Integer} values, 4 bytes wide.
+     */
+    public static final Codec<Integer> INT = new Codec<Integer>(){
+        @Override
+        public String name(){
+            return "int";
+        }
+
+        @Override
+        public int width(){
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value){
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset){
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for {@code Long} values, 8 bytes wide.
+     */
+    public static final Codec<Long> LONG = new Codec<Long>(){
+        @Override
+        public String name(){
+            return "long";
+        }
+
+        @Override
+        public int width(){
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value){
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset){
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for {@code Float} values, 4 bytes wide.
+     */
+    public static final Codec<Float> FLOAT = new Codec<Float>(){
+        @Override
+        public String name(){
+            return "float";
+        }
+
+        @Override
+        public int width(){
+            return Float.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Float value){
+            buffer.putFloat(offset, value);
+        }
+
+        @Override
+        public Float read(ByteBuffer buffer, int offset){
+            return buffer.getFloat(offset);
+        }
+    };
+
+    /**
+     * Codec for {@code Double} values, 8 bytes wide.
+     */
+    public static final Codec<Double> DOUBLE = new Codec<Double>(){
+        @Override
+        public String name(){
+            return "double";
+        }
+
+        @Override
+        public int width(){
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value){
+            buffer.putDouble(offset, value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset){
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns a name that identifies the type and encoding of values, e.g. to check that
+     * stored data is read back with the codec that wrote it. Codecs that encode different
+     * types into the same width must have different names. Defaults to the class name.
+     * @return name of this codec
+     */
+    public default String name(){
+        return getClass().getName();
+    }
+
+    /**
+     * Returns the number of bytes every encoded value occupies.
+     * @return width of encoded values in bytes
+     */
+    public int width();
+
+    /**
+     * Encodes a value into a buffer at a given absolute position. The position of the buffer
+     * is not changed.
+     * @param buffer target buffer
+     * @param offset absolute position of the first byte
+     * @param value value to encode, never null
+     */
+    public void write(ByteBuffer buffer, int offset, T value);
+
+    /**
+     * Decodes a value from a buffer at a given absolute position. The position of the buffer
+     * is not changed.
+     * @param buffer source buffer
+     * @param offset absolute position of the first byte
+     * @return decoded value
+     */
+    public T read(ByteBuffer buffer, int offset);
+}
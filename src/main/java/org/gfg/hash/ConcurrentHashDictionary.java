@@ -0,0 +1,355 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Thread-safe implementation of {@link Dictionary} interface using a lock-striped hash table.
+ * Keys are spread over a fixed number of segments, each being an independent chained
+ * hash table guarded by its own lock, so updates to different segments proceed in
+ * parallel and each segment resizes on its own without blocking the others.
+ * Reads ({@code get}, {@code getOrDefault}, {@code containsKey}) take no locks.
+ * {@code putIfAbsent}, {@code compute} and {@code merge} are atomic.
+ * {@code size()}, {@code keys()}, {@code forEach} and cursors are weakly consistent: they
+ * reflect each segment at some point during the call or traversal and never fail because
+ * of concurrent updates. Keys shall provide their own hash code and equals logic
+ * by overriding {@code hashCode()} and {@code equals(Object obj)} methods.
+ * @param <K> type of keys stored in this hash table
+ * @param <V> type of values stored in this hash table
+ */
+public class ConcurrentHashDictionary<K, V> implements Dictionary<K, V>{
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 2;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    /*
+        Nodes are never relinked once published, except for unlinking on delete, so a reader
+        walking a chain without the lock always finds every node that was reachable when it
+        started. Resizing copies the nodes into a new table instead of moving them.
+    */
+    private static final class Node<K, V>{
+        final K key;
+        final int hash;
+        volatile V value;
+        volatile Node<K, V> next;
+        Node(K key, int hash, V value, Node<K, V> next){
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment<K, V> extends ReentrantLock{
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count; // written only while holding the lock
+        Segment(int capacity){
+            table = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private static final Object ABSENT = new Object();
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    /**
+     * Initializes a new empty dictionary with default concurrency level.
+     */
+    public ConcurrentHashDictionary(){
+        this(0, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Initializes a new empty dictionary.
+     * @param expectedSize expected number of keys
+     * @param concurrencyLevel expected number of concurrently updating threads;
+     * rounded up to a power of two and used as the number of segments
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentHashDictionary(int expectedSize, int concurrencyLevel){
+        if(expectedSize < 0 || concurrencyLevel <= 0){
+            throw new IllegalArgumentException(String.format(
+                "Expected size must be non-negative and concurrency level positive, but were %d and %d.",
+                expectedSize, concurrencyLevel));
+        }
+        int segmentCount = 1;
+        while(segmentCount < Math.min(concurrencyLevel, MAX_SEGMENTS)) segmentCount <<= 1;
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        segmentMask = segmentCount - 1;
+        int segmentCapacity = Math.max(MIN_SEGMENT_CAPACITY,
+            HashUtil.tableSizeFor((expectedSize + segmentCount - 1) / segmentCount, MAX_LOAD_FACTOR));
+
+        segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for(int i = 0; i < segmentCount; i++){
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    private static int hash(Object key){
+        return HashUtil.mix(key.hashCode());
+    }
+
+    private Segment<K, V> segmentFor(int hash){
+        // the high bits select the segment, the low bits select the bucket within it
+        return segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    private static <K, V> Node<K, V> findNode(AtomicReferenceArray<Node<K, V>> table, Object key, int hash){
+        Node<K, V> node = table.get(hash & (table.length() - 1));
+        while(node != null && !(node.hash == hash && (node.key == key || node.key.equals(key)))){
+            node = node.next;
+        }
+        return node;
+    }
+
+    /*
+        Lock-free lookup. If the segment was resized while the value was being read,
+        the node may be a stale copy, so the lookup is retried against the new table.
+    */
+    private Object read(Object key, Object defaultValue){
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        while(true){
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            Node<K, V> node = findNode(table, key, hash);
+            Object value = node != null ? node.value : defaultValue;
+            if(table == segment.table) return value;
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return read(key, ABSENT) != ABSENT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        Object value = read(key, ABSENT);
+        if(value == ABSENT){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return (V) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        return (V) read(key, defaultValue);
+    }
+
+    @Override
+    public void add(K key, V value) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try{
+            Node<K, V> node = findNode(segment.table, key, hash);
+            if(node != null) node.value = value;
+            else insert(segment, key, hash, value);
+        }finally{
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try{
+            Node<K, V> node = findNode(segment.table, key, hash);
+            if(node != null) return node.value;
+            insert(segment, key, hash, value);
+            return null;
+        }finally{
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try{
+            Node<K, V> node = findNode(segment.table, key, hash);
+            V value = remappingFunction.apply(key, node != null ? node.value : null);
+            if(node != null) node.value = value;
+            else insert(segment, key, hash, value);
+            return value;
+        }finally{
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try{
+            Node<K, V> node = findNode(segment.table, key, hash);
+            if(node == null){
+                insert(segment, key, hash, value);
+                return value;
+            }
+            V newValue = remappingFunction.apply(node.value, value);
+            node.value = newValue;
+            return newValue;
+        }finally{
+            segment.unlock();
+        }
+    }
+
+    // must be called while holding the segment lock
+    private void insert(Segment<K, V> segment, K key, int hash, V value){
+        AtomicReferenceArray<Node<K, V>> table = segment.table;
+        if(segment.count + 1 > MAX_LOAD_FACTOR * table.length() && table.length() < HashUtil.MAX_CAPACITY){
+            table = resize(segment);
+        }
+        int i = hash & (table.length() - 1);
+        table.set(i, new Node<>(key, hash, value, table.get(i)));
+        segment.count++;
+    }
+
+    // must be called while holding the segment lock
+    private AtomicReferenceArray<Node<K, V>> resize(Segment<K, V> segment){
+        AtomicReferenceArray<Node<K, V>> oldTable = segment.table;
+        AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(oldTable.length() << 1);
+        int mask = newTable.length() - 1;
+        for(int i = 0; i < oldTable.length(); i++){
+            for(Node<K, V> node = oldTable.get(i); node != null; node = node.next){
+                int j = node.hash & mask;
+                newTable.set(j, new Node<>(node.key, node.hash, node.value, newTable.get(j)));
+            }
+        }
+        segment.table = newTable;
+        return newTable;
+    }
+
+    @Override
+    public V delete(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try{
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            int i = hash & (table.length() - 1);
+            Node<K, V> prev = null;
+            Node<K, V> node = table.get(i);
+            while(node != null && !(node.hash == hash && (node.key == key || node.key.equals(key)))){
+                prev = node;
+                node = node.next;
+            }
+            if(node == null){
+                throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+            }
+            if(prev == null) table.set(i, node.next);
+            else prev.next = node.next;
+            segment.count--;
+            return node.value;
+        }finally{
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for(Segment<K, V> segment : segments) size += segment.count;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<K> keys() {
+        List<K> keys = new ArrayList<>();
+        for(Segment<K, V> segment : segments){
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            for(int i = 0; i < table.length(); i++){
+                for(Node<K, V> node = table.get(i); node != null; node = node.next){
+                    keys.add(node.key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for(Segment<K, V> segment : segments){
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            for(int i = 0; i < table.length(); i++){
+                for(Node<K, V> node = table.get(i); node != null; node = node.next){
+                    action.accept(node.key, node.value);
+                }
+            }
+        }
+    }
+
+    /*
+        Walks the chains of each segment's table as read when the cursor reaches the segment,
+        taking keys and values from the nodes themselves rather than looking them up again.
+    */
+    private class SegmentCursor implements Cursor<K, V>{
+        private int segment;
+        private AtomicReferenceArray<Node<K, V>> table;
+        private int bucket;
+        private Node<K, V> node;
+        private V value; // read once, so key() and value() agree on the pair returned
+
+        SegmentCursor(){
+            reset();
+        }
+
+        @Override
+        public boolean next(){
+            if(node != null) node = node.next;
+            while(node == null){
+                if(table == null || ++bucket >= table.length()){
+                    if(++segment >= segments.length){
+                        segment = segments.length;
+                        table = null;
+                        return false;
+                    }
+                    table = segments[segment].table;
+                    bucket = 0;
+                }
+                node = table.get(bucket);
+            }
+            value = node.value;
+            return true;
+        }
+
+        @Override
+        public K key(){
+            return node.key;
+        }
+
+        @Override
+        public V value(){
+            return value;
+        }
+
+        @Override
+        public void reset(){
+            segment = -1;
+            table = null;
+            bucket = -1;
+            node = null;
+        }
+    }
+
+    @Override
+    public Cursor<K, V> cursor() {
+        return new SegmentCursor();
+    }
+}
@@ -0,0 +1,162 @@
+package org.gfg.hash;
+
+/**
+ * Cuckoo filter (Fan et al.). Stores a short fingerprint of every item in one of two
+ * buckets of four slots; the second bucket is derived from the first and the fingerprint
+ * alone, so fingerprints can be moved between their buckets without knowing the item.
+ * Unlike a Bloom filter, a cuckoo filter supports removal and checks at most two buckets
+ * per item. Adding fails once the table is nearly full.
+ * @param <T> type of items
+ */
+public class CuckooFilter<T> implements MembershipFilter<T>{
+    private static final int BUCKET_SIZE = 4;
+    private static final double LOAD_FACTOR = 0.95;
+    private static final int MAX_KICKS = 500;
+
+    private final char[] slots; // fingerprints, bucket b occupies slots[4b] .. slots[4b + 3]; 0 is empty
+    private final int mask; // number of buckets minus one; number of buckets is always a power of two
+    private final int fingerprintBits;
+    private final double falsePositiveRate;
+    private int n;
+    private int seed = 0x2545F491; // state of the generator that picks fingerprints to evict
+
+    // a fingerprint that could not be placed after MAX_KICKS evictions; the filter is full while it is set
+    private boolean hasVictim;
+    private int victimBucket;
+    private char victimFingerprint;
+
+    /**
+     * Initializes a new empty filter.
+     * @param expectedSize expected number of items
+     * @param falsePositiveRate desired false positive rate once {@code expectedSize} items are added
+     */
+    public CuckooFilter(int expectedSize, double falsePositiveRate){
+        if(expectedSize < 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)){
+            throw new IllegalArgumentException(String.format(
+                "Expected size must be non-negative and false positive rate in (0, 1), but were %d and %f.",
+                expectedSize, falsePositiveRate));
+        }
+        // a lookup compares 2 * BUCKET_SIZE fingerprints, each matching with probability 2^-f
+        int bits = (int) Math.ceil(Math.log(2 * BUCKET_SIZE / falsePositiveRate) / Math.log(2));
+        fingerprintBits = Math.max(4, Math.min(Character.SIZE, bits));
+        int buckets = Math.max(2, HashUtil.tableSizeFor(expectedSize, BUCKET_SIZE * LOAD_FACTOR));
+        buckets = Math.min(buckets, HashUtil.MAX_CAPACITY / BUCKET_SIZE);
+        slots = new char[buckets * BUCKET_SIZE];
+        mask = buckets - 1;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    private char fingerprint(int hashCode){
+        int f = HashUtil.mix((long) hashCode) >>> (Integer.SIZE - fingerprintBits);
+        return (char) (f == 0 ? 1 : f);
+    }
+
+    private int bucket(int hashCode){
+        return HashUtil.mix(hashCode) & mask;
+    }
+
+    private int alternateBucket(int bucket, char fingerprint){
+        // an involution: applying it to either bucket of a fingerprint yields the other one
+        return (bucket ^ HashUtil.mix((int) fingerprint)) & mask;
+    }
+
+    @Override
+    public boolean addHash(int hashCode){
+        if(hasVictim) return false;
+        char f = fingerprint(hashCode);
+        int b = bucket(hashCode);
+        if(insert(b, f) || insert(alternateBucket(b, f), f)){
+            n++;
+            return true;
+        }
+
+        // evict a random fingerprint from one of the buckets and move it to its other bucket
+        if((nextRandom() & 1) == 0) b = alternateBucket(b, f);
+        for(int kick = 0; kick < MAX_KICKS; kick++){
+            int slot = b * BUCKET_SIZE + (nextRandom() & (BUCKET_SIZE - 1));
+            char evicted = slots[slot];
+            slots[slot] = f;
+            f = evicted;
+            b = alternateBucket(b, f);
+            if(insert(b, f)){
+                n++;
+                return true;
+            }
+        }
+        // the new item is in the table now, only the last evicted fingerprint is left over
+        hasVictim = true;
+        victimBucket = b;
+        victimFingerprint = f;
+        n++;
+        return true;
+    }
+
+    private boolean insert(int bucket, char fingerprint){
+        int start = bucket * BUCKET_SIZE;
+        for(int i = start; i < start + BUCKET_SIZE; i++){
+            if(slots[i] == 0){
+                slots[i] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int nextRandom(){
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    @Override
+    public boolean mightContainHash(int hashCode){
+        char f = fingerprint(hashCode);
+        int b1 = bucket(hashCode);
+        int b2 = alternateBucket(b1, f);
+        if(hasVictim && victimFingerprint == f && (victimBucket == b1 || victimBucket == b2)) return true;
+        return indexOf(b1, f) >= 0 || indexOf(b2, f) >= 0;
+    }
+
+    private int indexOf(int bucket, char fingerprint){
+        int start = bucket * BUCKET_SIZE;
+        for(int i = start; i < start + BUCKET_SIZE; i++){
+            if(slots[i] == fingerprint) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean removeHash(int hashCode){
+        char f = fingerprint(hashCode);
+        int b1 = bucket(hashCode);
+        int b2 = alternateBucket(b1, f);
+        if(hasVictim && victimFingerprint == f && (victimBucket == b1 || victimBucket == b2)){
+            hasVictim = false;
+            n--;
+            return true;
+        }
+        int slot = indexOf(b1, f);
+        if(slot < 0) slot = indexOf(b2, f);
+        if(slot < 0) return false;
+        slots[slot] = 0;
+        n--;
+
+        // a slot is free now, which may make room for the left over fingerprint
+        if(hasVictim && (insert(victimBucket, victimFingerprint)
+            || insert(alternateBucket(victimBucket, victimFingerprint), victimFingerprint))){
+            hasVictim = false;
+        }
+        return true;
+    }
+
+    @Override
+    public int size(){
+        return n;
+    }
+
+    @Override
+    public double falsePositiveRate(){
+        return falsePositiveRate;
+    }
+}
@@ -0,0 +1,124 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves dictionaries into binary snapshot files and opens them back as read-only
+ * dictionaries that look keys up directly in the memory-mapped file. Opening a snapshot
+ * neither reads nor rehashes its entries, so it takes the same time for any size;
+ * pages of the file are loaded by the operating system as lookups touch them.
+ * <p>A snapshot consists of a 64-byte header followed by the slots of an
+ * {@link OffHeapHashDictionary} table, in little-endian byte order. Keys are placed by
+ * their {@code hashCode()}, which must therefore be the same in every process that opens
+ * the snapshot - as it is for boxed primitives. The header records the names of the
+ * codecs, since codecs of equal width, such as {@link Codec#INT} and {@link Codec#FLOAT},
+ * would otherwise read each other's snapshots and place keys by the wrong hash codes.</p>
+ */
+public final class DictionarySnapshot{
+    private static final int MAGIC = 0x48445331; // "HDS1"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private DictionarySnapshot(){}
+
+    /**
+     * Writes all key/value pairs of a dictionary into a snapshot file, replacing the file if it exists.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param dictionary dictionary to save
+     * @param file snapshot file
+     * @param keyCodec codec of keys
+     * @param valueCodec codec of values
+     * @throws IOException if the file cannot be written
+     */
+    public static <K, V> void save(Dictionary<K, V> dictionary, Path file, Codec<K> keyCodec, Codec<V> valueCodec)
+        throws IOException{
+        int size = dictionary.size();
+        int capacity = OffHeapHashDictionary.capacityFor(size);
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            ByteBuffer[] pages = map(channel, FileChannel.MapMode.READ_WRITE, keyCodec, valueCodec, capacity);
+            // the table is sized for all keys up front, so it fills the mapped pages without resizing
+            Dictionary<K, V> table = new OffHeapHashDictionary<>(keyCodec, valueCodec, pages, capacity, 0, false);
+            dictionary.forEach(table::add);
+            for(ByteBuffer page : pages) ((MappedByteBuffer) page).force();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(BYTE_ORDER);
+            header.putInt(MAGIC)
+                  .putInt(VERSION)
+                  .putInt(keyCodec.width())
+                  .putInt(valueCodec.width())
+                  .putInt(table.size())
+                  .putInt(capacity)
+                  .putInt(keyCodec.name().hashCode())
+                  .putInt(valueCodec.name().hashCode());
+            header.clear();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Opens a snapshot file as a read-only dictionary backed by the memory-mapped file.
+     * The file may be closed or deleted afterwards; the mapping stays valid until the
+     * dictionary is garbage collected.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param file snapshot file
+     * @param keyCodec codec of keys, the same as used to save the snapshot
+     * @param valueCodec codec of values, the same as used to save the snapshot
+     * @return read-only dictionary; its update methods throw {@link UnsupportedOperationException}
+     * @throws IOException if the file cannot be read or is not a snapshot
+     * @throws IllegalArgumentException if the codecs do not match the ones used to save the snapshot
+     */
+    public static <K, V> Dictionary<K, V> open(Path file, Codec<K> keyCodec, Codec<V> valueCodec) throws IOException{
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(BYTE_ORDER);
+            while(header.hasRemaining() && channel.read(header) >= 0);
+            header.flip();
+            if(header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION){
+                throw new IOException(String.format("File '%s' is not a dictionary snapshot.", file));
+            }
+            int keyWidth = header.getInt();
+            int valueWidth = header.getInt();
+            if(keyWidth != keyCodec.width() || valueWidth != valueCodec.width()){
+                throw new IllegalArgumentException(String.format(
+                    "Snapshot stores %d-byte keys and %d-byte values, but codecs are %d and %d bytes wide.",
+                    keyWidth, valueWidth, keyCodec.width(), valueCodec.width()));
+            }
+            int size = header.getInt();
+            int capacity = header.getInt();
+            long expectedBytes = HEADER_BYTES + (long) capacity * OffHeapHashDictionary.slotWidth(keyCodec, valueCodec);
+            if(Integer.bitCount(capacity) != 1 || size < 0 || size > capacity || channel.size() != expectedBytes){
+                throw new IOException(String.format("Snapshot '%s' is corrupt.", file));
+            }
+            if(header.getInt() != keyCodec.name().hashCode() || header.getInt() != valueCodec.name().hashCode()){
+                throw new IllegalArgumentException(String.format(
+                    "Snapshot was not saved with codecs '%s' and '%s'.", keyCodec.name(), valueCodec.name()));
+            }
+            ByteBuffer[] pages = map(channel, FileChannel.MapMode.READ_ONLY, keyCodec, valueCodec, capacity);
+            return new OffHeapHashDictionary<>(keyCodec, valueCodec, pages, capacity, size, true);
+        }
+    }
+
+    // maps the slot table that follows the header, one buffer per page
+    private static ByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode,
+        Codec<?> keyCodec, Codec<?> valueCodec, int capacity) throws IOException{
+        int slotWidth = OffHeapHashDictionary.slotWidth(keyCodec, valueCodec);
+        int pageSlots = Math.min(capacity, OffHeapHashDictionary.slotsPerPage(slotWidth));
+        long pageBytes = (long) pageSlots * slotWidth;
+        ByteBuffer[] pages = new ByteBuffer[capacity / pageSlots];
+        for(int i = 0; i < pages.length; i++){
+            pages[i] = channel.map(mode, HEADER_BYTES + i * pageBytes, pageBytes).order(BYTE_ORDER);
+        }
+        return pages;
+    }
+}
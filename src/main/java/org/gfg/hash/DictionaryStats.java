@@ -0,0 +1,122 @@
+package org.gfg.hash;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the shape and operation counters of a hash table, used to diagnose
+ * poor hash quality and expensive resizing. Chain lengths describe the table at the
+ * time the snapshot was taken. Probe counts and resize counters cover the operations
+ * performed since statistics were enabled on the table.
+ * <p>For chained tables a chain is the list of entries in one bucket. For open-addressing
+ * tables it is a run of consecutive occupied slots, which every probe that starts inside
+ * the run may have to scan.</p>
+ */
+public final class DictionaryStats{
+    /**
+     * Number of buckets in {@link #probeHistogram()}; the last bucket counts lookups
+     * that needed this many probes or more.
+     */
+    public static final int HISTOGRAM_SIZE = 17;
+
+    private final int size;
+    private final int capacity;
+    private final int maxChainLength;
+    private final double averageChainLength;
+    private final long[] probeHistogram;
+    private final int resizeCount;
+    private final long resizeNanos;
+
+    DictionaryStats(int size, int capacity, int maxChainLength, double averageChainLength, StatsRecorder recorder){
+        this.size = size;
+        this.capacity = capacity;
+        this.maxChainLength = maxChainLength;
+        this.averageChainLength = averageChainLength;
+        this.probeHistogram = recorder != null ? recorder.probeHistogram.clone() : new long[HISTOGRAM_SIZE];
+        this.resizeCount = recorder != null ? recorder.resizeCount : 0;
+        this.resizeNanos = recorder != null ? recorder.resizeNanos : 0;
+    }
+
+    /**
+     * Returns number of keys stored in the table.
+     * @return number of keys
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Returns number of buckets (or slots) in the table.
+     * @return table capacity
+     */
+    public int capacity(){
+        return capacity;
+    }
+
+    /**
+     * Returns ratio of stored keys to table capacity.
+     * @return load factor
+     */
+    public double loadFactor(){
+        return capacity == 0 ? 0 : (double) size / capacity;
+    }
+
+    /**
+     * Returns length of the longest chain.
+     * @return maximum chain length
+     */
+    public int maxChainLength(){
+        return maxChainLength;
+    }
+
+    /**
+     * Returns average length of non-empty chains. Close to 1 for a well-spread table.
+     * @return average chain length
+     */
+    public double averageChainLength(){
+        return averageChainLength;
+    }
+
+    /**
+     * Returns histogram of lookups by number of keys compared: element {@code i} counts
+     * lookups that compared {@code i} keys.
+     * @return copy of the probe histogram
+     */
+    public long[] probeHistogram(){
+        return probeHistogram.clone();
+    }
+
+    /**
+     * Returns number of lookups recorded in the probe histogram.
+     * @return number of lookups
+     */
+    public long lookupCount(){
+        long count = 0;
+        for(long c : probeHistogram) count += c;
+        return count;
+    }
+
+    /**
+     * Returns number of times the table was resized.
+     * @return resize count
+     */
+    public int resizeCount(){
+        return resizeCount;
+    }
+
+    /**
+     * Returns total time spent resizing, including incremental migration steps.
+     * @return cumulative resize time in nanoseconds
+     */
+    public long resizeNanos(){
+        return resizeNanos;
+    }
+
+    @Override
+    public String toString(){
+        return String.format(
+            "size=%d, capacity=%d, loadFactor=%.3f, maxChainLength=%d, averageChainLength=%.3f, " +
+            "probeHistogram=%s, resizeCount=%d, resizeMillis=%.3f",
+            size, capacity, loadFactor(), maxChainLength, averageChainLength,
+            Arrays.toString(probeHistogram), resizeCount, resizeNanos / 1e6);
+    }
+}
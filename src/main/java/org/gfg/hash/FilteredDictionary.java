@@ -0,0 +1,134 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * {@link Dictionary} decorator that keeps a {@link MembershipFilter} of its keys in front of
+ * another dictionary. Lookups of keys the filter rules out return without touching the
+ * underlying dictionary, which pays off when most lookups miss and the filter is much
+ * smaller than the dictionary. Keys must not be added to or removed from the underlying
+ * dictionary other than through this decorator.
+ * <p>Deleted keys stay in filters that do not support removal, so a dictionary with many
+ * deletions gradually loses the benefit of the filter. If the filter is full, filtering is
+ * switched off and every lookup goes to the underlying dictionary.</p>
+ * @param <K> type of keys stored in this dictionary
+ * @param <V> type of values stored in this dictionary
+ */
+public class FilteredDictionary<K, V> implements Dictionary<K, V>{
+    private final Dictionary<K, V> dictionary;
+    private final MembershipFilter<? super K> filter;
+    private boolean bypass; // set once the filter failed to accept a key
+
+    /**
+     * Initializes a new filtered view of a dictionary. Keys already present in the
+     * dictionary are added to the filter.
+     * @param dictionary underlying dictionary
+     * @param filter empty filter sized for the expected number of keys
+     */
+    public FilteredDictionary(Dictionary<K, V> dictionary, MembershipFilter<? super K> filter){
+        this.dictionary = dictionary;
+        this.filter = filter;
+        Cursor<K, V> cursor = dictionary.cursor();
+        while(cursor.next()) addToFilter(cursor.key());
+    }
+
+    /**
+     * Initializes a new filtered view of a dictionary, using a Bloom filter with a given
+     * false positive rate.
+     * @param dictionary underlying dictionary
+     * @param expectedSize expected number of keys
+     * @param falsePositiveRate desired false positive rate of the filter
+     */
+    public FilteredDictionary(Dictionary<K, V> dictionary, int expectedSize, double falsePositiveRate){
+        this(dictionary, new BloomFilter<K>(expectedSize, falsePositiveRate));
+    }
+
+    private void addToFilter(K key){
+        if(!bypass && !filter.add(key)) bypass = true;
+    }
+
+    private boolean mightContain(K key){
+        return bypass || filter.mightContain(key);
+    }
+
+    /**
+     * Returns the filter in front of the underlying dictionary.
+     * @return membership filter of the keys
+     */
+    public MembershipFilter<? super K> filter(){
+        return filter;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return mightContain(key) && dictionary.containsKey(key);
+    }
+
+    @Override
+    public V get(K key) {
+        if(!mightContain(key)){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return dictionary.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        return mightContain(key) ? dictionary.getOrDefault(key, defaultValue) : defaultValue;
+    }
+
+    @Override
+    public void add(K key, V value) {
+        if(!containsKey(key)) addToFilter(key);
+        dictionary.add(key, value);
+    }
+
+    @Override
+    public V delete(K key) {
+        if(!mightContain(key)){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        V value = dictionary.delete(key);
+        if(!bypass) filter.remove(key);
+        return value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if(!containsKey(key)){
+            addToFilter(key);
+            dictionary.add(key, value);
+            return null;
+        }
+        return dictionary.get(key);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if(!containsKey(key)) addToFilter(key);
+        return dictionary.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if(!containsKey(key)) addToFilter(key);
+        return dictionary.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public int size() {
+        return dictionary.size();
+    }
+
+    @Override
+    public List<K> keys() {
+        return dictionary.keys();
+    }
+
+    @Override
+    public Cursor<K, V> cursor() {
+        return dictionary.cursor();
+    }
+}
@@ -0,0 +1,233 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable {@link Dictionary} optimized for lookups in key sets that are written once
+ * and then read many times. All entries are supplied up front through a {@link Builder},
+ * which sizes an open-addressing table exactly for them. Keys, values and the mixed hash
+ * codes of keys are kept in flat parallel arrays, so a lookup reads a few consecutive
+ * array slots and calls {@code equals} only on keys whose cached hash matches.
+ * Update methods throw {@link UnsupportedOperationException}.
+ * Null keys are not permitted.
+ * @param <K> type of keys stored in this dictionary
+ * @param <V> type of values stored in this dictionary
+ */
+public final class FrozenDictionary<K, V> implements Dictionary<K, V>{
+    // a sparser table than the growable dictionaries use, since it is never resized
+    private static final double LOAD_FACTOR = 0.5;
+
+    /**
+     * Collects entries for a {@link FrozenDictionary}. If a key is added more than
+     * once, the last value wins.
+     * @param <K> type of keys
+     * @param <V> type of values
+     */
+    public static final class Builder<K, V>{
+        private final List<K> keys;
+        private final List<V> values;
+
+        /**
+         * Initializes a new empty builder.
+         */
+        public Builder(){
+            this(16);
+        }
+
+        /**
+         * Initializes a new empty builder with room for {@code expectedSize} entries.
+         * @param expectedSize expected number of entries
+         */
+        public Builder(int expectedSize){
+            keys = new ArrayList<>(expectedSize);
+            values = new ArrayList<>(expectedSize);
+        }
+
+        /**
+         * Adds a key/value pair.
+         * @param key input key
+         * @param value input value
+         * @return this builder
+         */
+        public Builder<K, V> add(K key, V value){
+            keys.add(Objects.requireNonNull(key));
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Adds all key/value pairs of a dictionary.
+         * @param dictionary input dictionary
+         * @return this builder
+         */
+        public Builder<K, V> addAll(Dictionary<? extends K, ? extends V> dictionary){
+            dictionary.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Builds an immutable dictionary of the entries added so far.
+         * @return frozen dictionary
+         */
+        public FrozenDictionary<K, V> build(){
+            return new FrozenDictionary<>(keys, values);
+        }
+    }
+
+    private final int n; // number of distinct keys
+    private final int mask; // table size minus one; table size is always a power of two
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+
+    private FrozenDictionary(List<K> keyList, List<V> valueList){
+        int tableSize = Math.max(2, HashUtil.tableSizeFor(keyList.size(), LOAD_FACTOR));
+        keys = new Object[tableSize];
+        values = new Object[tableSize];
+        hashes = new int[tableSize];
+        mask = tableSize - 1;
+        int count = 0;
+        for(int i = 0; i < keyList.size(); i++){
+            K key = keyList.get(i);
+            int hash = HashUtil.mix(key.hashCode());
+            int slot = findSlot(key, hash);
+            if(slot < 0){
+                slot = ~slot;
+                keys[slot] = key;
+                hashes[slot] = hash;
+                count++;
+            }
+            values[slot] = valueList.get(i);
+        }
+        n = count;
+    }
+
+    /**
+     * Returns a frozen copy of a dictionary.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param dictionary input dictionary
+     * @return frozen dictionary with the same entries
+     */
+    public static <K, V> FrozenDictionary<K, V> copyOf(Dictionary<K, V> dictionary){
+        return new Builder<K, V>(dictionary.size()).addAll(dictionary).build();
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(Object key, int hash){
+        int i = hash & mask;
+        while(true){
+            Object k = keys[i];
+            if(k == null) return ~i;
+            if(hashes[i] == hash && (k == key || k.equals(key))) return i;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private int findSlot(Object key){
+        return findSlot(key, HashUtil.mix(key.hashCode()));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int slot = findSlot(key);
+        if(slot < 0){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return (V) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<K> keys() {
+        List<K> list = new ArrayList<>(n);
+        for(Object key : keys){
+            if(key != null) list.add((K) key);
+        }
+        return list;
+    }
+
+    @Override
+    public Cursor<K, V> cursor() {
+        return new Cursor<K, V>(){
+            private int slot = -1;
+
+            @Override
+            public boolean next(){
+                while(++slot < keys.length){
+                    if(keys[slot] != null) return true;
+                }
+                return false;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public K key(){
+                return (K) keys[slot];
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V value(){
+                return (V) values[slot];
+            }
+
+            @Override
+            public void reset(){
+                slot = -1;
+            }
+        };
+    }
+
+    private static UnsupportedOperationException readOnly(){
+        return new UnsupportedOperationException("Dictionary is read-only.");
+    }
+
+    @Override
+    public void add(K key, V value) {
+        throw readOnly();
+    }
+
+    @Override
+    public V delete(K key) {
+        throw readOnly();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw readOnly();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw readOnly();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw readOnly();
+    }
+}
@@ -1,126 +1,587 @@
 package org.gfg.hash;
 
 import org.gfg.Dictionary;
+import org.gfg.bst.AvlTree;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 /**
- * Implements {@link Dictionary} interface using a hash table. 
- * Keys shall provide their own hash code and equals logic by overriding 
+ * Implements {@link Dictionary} interface using a hash table.
+ * Keys shall provide their own hash code and equals logic by overriding
  * {@code hashCode()} and {@code equals(Object obj)} methods.
+ * Every operation hashes its key once and scans the corresponding bucket once.
+ * <p>The table size is always a power of two and buckets are selected by the low bits of
+ * the hash computed by a {@link HashStrategy} (murmur-style mixing by default). When a bucket 
+ * chain grows beyond {@value #TREEIFY_THRESHOLD} entries and its keys are {@link Comparable},
+ * the bucket is turned into a balanced tree ordered by hash and then by {@code compareTo},
+ * so even keys with identical hash codes are found in logarithmic time. Such keys must have
+ * {@code compareTo} consistent with {@code equals}.</p>
+ * See {@link ResizeMode} for how the table is rehashed when it grows or shrinks.
+ * <p>The table grows (doubles) when its load factor exceeds the maximum load factor and
+ * shrinks (halves) when it drops below the minimum load factor, but never below its initial
+ * capacity. The maximum load factor must be at least three times the minimum one, so
+ * that after every resize the table is at least a third of the way away from both
+ * thresholds and a number of operations proportional to its size is needed before the
+ * next resize - alternating adds and deletes near a threshold cannot cause repeated rehashing.</p>
  * @param <K> type of keys stored in this hash table
  * @param <V> type of values stored in this hash table
  */
 public class HashDictionary<K, V> implements Dictionary<K, V>{
-    private class KeyValuePair{
-        public K key;
+    /**
+     * Determines how entries are moved to a new table when the hash table is resized.
+     */
+    public enum ResizeMode{
+        /**
+         * All entries are rehashed at once by the operation that triggers the resize.
+         * Gives the best throughput, but that single operation takes time proportional
+         * to the size of the dictionary.
+         */
+        STOP_THE_WORLD,
+        /**
+         * Old and new tables are kept side by side and every subsequent update migrates
+         * a bounded number of buckets from the old table to the new one, so no single
+         * operation pays for the whole rehash.
+         */
+        INCREMENTAL
+    }
+
+    private static class Entry<K, V> implements Dictionary.Entry<K, V>, Comparable<Entry<K, V>>{
+        public final K key;
+        public final int hashCode; // cached key hash, so resizing and lookups skip hashing
         public V value;
-        public KeyValuePair(K key, V value){
-            this.key = key; 
+        public Entry<K, V> next;
+        public Entry(K key, int hashCode, V value){
+            this.key = key;
+            this.hashCode = hashCode;
             this.value = value;
         }
 
         @Override
-        @SuppressWarnings("unchecked")
-        public boolean equals(Object obj){
-            if(obj == null || !(obj instanceof HashDictionary.KeyValuePair)) return false;
-            KeyValuePair other = (KeyValuePair) obj;
-            return other.key.equals(this.key);
+        public K getKey(){
+            return key;
+        }
+
+        @Override
+        public V getValue(){
+            return value;
+        }
+
+        // only called for entries of a tree bin, whose keys are mutually comparable
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(Entry<K, V> other){
+            if(hashCode != other.hashCode) return Integer.compare(hashCode, other.hashCode);
+            return ((Comparable) key).compareTo(other.key);
         }
     }
 
+    /*
+        Bucket head that replaces an overly long chain. Keys of the class that the bin was
+        created for are kept in an AVL tree; keys of any other class cannot be ordered
+        against them and go to a plain overflow chain.
+    */
+    private static final class TreeBin<K, V> extends Entry<K, V>{
+        private final Class<?> keyClass;
+        private final AvlTree<Entry<K, V>> tree = new AvlTree<>();
+        private Entry<K, V> overflow;
+        private int overflowSize;
+
+        public TreeBin(Class<?> keyClass){
+            super(null, 0, null);
+            this.keyClass = keyClass;
+        }
+
+        private boolean isOrdered(Object key){
+            return key.getClass() == keyClass;
+        }
+
+        public Entry<K, V> find(K key, int hashCode){
+            if(isOrdered(key)){
+                Entry<K, V> probe = new Entry<>(key, hashCode, null);
+                Entry<K, V> entry = tree.ceil(probe);
+                return entry != null && entry.compareTo(probe) == 0 ? entry : null;
+            }
+            for(Entry<K, V> entry = overflow; entry != null; entry = entry.next){
+                if(entry.hashCode == hashCode && entry.key.equals(key)) return entry;
+            }
+            return null;
+        }
+
+        public void add(Entry<K, V> entry){
+            if(isOrdered(entry.key)){
+                tree.add(entry);
+            }else{
+                entry.next = overflow;
+                overflow = entry;
+                overflowSize++;
+            }
+        }
+
+        public Entry<K, V> remove(K key, int hashCode){
+            Entry<K, V> entry = find(key, hashCode);
+            if(entry == null) return null;
+            if(isOrdered(key)){
+                tree.remove(entry);
+            }else{
+                if(overflow == entry){
+                    overflow = entry.next;
+                }else{
+                    Entry<K, V> prev = overflow;
+                    while(prev.next != entry) prev = prev.next;
+                    prev.next = entry.next;
+                }
+                overflowSize--;
+            }
+            return entry;
+        }
+
+        public int size(){
+            return tree.size() + overflowSize;
+        }
+
+        public List<Entry<K, V>> entries(){
+            List<Entry<K, V>> entries = tree.toList();
+            for(Entry<K, V> entry = overflow; entry != null; entry = entry.next) entries.add(entry);
+            return entries;
+        }
+
+        public Entry<K, V> toChain(){
+            List<Entry<K, V>> entries = entries();
+            for(int i = 0; i < entries.size(); i++){
+                entries.get(i).next = i + 1 < entries.size() ? entries.get(i + 1) : null;
+            }
+            return entries.isEmpty() ? null : entries.get(0);
+        }
+    }
+
+    // number of old buckets moved to the new table per update during an incremental resize
+    private static final int MIGRATION_BATCH = 16;
+    // chains longer than this are turned into tree bins, which turn back into chains at or below UNTREEIFY_THRESHOLD
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_MIN_LOAD_FACTOR = 0.25;
+    private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
+
     private int n; // number of keys currently stored in the hash table
-    private int m = 1; // initial size of the hash table
-    private List<LinkedList<KeyValuePair>> hashTable;
-    
-    private final double maxLoadFactor = 0.75;
-    private final double minLoadFactor = 0.25;
+    private int m; // size of the hash table
+    private int minCapacity; // the table never shrinks below this size
+    private Entry<K, V>[] hashTable;
+    private final ResizeMode resizeMode;
+    private final HashStrategy hashStrategy;
+    private StatsRecorder stats; // null unless statistics are enabled
+
+    // table being migrated during an incremental resize, null otherwise;
+    // its buckets below migrationIndex have already been moved to hashTable
+    private Entry<K, V>[] oldHashTable;
+    private int migrationIndex;
+
+    private final double maxLoadFactor;
+    private final double minLoadFactor;
 
     private double loadFactor(){
         return (double) n / m;
     }
 
     public HashDictionary(){
+        this(ResizeMode.STOP_THE_WORLD);
+    }
+
+    /**
+     * Initializes a new empty hash table that resizes according to the given mode.
+     * @param resizeMode how entries are rehashed when the table grows or shrinks
+     */
+    public HashDictionary(ResizeMode resizeMode){
+        this(0, DEFAULT_MIN_LOAD_FACTOR, DEFAULT_MAX_LOAD_FACTOR, resizeMode);
+    }
+
+    /**
+     * Initializes a new empty hash table that places keys according to the given hash strategy.
+     * @param hashStrategy strategy computing hash codes of keys
+     */
+    public HashDictionary(HashStrategy hashStrategy){
+        this(0, DEFAULT_MIN_LOAD_FACTOR, DEFAULT_MAX_LOAD_FACTOR, ResizeMode.STOP_THE_WORLD, hashStrategy);
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize} keys 
+     * without resizing. The table never shrinks below this initial capacity.
+     * @param expectedSize expected number of keys
+     */
+    public HashDictionary(int expectedSize){
+        this(expectedSize, DEFAULT_MIN_LOAD_FACTOR, DEFAULT_MAX_LOAD_FACTOR, ResizeMode.STOP_THE_WORLD);
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize} keys 
+     * without resizing, using custom load factor thresholds.
+     * @param expectedSize expected number of keys
+     * @param minLoadFactor load factor below which the table shrinks, 0 to never shrink
+     * @param maxLoadFactor load factor above which the table grows
+     * @throws IllegalArgumentException if {@code maxLoadFactor} is not positive or is less
+     * than three times {@code minLoadFactor}
+     */
+    public HashDictionary(int expectedSize, double minLoadFactor, double maxLoadFactor){
+        this(expectedSize, minLoadFactor, maxLoadFactor, ResizeMode.STOP_THE_WORLD);
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize} keys 
+     * without resizing, using custom load factor thresholds and resize mode.
+     * @param expectedSize expected number of keys
+     * @param minLoadFactor load factor below which the table shrinks, 0 to never shrink
+     * @param maxLoadFactor load factor above which the table grows
+     * @param resizeMode how entries are rehashed when the table grows or shrinks
+     * @throws IllegalArgumentException if {@code maxLoadFactor} is not positive or is less
+     * than three times {@code minLoadFactor}
+     */
+    public HashDictionary(int expectedSize, double minLoadFactor, double maxLoadFactor, ResizeMode resizeMode){
+        this(expectedSize, minLoadFactor, maxLoadFactor, resizeMode, HashStrategy.murmur());
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize} keys 
+     * without resizing, using custom load factor thresholds, resize mode and hash strategy.
+     * @param expectedSize expected number of keys
+     * @param minLoadFactor load factor below which the table shrinks, 0 to never shrink
+     * @param maxLoadFactor load factor above which the table grows
+     * @param resizeMode how entries are rehashed when the table grows or shrinks
+     * @param hashStrategy strategy computing hash codes of keys
+     * @throws IllegalArgumentException if {@code maxLoadFactor} is not positive or is less
+     * than three times {@code minLoadFactor}
+     */
+    public HashDictionary(int expectedSize, double minLoadFactor, double maxLoadFactor, 
+        ResizeMode resizeMode, HashStrategy hashStrategy){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        if(!(maxLoadFactor > 0) || !(minLoadFactor >= 0) || maxLoadFactor < 3 * minLoadFactor){
+            throw new IllegalArgumentException(String.format(
+                "Load factors must satisfy 0 < maxLoadFactor and 0 <= 3 * minLoadFactor <= maxLoadFactor, but were %f and %f.",
+                minLoadFactor, maxLoadFactor));
+        }
+        this.minLoadFactor = minLoadFactor;
+        this.maxLoadFactor = maxLoadFactor;
+        this.resizeMode = Objects.requireNonNull(resizeMode);
+        this.hashStrategy = Objects.requireNonNull(hashStrategy);
+        m = minCapacity = Math.max(DEFAULT_CAPACITY, capacityFor(expectedSize));
         hashTable = initHashTable(m);
     }
 
+    private int capacityFor(int size){
+        return HashUtil.tableSizeFor(size, maxLoadFactor);
+    }
+
+    /**
+     * Grows the hash table if necessary so that it can hold at least {@code expectedSize}
+     * keys without further resizing.
+     * @param expectedSize number of keys the table should accommodate
+     */
+    public void ensureCapacity(int expectedSize){
+        int capacity = capacityFor(expectedSize);
+        if(capacity > m){
+            m = capacity;
+            resizeHashTable();
+        }
+    }
+
+    /**
+     * Shrinks the hash table to the smallest size that holds the current keys without
+     * exceeding the maximum load factor, and lets it shrink down to that size from now on.
+     */
+    public void trimToSize(){
+        int capacity = capacityFor(n);
+        minCapacity = capacity;
+        if(capacity < m){
+            m = capacity;
+            resizeHashTable();
+        }
+    }
+
     private void doubleHashTable(){
+        if(m == HashUtil.MAX_CAPACITY) return;
         m *= 2;
         resizeHashTable();
     }
 
     private void shrinkHashTable(){
-        m /= 2;
+        m = Math.max(minCapacity, m / 2);
         resizeHashTable();
     }
 
     private void resizeHashTable(){
-        List<LinkedList<KeyValuePair>> newHashTable = initHashTable(m);
-        for(LinkedList<KeyValuePair> bucket : hashTable){
-            for(KeyValuePair keyValuePair : bucket){
-                addToHashTable(keyValuePair, newHashTable, m);
+        long start = stats != null ? System.nanoTime() : 0;
+        if(oldHashTable != null) migrateBuckets(oldHashTable.length);
+        oldHashTable = hashTable;
+        migrationIndex = 0;
+        hashTable = initHashTable(m);
+        if(resizeMode == ResizeMode.STOP_THE_WORLD) migrateBuckets(oldHashTable.length);
+        if(stats != null) stats.recordResize(start);
+    }
+
+    /*
+        Moves up to 'count' buckets of the old table into the new one. Entries are appended
+        to the tails of the new buckets, so migration preserves their relative order.
+    */
+    @SuppressWarnings("unchecked")
+    private void migrateBuckets(int count){
+        int end = Math.min(oldHashTable.length, migrationIndex + count);
+        for(; migrationIndex < end; migrationIndex++){
+            Entry<K, V> entry = oldHashTable[migrationIndex];
+            oldHashTable[migrationIndex] = null;
+            if(entry instanceof TreeBin){
+                for(Entry<K, V> treeEntry : ((TreeBin<K, V>) entry).entries()) moveEntry(treeEntry);
+                continue;
+            }
+            while(entry != null){
+                Entry<K, V> next = entry.next;
+                moveEntry(entry);
+                entry = next;
             }
         }
-        hashTable = newHashTable;
+        if(migrationIndex == oldHashTable.length) oldHashTable = null;
     }
 
-    private int computeHash(K key, int tableSize){
-        // get rid of the key's hash code sign bit before computing MOD
-        return (key.hashCode() & 0x7FFFFFFF) % tableSize;
+    private void moveEntry(Entry<K, V> entry){
+        entry.next = null;
+        appendEntry(hashTable, computeHash(entry.hashCode, m), entry);
     }
 
-    private void addToHashTable(KeyValuePair keyValuePair, List<LinkedList<KeyValuePair>> hashTable, int tableSize){
-        int hash = computeHash(keyValuePair.key, tableSize);
-        hashTable.get(hash).addLast(keyValuePair);
+    /*
+        Appends an entry to the end of a bucket, turning the bucket into 
+        a tree bin once its chain grows too long.
+    */
+    @SuppressWarnings("unchecked")
+    private void appendEntry(Entry<K, V>[] table, int index, Entry<K, V> entry){
+        Entry<K, V> tail = table[index];
+        if(tail == null){
+            table[index] = entry;
+            return;
+        }
+        if(tail instanceof TreeBin){
+            ((TreeBin<K, V>) tail).add(entry);
+            return;
+        }
+        int length = 1;
+        while(tail.next != null){
+            tail = tail.next;
+            length++;
+        }
+        tail.next = entry;
+        if(length + 1 > TREEIFY_THRESHOLD) treeify(table, index);
+    }
+
+    private void treeify(Entry<K, V>[] table, int index){
+        Entry<K, V> entry = table[index];
+        // keys that cannot be ordered stay in the chain
+        if(!(entry.key instanceof Comparable)) return;
+        TreeBin<K, V> bin = new TreeBin<>(entry.key.getClass());
+        while(entry != null){
+            Entry<K, V> next = entry.next;
+            entry.next = null;
+            bin.add(entry);
+            entry = next;
+        }
+        table[index] = bin;
+    }
+
+    private void beforeUpdate(){
+        if(oldHashTable == null) return;
+        long start = stats != null ? System.nanoTime() : 0;
+        migrateBuckets(MIGRATION_BATCH);
+        if(stats != null) stats.recordMigration(start);
+    }
+
+    private int hash(K key){
+        return hashStrategy.hash(key);
+    }
+
+    private int computeHash(int hashCode, int tableSize){
+        // table size is a power of two, so masking selects the low bits of the hash
+        return hashCode & (tableSize - 1);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Entry<K, V>[] initHashTable(int tableSize){
+        return (Entry<K, V>[]) new Entry[tableSize];
     }
 
-    private List<LinkedList<KeyValuePair>> initHashTable(int tableSize){
-        List<LinkedList<HashDictionary<K, V>.KeyValuePair>> newHashTable = new ArrayList<>();
-        for(int i = 0; i < tableSize; i++) {
-            newHashTable.add(new LinkedList<>());
+    /**
+     * Returns the table that currently holds the bucket for a given hash code:
+     * the old table while that bucket awaits migration, the new table otherwise.
+     */
+    private Entry<K, V>[] tableFor(int hashCode){
+        if(oldHashTable != null && computeHash(hashCode, oldHashTable.length) >= migrationIndex){
+            return oldHashTable;
         }
-        return newHashTable;
+        return hashTable;
+    }
+
+    private boolean matches(Entry<K, V> entry, K key, int hashCode){
+        return entry.hashCode == hashCode && (entry.key == key || entry.key.equals(key));
+    }
+
+    private Entry<K, V> findEntry(K key, int hashCode){
+        Entry<K, V> entry = findEntryOrTail(key, hashCode);
+        return entry != null && matches(entry, key, hashCode) ? entry : null;
+    }
+
+    /**
+     * Scans the key's bucket once. Returns the entry holding the key if present,
+     * otherwise the last entry of the bucket (null if the bucket is empty or a tree bin),
+     * which is where a new entry for the key gets appended. Lookups write nothing to the
+     * dictionary; the probe count is only recorded if statistics are enabled.
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> findEntryOrTail(K key, int hashCode){
+        Entry<K, V>[] table = tableFor(hashCode);
+        Entry<K, V> entry = table[computeHash(hashCode, table.length)];
+        int probes = 0;
+        if(entry instanceof TreeBin){
+            TreeBin<K, V> bin = (TreeBin<K, V>) entry;
+            // a tree lookup compares about as many keys as the tree is high
+            probes = 32 - Integer.numberOfLeadingZeros(bin.size());
+            entry = bin.find(key, hashCode);
+        }else if(entry != null){
+            probes = 1;
+            while(!matches(entry, key, hashCode) && entry.next != null){
+                entry = entry.next;
+                probes++;
+            }
+        }
+        if(stats != null) stats.recordProbes(probes);
+        return entry;
+    }
+
+    // number of entries in a chain, counted no further than needed to tell whether it exceeds TREEIFY_THRESHOLD
+    private static int chainLength(Entry<?, ?> entry){
+        int length = 0;
+        while(entry != null && length <= TREEIFY_THRESHOLD){
+            length++;
+            entry = entry.next;
+        }
+        return length;
+    }
+
+    private void addEntry(Entry<K, V> tail, K key, int hashCode, V value){
+        if(loadFactor() > maxLoadFactor){
+            doubleHashTable();
+            tail = findEntryOrTail(key, hashCode);
+        }
+
+        Entry<K, V> entry = new Entry<>(key, hashCode, value);
+        Entry<K, V>[] table = tableFor(hashCode);
+        int index = computeHash(hashCode, table.length);
+        if(tail == null){
+            appendEntry(table, index, entry);
+        }else{
+            tail.next = entry;
+            if(chainLength(table[index]) > TREEIFY_THRESHOLD) treeify(table, index);
+        }
+        n++;
     }
 
     @Override
     public boolean containsKey(K key) {
-        int hash = computeHash(key, m);
-        return hashTable.get(hash).contains(new KeyValuePair(key, null));
+        return findEntry(key, hash(key)) != null;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public V delete(K key) {
-        ensureKeyExists(key);
-        int hash = computeHash(key, m);
-        KeyValuePair keyValuePair = findKeyValuePair(hashTable.get(hash), key);
-        hashTable.get(hash).remove(keyValuePair);
+        beforeUpdate();
+        int hashCode = hash(key);
+        Entry<K, V>[] table = tableFor(hashCode);
+        int hash = computeHash(hashCode, table.length);
+        Entry<K, V> entry = table[hash];
+        if(entry instanceof TreeBin){
+            TreeBin<K, V> bin = (TreeBin<K, V>) entry;
+            entry = bin.remove(key, hashCode);
+            ensureKeyExists(entry, key);
+            if(bin.size() <= UNTREEIFY_THRESHOLD) table[hash] = bin.toChain();
+        }else{
+            Entry<K, V> prev = null;
+            while(entry != null && !matches(entry, key, hashCode)){
+                prev = entry;
+                entry = entry.next;
+            }
+            ensureKeyExists(entry, key);
+
+            if(prev == null) table[hash] = entry.next;
+            else prev.next = entry.next;
+        }
         n--;
 
-        if(loadFactor() < minLoadFactor){
+        if(loadFactor() < minLoadFactor && m > minCapacity){
             shrinkHashTable();
         }
 
-        return keyValuePair.value;
+        return entry.value;
     }
 
     @Override
     public void add(K key, V value) {
-        if(loadFactor() > maxLoadFactor){
-            doubleHashTable();
+        beforeUpdate();
+        int hashCode = hash(key);
+        Entry<K, V> entry = findEntryOrTail(key, hashCode);
+        if(entry != null && matches(entry, key, hashCode)){
+            entry.value = value;
+        }else{
+            addEntry(entry, key, hashCode, value);
         }
+    }
 
-        if(containsKey(key)){
-            delete(key);
-        }
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = findEntry(key, hash(key));
+        ensureKeyExists(entry, key);
+        return entry.value;
+    }
 
-        addToHashTable(new KeyValuePair(key, value), hashTable, m);
-        n++;
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Entry<K, V> entry = findEntry(key, hash(key));
+        return entry != null ? entry.value : defaultValue;
     }
 
     @Override
-    public V get(K key) {
-        ensureKeyExists(key);
-        int hash = computeHash(key, m);
-        return findKeyValuePair(hashTable.get(hash), key).value;
+    public V putIfAbsent(K key, V value) {
+        beforeUpdate();
+        int hashCode = hash(key);
+        Entry<K, V> entry = findEntryOrTail(key, hashCode);
+        if(entry != null && matches(entry, key, hashCode)) return entry.value;
+        addEntry(entry, key, hashCode, value);
+        return null;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        beforeUpdate();
+        int hashCode = hash(key);
+        Entry<K, V> entry = findEntryOrTail(key, hashCode);
+        boolean found = entry != null && matches(entry, key, hashCode);
+        V value = remappingFunction.apply(key, found ? entry.value : null);
+        if(found){
+            entry.value = value;
+        }else{
+            addEntry(entry, key, hashCode, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        beforeUpdate();
+        int hashCode = hash(key);
+        Entry<K, V> entry = findEntryOrTail(key, hashCode);
+        if(entry == null || !matches(entry, key, hashCode)){
+            addEntry(entry, key, hashCode, value);
+            return value;
+        }
+        entry.value = remappingFunction.apply(entry.value, value);
+        return entry.value;
     }
 
     @Override
@@ -128,25 +589,179 @@ public class HashDictionary<K, V> implements Dictionary<K, V>{
         return n;
     }
 
-    private KeyValuePair findKeyValuePair(LinkedList<KeyValuePair> list, K key){
-        int keyIndex = list.indexOf(new KeyValuePair(key, null));
-        return list.get(keyIndex);
+    private void ensureKeyExists(Entry<K, V> entry, K key){
+        if(entry == null){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
     }
 
-    private void ensureKeyExists(K key){
-        if(!containsKey(key)){
-            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+    /**
+     * Starts recording probe counts and resize timings for {@link #stats()}. Recording costs
+     * a null check per operation while disabled. Counters of an already enabled
+     * dictionary are kept.
+     */
+    public void enableStats(){
+        if(stats == null) stats = new StatsRecorder();
+    }
+
+    /**
+     * Stops recording probe counts and resize timings and discards the recorded counters.
+     */
+    public void disableStats(){
+        stats = null;
+    }
+
+    /**
+     * Returns current chain lengths of this hash table together with the counters recorded
+     * since statistics were enabled. Entries of a tree bin count as one chain. Walks the 
+     * whole table, so it takes time proportional to its capacity.
+     * @return statistics of this hash table
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DictionaryStats stats(){
+        int maxChainLength = 0;
+        int chains = 0;
+        Entry<K, V>[][] tables = oldHashTable != null ? new Entry[][]{ hashTable, oldHashTable } : new Entry[][]{ hashTable };
+        for(Entry<K, V>[] table : tables){
+            for(int i = table == oldHashTable ? migrationIndex : 0; i < table.length; i++){
+                Entry<K, V> bucket = table[i];
+                if(bucket == null) continue;
+                int length = 0;
+                if(bucket instanceof TreeBin) length = ((TreeBin<K, V>) bucket).size();
+                else for(Entry<K, V> entry = bucket; entry != null; entry = entry.next) length++;
+                maxChainLength = Math.max(maxChainLength, length);
+                chains++;
+            }
         }
+        return new DictionaryStats(n, m, maxChainLength, chains == 0 ? 0 : (double) n / chains, stats);
     }
 
     @Override
     public List<K> keys() {
-        List<K> keys = new ArrayList<>();
-        for(LinkedList<KeyValuePair> keyValuePairs : hashTable){
-            for(KeyValuePair keyValuePair : keyValuePairs){
-                keys.add(keyValuePair.key);
+        List<K> keys = new ArrayList<>(n);
+        for(Entry<K, V> bucket : hashTable){
+            collectKeys(bucket, keys);
+        }
+        if(oldHashTable != null){
+            for(int i = migrationIndex; i < oldHashTable.length; i++){
+                collectKeys(oldHashTable[i], keys);
             }
         }
         return keys;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for(Entry<K, V> bucket : hashTable){
+            forEachInBucket(bucket, action);
+        }
+        if(oldHashTable != null){
+            for(int i = migrationIndex; i < oldHashTable.length; i++){
+                forEachInBucket(oldHashTable[i], action);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEachInBucket(Entry<K, V> bucket, BiConsumer<? super K, ? super V> action){
+        if(bucket instanceof TreeBin){
+            for(Entry<K, V> entry : ((TreeBin<K, V>) bucket).entries()) action.accept(entry.key, entry.value);
+            return;
+        }
+        for(Entry<K, V> entry = bucket; entry != null; entry = entry.next){
+            action.accept(entry.key, entry.value);
+        }
+    }
+
+    /**
+     * Returns a cursor that walks the buckets of the hash table directly, in the same order
+     * as {@link #keys()}. The entries it returns are the ones stored in the table.
+     * @return cursor over this dictionary
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new HashCursor();
+    }
+
+    private final class HashCursor implements Cursor<K, V>{
+        private Entry<K, V>[] table;
+        private int index;
+        private Entry<K, V> entry;
+        private Iterator<Entry<K, V>> binEntries; // entries of the current tree bin, if any
+
+        public HashCursor(){
+            reset();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean next(){
+            if(binEntries != null){
+                if(binEntries.hasNext()){
+                    entry = binEntries.next();
+                    return true;
+                }
+                binEntries = null;
+            }else if(entry != null && entry.next != null){
+                entry = entry.next;
+                return true;
+            }
+            while(true){
+                if(index == table.length){
+                    // after the new table come the buckets of the old table that were not migrated yet
+                    if(table == oldHashTable || oldHashTable == null){
+                        entry = null;
+                        return false;
+                    }
+                    table = oldHashTable;
+                    index = migrationIndex;
+                    continue;
+                }
+                Entry<K, V> bucket = table[index++];
+                if(bucket instanceof TreeBin){
+                    binEntries = ((TreeBin<K, V>) bucket).entries().iterator();
+                    entry = binEntries.next();
+                    return true;
+                }
+                if(bucket != null){
+                    entry = bucket;
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public K key(){
+            return entry.key;
+        }
+
+        @Override
+        public V value(){
+            return entry.value;
+        }
+
+        @Override
+        public Dictionary.Entry<K, V> entry(){
+            return entry;
+        }
+
+        @Override
+        public void reset(){
+            table = hashTable;
+            index = 0;
+            entry = null;
+            binEntries = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectKeys(Entry<K, V> bucket, List<K> keys){
+        if(bucket instanceof TreeBin){
+            for(Entry<K, V> entry : ((TreeBin<K, V>) bucket).entries()) keys.add(entry.key);
+            return;
+        }
+        for(Entry<K, V> entry = bucket; entry != null; entry = entry.next){
+            keys.add(entry.key);
+        }
+    }
+}
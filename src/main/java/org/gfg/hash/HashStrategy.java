@@ -0,0 +1,55 @@
+package org.gfg.hash;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the hash codes a hash table uses to place its keys. Hash tables in this package
+ * index power-of-two tables by the low bits of the hash, so a strategy should spread
+ * the entropy of {@code hashCode()} over all bits.
+ */
+@FunctionalInterface
+public interface HashStrategy{
+    /**
+     * Computes hash code of a given key.
+     * @param key input key, never null
+     * @return hash code of the key
+     */
+    public int hash(Object key);
+
+    /**
+     * Returns a strategy that uses {@code key.hashCode()} as is. Cheapest, but sequential
+     * or low-entropy hash codes collide in the low bits.
+     * @return identity hash strategy
+     */
+    public static HashStrategy identity(){
+        return Object::hashCode;
+    }
+
+    /**
+     * Returns a strategy that spreads {@code key.hashCode()} with the MurmurHash3 finalizer,
+     * so that every input bit affects the low bits used for indexing.
+     * @return murmur-style hash strategy
+     */
+    public static HashStrategy murmur(){
+        return key -> HashUtil.mix(key.hashCode());
+    }
+
+    /**
+     * Returns a strategy that mixes {@code key.hashCode()} with a secret seed, so that
+     * bucket placement cannot be predicted without knowing the seed. Keys with equal
+     * {@code hashCode()} still collide; hash tables handle those separately.
+     * @param seed secret seed
+     * @return seeded hash strategy
+     */
+    public static HashStrategy seeded(long seed){
+        return key -> HashUtil.mix(key.hashCode() ^ seed);
+    }
+
+    /**
+     * Returns a seeded strategy with a randomly chosen seed.
+     * @return randomized hash strategy
+     */
+    public static HashStrategy randomized(){
+        return seeded(ThreadLocalRandom.current().nextLong());
+    }
+}
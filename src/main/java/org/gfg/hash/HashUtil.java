@@ -0,0 +1,59 @@
+package org.gfg.hash;
+
+/**
+ * Contains hashing helpers shared by the hash table implementations in this package.
+ */
+final class HashUtil{
+    /**
+     * Largest power of two that fits into a positive int.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private HashUtil(){}
+
+    /**
+     * Spreads the bits of a hash code so that tables indexed by the low bits
+     * (power-of-two tables) do not cluster on sequential or low-entropy keys.
+     * This is the 32-bit finalizer of MurmurHash3.
+     * @param h input hash code
+     * @return mixed hash code
+     */
+    static int mix(int h){
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Spreads the bits of a 64-bit key into a 32-bit hash code.
+     * This is the 64-bit finalizer of MurmurHash3 folded into an int.
+     * @param h input key
+     * @return mixed hash code
+     */
+    static int mix(long h){
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Returns the smallest power-of-two table size that can hold {@code expectedSize}
+     * entries without exceeding {@code loadFactor}.
+     * @param expectedSize number of entries the table must accommodate
+     * @param loadFactor maximum load factor of the table
+     * @return power-of-two table size
+     */
+    static int tableSizeFor(int expectedSize, double loadFactor){
+        long required = (long) Math.ceil(expectedSize / loadFactor);
+        if(required >= MAX_CAPACITY) return MAX_CAPACITY;
+        int size = 1;
+        while(size < required) size <<= 1;
+        return size;
+    }
+}
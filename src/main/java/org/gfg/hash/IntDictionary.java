@@ -0,0 +1,282 @@
+package org.gfg.hash;
+
+/**
+ * Dictionary that maps primitive {@code int} keys to values without boxing the keys.
+ * Implemented as an open-addressing hash table with linear probing over a flat
+ * {@code int[]} of keys and a parallel array of values, so {@code get}, {@code add},
+ * {@code containsKey} and {@code delete} allocate nothing.
+ * @param <V> type of values stored in this hash table
+ */
+public class IntDictionary<V>{
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int FREE_KEY = 0; // marks an empty slot; key 0 itself is kept outside the table
+
+    private int n; // number of keys currently stored in the hash table
+    private int mask; // table size minus one; table size is always a power of two
+    private final int minCapacity;
+    private int[] keys;
+    private Object[] values;
+    private boolean hasFreeKey;
+    private Object freeKeyValue;
+    private StatsRecorder stats; // null unless statistics are enabled
+
+    private final double maxLoadFactor = 0.7;
+    private final double minLoadFactor = 0.2;
+
+    /**
+     * Initializes a new empty dictionary.
+     */
+    public IntDictionary(){
+        this(0);
+    }
+
+    /**
+     * Initializes a new empty dictionary large enough to hold {@code expectedSize}
+     * keys without resizing.
+     * @param expectedSize expected number of keys
+     */
+    public IntDictionary(int expectedSize){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        minCapacity = Math.max(DEFAULT_CAPACITY, HashUtil.tableSizeFor(expectedSize, maxLoadFactor));
+        initHashTable(minCapacity);
+    }
+
+    private void initHashTable(int tableSize){
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(int key){
+        int i = HashUtil.mix(key) & mask;
+        int probes = 1;
+        while(true){
+            int k = keys[i];
+            if(k == FREE_KEY || k == key){
+                if(stats != null) stats.recordProbes(probes);
+                return k == FREE_KEY ? ~i : i;
+            }
+            i = (i + 1) & mask;
+            probes++;
+        }
+    }
+
+    // keys are unique while rehashing, so there is no need to compare them
+    private int findEmptySlot(int key){
+        int i = HashUtil.mix(key) & mask;
+        while(keys[i] != FREE_KEY) i = (i + 1) & mask;
+        return i;
+    }
+
+    private void resizeHashTable(int tableSize){
+        long start = stats != null ? System.nanoTime() : 0;
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        initHashTable(tableSize);
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldKeys[i] != FREE_KEY){
+                int slot = findEmptySlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+        if(stats != null) stats.recordResize(start);
+    }
+
+    /**
+     * Checks for presence of a key in this dictionary.
+     * @param key input key
+     * @return true if the key is present in the dictionary
+     */
+    public boolean containsKey(int key){
+        if(key == FREE_KEY) return hasFreeKey;
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Retrieves value associated with a given key.
+     * @param key input key
+     * @return value associated with the key
+     * @throws IllegalArgumentException if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key){
+        if(key == FREE_KEY){
+            ensureKeyExists(hasFreeKey, key);
+            return (V) freeKeyValue;
+        }
+        int slot = findSlot(key);
+        ensureKeyExists(slot >= 0, key);
+        return (V) values[slot];
+    }
+
+    /**
+     * Retrieves value associated with a given key, or {@code defaultValue} if the key
+     * is not present in this dictionary.
+     * @param key input key
+     * @param defaultValue value to return if the key is not present
+     * @return value associated with the key, or {@code defaultValue}
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue){
+        if(key == FREE_KEY) return hasFreeKey ? (V) freeKeyValue : defaultValue;
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Adds a key/value pair to this dictionary. If the key is already present, its value is overwritten.
+     * @param key input key
+     * @param value input value
+     */
+    public void add(int key, V value){
+        if(key == FREE_KEY){
+            if(!hasFreeKey) n++;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return;
+        }
+
+        int slot = findSlot(key);
+        if(slot >= 0){
+            values[slot] = value;
+            return;
+        }
+
+        if(n + 1 > maxLoadFactor * keys.length && keys.length < HashUtil.MAX_CAPACITY){
+            resizeHashTable(keys.length << 1);
+            slot = findSlot(key);
+        }
+        keys[~slot] = key;
+        values[~slot] = value;
+        n++;
+    }
+
+    /**
+     * Removes a value associated with a specified key from this dictionary.
+     * @param key input key
+     * @return value associated with the deleted key
+     * @throws IllegalArgumentException if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V delete(int key){
+        V value;
+        if(key == FREE_KEY){
+            ensureKeyExists(hasFreeKey, key);
+            value = (V) freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = null;
+        }else{
+            int slot = findSlot(key);
+            ensureKeyExists(slot >= 0, key);
+            value = (V) values[slot];
+            removeSlot(slot);
+        }
+        n--;
+
+        if(n < minLoadFactor * keys.length && keys.length > minCapacity){
+            resizeHashTable(keys.length >> 1);
+        }
+        return value;
+    }
+
+    /*
+        Empties the slot and shifts back every following key of the same probe run whose
+        home slot does not lie between the emptied slot and the key's current slot.
+    */
+    private void removeSlot(int hole){
+        keys[hole] = FREE_KEY;
+        values[hole] = null;
+        int i = hole;
+        while(true){
+            i = (i + 1) & mask;
+            int k = keys[i];
+            if(k == FREE_KEY) return;
+            int home = HashUtil.mix(k) & mask;
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                keys[hole] = k;
+                values[hole] = values[i];
+                keys[i] = FREE_KEY;
+                values[i] = null;
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Returns number of key/value pairs stored in this dictionary.
+     * @return size of this dictionary
+     */
+    public int size(){
+        return n;
+    }
+
+    /**
+     * Returns an array of keys stored in this dictionary.
+     * @return array of keys
+     */
+    public int[] keys(){
+        int[] result = new int[n];
+        int j = 0;
+        if(hasFreeKey) result[j++] = FREE_KEY;
+        for(int key : keys){
+            if(key != FREE_KEY) result[j++] = key;
+        }
+        return result;
+    }
+
+    /**
+     * Starts recording probe counts and resize timings for {@link #stats()}. Recording costs
+     * a null check per operation while disabled. Counters of an already enabled
+     * dictionary are kept.
+     */
+    public void enableStats(){
+        if(stats == null) stats = new StatsRecorder();
+    }
+
+    /**
+     * Stops recording probe counts and resize timings and discards the recorded counters.
+     */
+    public void disableStats(){
+        stats = null;
+    }
+
+    /**
+     * Returns current lengths of runs of occupied slots in this hash table together with
+     * the counters recorded since statistics were enabled. Walks the whole table, so it
+     * takes time proportional to its capacity.
+     * @return statistics of this hash table
+     */
+    public DictionaryStats stats(){
+        // start right after an empty slot, so that no run wraps around the end of the table
+        int start = 0;
+        while(keys[start] != FREE_KEY) start++;
+        int maxRun = 0;
+        int runs = 0;
+        int run = 0;
+        for(int j = 1; j <= keys.length; j++){
+            if(keys[(start + j) & mask] != FREE_KEY){
+                run++;
+            }else if(run > 0){
+                maxRun = Math.max(maxRun, run);
+                runs++;
+                run = 0;
+            }
+        }
+        int stored = n - (hasFreeKey ? 1 : 0);
+        return new DictionaryStats(n, keys.length, maxRun, runs == 0 ? 0 : (double) stored / runs, stats);
+    }
+
+    private void ensureKeyExists(boolean exists, int key){
+        if(!exists){
+            throw new IllegalArgumentException(String.format("Key '%d' does not exist in the dictionary.", key));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package org.gfg.hash;
+
+/**
+ * Dictionary that maps primitive {@code int} keys to primitive {@code int} values without boxing.
+ * Implemented as an open-addressing hash table with linear probing over flat
+ * {@code int[]} arrays of keys and values, so no operation except {@code keys()} allocates.
+ */
+public class IntIntDictionary{
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int FREE_KEY = 0; // marks an empty slot; key 0 itself is kept outside the table
+
+    private int n; // number of keys currently stored in the hash table
+    private int mask; // table size minus one; table size is always a power of two
+    private final int minCapacity;
+    private int[] keys;
+    private int[] values;
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    private final double maxLoadFactor = 0.7;
+    private final double minLoadFactor = 0.2;
+
+    /**
+     * Initializes a new empty dictionary.
+     */
+    public IntIntDictionary(){
+        this(0);
+    }
+
+    /**
+     * Initializes a new empty dictionary large enough to hold {@code expectedSize}
+     * keys without resizing.
+     * @param expectedSize expected number of keys
+     */
+    public IntIntDictionary(int expectedSize){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        minCapacity = Math.max(DEFAULT_CAPACITY, HashUtil.tableSizeFor(expectedSize, maxLoadFactor));
+        initHashTable(minCapacity);
+    }
+
+    private void initHashTable(int tableSize){
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(int key){
+        int i = HashUtil.mix(key) & mask;
+        while(true){
+            int k = keys[i];
+            if(k == FREE_KEY) return ~i;
+            if(k == key) return i;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void resizeHashTable(int tableSize){
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        initHashTable(tableSize);
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldKeys[i] != FREE_KEY){
+                int slot = ~findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Checks for presence of a key in this dictionary.
+     * @param key input key
+     * @return true if the key is present in the dictionary
+     */
+    public boolean containsKey(int key){
+        if(key == FREE_KEY) return hasFreeKey;
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Retrieves value associated with a given key.
+     * @param key input key
+     * @return value associated with the key
+     * @throws IllegalArgumentException if the key is not present
+     */
+    public int get(int key){
+        if(key == FREE_KEY){
+            ensureKeyExists(hasFreeKey, key);
+            return freeKeyValue;
+        }
+        int slot = findSlot(key);
+        ensureKeyExists(slot >= 0, key);
+        return values[slot];
+    }
+
+    /**
+     * Retrieves value associated with a given key, or {@code defaultValue} if the key
+     * is not present in this dictionary.
+     * @param key input key
+     * @param defaultValue value to return if the key is not present
+     * @return value associated with the key, or {@code defaultValue}
+     */
+    public int getOrDefault(int key, int defaultValue){
+        if(key == FREE_KEY) return hasFreeKey ? freeKeyValue : defaultValue;
+        int slot = findSlot(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Adds a key/value pair to this dictionary. If the key is already present, its value is overwritten.
+     * @param key input key
+     * @param value input value
+     */
+    public void add(int key, int value){
+        if(key == FREE_KEY){
+            if(!hasFreeKey) n++;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return;
+        }
+
+        int slot = findSlot(key);
+        if(slot >= 0){
+            values[slot] = value;
+            return;
+        }
+
+        if(n + 1 > maxLoadFactor * keys.length && keys.length < HashUtil.MAX_CAPACITY){
+            resizeHashTable(keys.length << 1);
+            slot = findSlot(key);
+        }
+        keys[~slot] = key;
+        values[~slot] = value;
+        n++;
+    }
+
+    /**
+     * Removes a value associated with a specified key from this dictionary.
+     * @param key input key
+     * @return value associated with the deleted key
+     * @throws IllegalArgumentException if the key is not present
+     */
+    public int delete(int key){
+        int value;
+        if(key == FREE_KEY){
+            ensureKeyExists(hasFreeKey, key);
+            value = freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = 0;
+        }else{
+            int slot = findSlot(key);
+            ensureKeyExists(slot >= 0, key);
+            value = values[slot];
+            removeSlot(slot);
+        }
+        n--;
+
+        if(n < minLoadFactor * keys.length && keys.length > minCapacity){
+            resizeHashTable(keys.length >> 1);
+        }
+        return value;
+    }
+
+    /*
+        Empties the slot and shifts back every following key of the same probe run whose
+        home slot does not lie between the emptied slot and the key's current slot.
+    */
+    private void removeSlot(int hole){
+        keys[hole] = FREE_KEY;
+        values[hole] = 0;
+        int i = hole;
+        while(true){
+            i = (i + 1) & mask;
+            int k = keys[i];
+            if(k == FREE_KEY) return;
+            int home = HashUtil.mix(k) & mask;
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                keys[hole] = k;
+                values[hole] = values[i];
+                keys[i] = FREE_KEY;
+                values[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Returns number of key/value pairs stored in this dictionary.
+     * @return size of this dictionary
+     */
+    public int size(){
+        return n;
+    }
+
+    /**
+     * Returns an array of keys stored in this dictionary.
+     * @return array of keys
+     */
+    public int[] keys(){
+        int[] result = new int[n];
+        int j = 0;
+        if(hasFreeKey) result[j++] = FREE_KEY;
+        for(int key : keys){
+            if(key != FREE_KEY) result[j++] = key;
+        }
+        return result;
+    }
+
+    private void ensureKeyExists(boolean exists, int key){
+        if(!exists){
+            throw new IllegalArgumentException(String.format("Key '%d' does not exist in the dictionary.", key));
+        }
+    }
+}
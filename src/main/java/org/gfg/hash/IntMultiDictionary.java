@@ -0,0 +1,200 @@
+package org.gfg.hash;
+
+import java.util.Arrays;
+
+/**
+ * Immutable dictionary that maps primitive {@code int} keys to one or more primitive
+ * {@code int} values, e.g. a hash code to every offset where it occurs. Values are stored
+ * in compressed sparse row form: a single packed {@code int[]} holds the values of all keys
+ * grouped by key, and each key maps to the start of its group, so a key with any number
+ * of values costs a few array slots instead of a list object.
+ * <p>Instances are created by an append-only {@link Builder}. Values of a key keep the
+ * order in which they were added.</p>
+ */
+public final class IntMultiDictionary{
+    /**
+     * Collects key/value pairs for an {@link IntMultiDictionary}.
+     */
+    public static final class Builder{
+        private int[] keys;
+        private int[] values;
+        private int n;
+
+        /**
+         * Initializes a new empty builder.
+         */
+        public Builder(){
+            this(16);
+        }
+
+        /**
+         * Initializes a new empty builder with room for {@code expectedSize} key/value pairs.
+         * @param expectedSize expected number of key/value pairs
+         */
+        public Builder(int expectedSize){
+            if(expectedSize < 0){
+                throw new IllegalArgumentException(
+                    String.format("Expected size must be non-negative, but was %d.", expectedSize));
+            }
+            keys = new int[Math.max(1, expectedSize)];
+            values = new int[keys.length];
+        }
+
+        /**
+         * Appends a value to the values of a given key.
+         * @param key input key
+         * @param value input value
+         * @return this builder
+         */
+        public Builder add(int key, int value){
+            if(n == keys.length){
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * keys.length);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[n] = key;
+            values[n] = value;
+            n++;
+            return this;
+        }
+
+        /**
+         * Returns number of key/value pairs added so far.
+         * @return number of pairs
+         */
+        public int size(){
+            return n;
+        }
+
+        /**
+         * Builds an immutable dictionary of the pairs added so far. The builder
+         * can still be used afterwards.
+         * @return multi-valued dictionary
+         */
+        public IntMultiDictionary build(){
+            // number the distinct keys in order of first appearance and count their values
+            IntIntDictionary groupOf = new IntIntDictionary();
+            int[] groups = new int[n];
+            int[] start = new int[16];
+            int groupCount = 0;
+            for(int i = 0; i < n; i++){
+                int group = groupOf.getOrDefault(keys[i], -1);
+                if(group < 0){
+                    group = groupCount++;
+                    groupOf.add(keys[i], group);
+                    if(groupCount + 1 > start.length) start = Arrays.copyOf(start, 2 * start.length);
+                }
+                groups[i] = group;
+                start[group + 1]++;
+            }
+
+            // prefix sums turn counts into group boundaries; a stable pass places the values
+            start = Arrays.copyOf(start, groupCount + 1);
+            for(int g = 0; g < groupCount; g++) start[g + 1] += start[g];
+            int[] next = Arrays.copyOf(start, groupCount);
+            int[] packed = new int[n];
+            for(int i = 0; i < n; i++) packed[next[groups[i]]++] = values[i];
+            return new IntMultiDictionary(groupOf, start, packed);
+        }
+    }
+
+    private final IntIntDictionary groupOf; // key -> index of its group in start
+    private final int[] start; // values of group g are packed[start[g]] .. packed[start[g + 1] - 1]
+    private final int[] packed;
+
+    private IntMultiDictionary(IntIntDictionary groupOf, int[] start, int[] packed){
+        this.groupOf = groupOf;
+        this.start = start;
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the group of values associated with a given key. The values of group
+     * {@code g} are {@code valueAt(start(g))} up to {@code valueAt(end(g) - 1)}.
+     * @param key input key
+     * @return group of the key, or -1 if the key is not present
+     */
+    public int groupOf(int key){
+        return groupOf.getOrDefault(key, -1);
+    }
+
+    /**
+     * Returns position of the first value of a group.
+     * @param group group returned by {@link #groupOf(int)}
+     * @return position of the first value
+     */
+    public int start(int group){
+        return start[group];
+    }
+
+    /**
+     * Returns position right after the last value of a group.
+     * @param group group returned by {@link #groupOf(int)}
+     * @return end position of the group
+     */
+    public int end(int group){
+        return start[group + 1];
+    }
+
+    /**
+     * Returns the value at a given position.
+     * @param position position between {@code start(g)} and {@code end(g) - 1} of some group {@code g}
+     * @return value at the position
+     */
+    public int valueAt(int position){
+        return packed[position];
+    }
+
+    /**
+     * Checks for presence of a key in this dictionary.
+     * @param key input key
+     * @return true if the key is present in the dictionary
+     */
+    public boolean containsKey(int key){
+        return groupOf.containsKey(key);
+    }
+
+    /**
+     * Returns number of values associated with a given key.
+     * @param key input key
+     * @return number of values, 0 if the key is not present
+     */
+    public int count(int key){
+        int group = groupOf(key);
+        return group < 0 ? 0 : end(group) - start(group);
+    }
+
+    /**
+     * Returns a copy of the values associated with a given key, in the order they were added.
+     * @param key input key
+     * @return values of the key, empty if the key is not present
+     */
+    public int[] get(int key){
+        int group = groupOf(key);
+        return group < 0 ? new int[0] : Arrays.copyOfRange(packed, start(group), end(group));
+    }
+
+    /**
+     * Returns number of distinct keys stored in this dictionary.
+     * @return number of keys
+     */
+    public int size(){
+        return start.length - 1;
+    }
+
+    /**
+     * Returns number of values stored in this dictionary over all keys.
+     * @return number of values
+     */
+    public int valueCount(){
+        return packed.length;
+    }
+
+    /**
+     * Returns an array of distinct keys stored in this dictionary.
+     * @return array of keys
+     */
+    public int[] keys(){
+        return groupOf.keys();
+    }
+}
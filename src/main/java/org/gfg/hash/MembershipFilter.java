@@ -0,0 +1,76 @@
+package org.gfg.hash;
+
+/**
+ * Approximate set that answers whether an item may have been added. A filter never reports
+ * an added item as absent, but reports a small fraction of other items as present. Filters
+ * see items only through their {@code hashCode()}, so items with equal hash codes are
+ * indistinguishable; the {@code Hash} methods let callers that already hold a hash code
+ * skip boxing the item.
+ * @param <T> type of items
+ */
+public interface MembershipFilter<T>{
+    /**
+     * Adds an item given by its hash code.
+     * @param hashCode hash code of the item
+     * @return false if the filter is full and the item could not be added
+     */
+    public boolean addHash(int hashCode);
+
+    /**
+     * Checks whether an item given by its hash code may have been added.
+     * @param hashCode hash code of the item
+     * @return false if the item was definitely not added
+     */
+    public boolean mightContainHash(int hashCode);
+
+    /**
+     * Removes one previously added item given by its hash code. Only filters that
+     * support removal remove anything; removing an item that was not added may
+     * remove a different item with the same fingerprint.
+     * @param hashCode hash code of the item
+     * @return true if the item was found and removed
+     */
+    public default boolean removeHash(int hashCode){
+        return false;
+    }
+
+    /**
+     * Returns number of items added and not removed.
+     * @return number of items
+     */
+    public int size();
+
+    /**
+     * Returns the expected probability that an item that was never added is reported
+     * as present, once the filter holds the number of items it was sized for.
+     * @return expected false positive rate
+     */
+    public double falsePositiveRate();
+
+    /**
+     * Adds an item.
+     * @param item input item
+     * @return false if the filter is full and the item could not be added
+     */
+    public default boolean add(T item){
+        return addHash(item.hashCode());
+    }
+
+    /**
+     * Checks whether an item may have been added.
+     * @param item input item
+     * @return false if the item was definitely not added
+     */
+    public default boolean mightContain(T item){
+        return mightContainHash(item.hashCode());
+    }
+
+    /**
+     * Removes one previously added item, if this filter supports removal.
+     * @param item input item
+     * @return true if the item was found and removed
+     */
+    public default boolean remove(T item){
+        return removeHash(item.hashCode());
+    }
+}
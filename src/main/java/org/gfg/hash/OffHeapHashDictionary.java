@@ -0,0 +1,437 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Implements {@link Dictionary} interface using an open-addressing hash table with
+ * linear probing whose slots live outside the Java heap, in direct or memory-mapped
+ * {@link ByteBuffer}s. Keys and values are stored in encoded form by fixed-width
+ * {@link Codec}s, so a table of any size costs the garbage collector a handful of
+ * buffer objects. Each slot holds a 4-byte hash tag followed by the encoded key and value;
+ * lookups compare tags first and decode a key only when its tag matches.
+ * Large tables are split into pages of at most 1 GB, each backed by its own buffer.
+ * Deletion uses backward shifting, so the table never accumulates tombstones.
+ * Keys shall provide their own hash code and equals logic, consistent with their codec,
+ * by overriding {@code hashCode()} and {@code equals(Object obj)} methods.
+ * Null keys and values are not permitted.
+ * @param <K> type of keys stored in this hash table
+ * @param <V> type of values stored in this hash table
+ */
+public class OffHeapHashDictionary<K, V> implements Dictionary<K, V>{
+    /**
+     * Allocates the buffers that back the pages of an off-heap hash table.
+     * Buffers must be zero-filled.
+     */
+    @FunctionalInterface
+    public interface Allocator{
+        /**
+         * Allocates a zero-filled buffer.
+         * @param bytes buffer capacity in bytes
+         * @return new buffer
+         */
+        public ByteBuffer allocate(int bytes);
+
+        /**
+         * Returns an allocator of direct buffers.
+         * @return direct buffer allocator
+         */
+        public static Allocator direct(){
+            return ByteBuffer::allocateDirect;
+        }
+
+        /**
+         * Returns an allocator that maps every buffer onto a new file in a given directory,
+         * so that the operating system can page the table out to disk. The files are deleted
+         * as soon as they are mapped (or on exit where open files cannot be deleted).
+         * @param directory directory where backing files are created
+         * @return memory-mapped buffer allocator
+         */
+        public static Allocator mapped(Path directory){
+            return bytes -> {
+                try{
+                    Path file = Files.createTempFile(directory, "dictionary", ".bin");
+                    ByteBuffer buffer;
+                    try(FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)){
+                        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                    }
+                    try{
+                        Files.delete(file);
+                    }catch(IOException e){
+                        file.toFile().deleteOnExit();
+                    }
+                    return buffer;
+                }catch(IOException e){
+                    throw new UncheckedIOException(e);
+                }
+            };
+        }
+    }
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int MAX_PAGE_BYTES = 1 << 30;
+    private static final int TAG_WIDTH = Integer.BYTES;
+    private static final int EMPTY = 0; // tag of an empty slot; tags of occupied slots are never zero
+
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final Allocator allocator;
+    private final ByteOrder byteOrder;
+    private final int slotWidth;
+    private final int pageShift; // log2 of the maximum number of slots per page
+    private final int pageMask;
+
+    private int n; // number of keys currently stored in the hash table
+    private int mask; // table size minus one; table size is always a power of two
+    private final int minCapacity;
+    private ByteBuffer[] pages;
+    private final boolean readOnly;
+
+    private static final double maxLoadFactor = 0.7;
+    private static final double minLoadFactor = 0.2;
+
+    /**
+     * Initializes a new empty hash table backed by direct buffers.
+     * @param keyCodec codec of keys
+     * @param valueCodec codec of values
+     */
+    public OffHeapHashDictionary(Codec<K> keyCodec, Codec<V> valueCodec){
+        this(keyCodec, valueCodec, 0);
+    }
+
+    /**
+     * Initializes a new empty hash table backed by direct buffers, large enough to hold
+     * {@code expectedSize} keys without resizing.
+     * @param keyCodec codec of keys
+     * @param valueCodec codec of values
+     * @param expectedSize expected number of keys
+     */
+    public OffHeapHashDictionary(Codec<K> keyCodec, Codec<V> valueCodec, int expectedSize){
+        this(keyCodec, valueCodec, expectedSize, Allocator.direct());
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize} keys
+     * without resizing, with buffers obtained from a given allocator.
+     * @param keyCodec codec of keys
+     * @param valueCodec codec of values
+     * @param expectedSize expected number of keys
+     * @param allocator allocator of the buffers backing the table
+     */
+    public OffHeapHashDictionary(Codec<K> keyCodec, Codec<V> valueCodec, int expectedSize, Allocator allocator){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        this.keyCodec = Objects.requireNonNull(keyCodec);
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.allocator = Objects.requireNonNull(allocator);
+        byteOrder = ByteOrder.nativeOrder();
+        slotWidth = slotWidth(keyCodec, valueCodec);
+        pageShift = Integer.numberOfTrailingZeros(slotsPerPage(slotWidth));
+        pageMask = (1 << pageShift) - 1;
+        minCapacity = capacityFor(expectedSize);
+        readOnly = false;
+        initHashTable(minCapacity);
+    }
+
+    /*
+        Wraps pages laid out by a previous table with the same codecs, e.g. regions of
+        a snapshot file. A writable table never shrinks below the capacity of the pages.
+    */
+    OffHeapHashDictionary(Codec<K> keyCodec, Codec<V> valueCodec, ByteBuffer[] pages, int capacity, int size, boolean readOnly){
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.allocator = Allocator.direct();
+        byteOrder = pages[0].order();
+        slotWidth = slotWidth(keyCodec, valueCodec);
+        pageShift = Integer.numberOfTrailingZeros(slotsPerPage(slotWidth));
+        pageMask = (1 << pageShift) - 1;
+        minCapacity = capacity;
+        this.readOnly = readOnly;
+        this.pages = pages;
+        mask = capacity - 1;
+        n = size;
+    }
+
+    static int slotWidth(Codec<?> keyCodec, Codec<?> valueCodec){
+        return TAG_WIDTH + keyCodec.width() + valueCodec.width();
+    }
+
+    // maximum number of slots in a page, a power of two
+    static int slotsPerPage(int slotWidth){
+        return Integer.highestOneBit(MAX_PAGE_BYTES / slotWidth);
+    }
+
+    // number of slots needed to hold a given number of keys without resizing
+    static int capacityFor(int size){
+        return Math.max(DEFAULT_CAPACITY, HashUtil.tableSizeFor(size, maxLoadFactor));
+    }
+
+    private void ensureWritable(){
+        if(readOnly) throw new UnsupportedOperationException("Dictionary is read-only.");
+    }
+
+    private void initHashTable(int tableSize){
+        int pageSlots = Math.min(tableSize, 1 << pageShift);
+        pages = new ByteBuffer[tableSize / pageSlots];
+        for(int i = 0; i < pages.length; i++){
+            pages[i] = allocator.allocate(pageSlots * slotWidth).order(byteOrder);
+        }
+        mask = tableSize - 1;
+    }
+
+    private int capacity(){
+        return mask + 1;
+    }
+
+    private ByteBuffer page(int slot){
+        return pages[slot >>> pageShift];
+    }
+
+    private int offset(int slot){
+        return (slot & pageMask) * slotWidth;
+    }
+
+    private static int tag(Object key){
+        int hash = HashUtil.mix(key.hashCode());
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private int tagAt(int slot){
+        return page(slot).getInt(offset(slot));
+    }
+
+    private K keyAt(int slot){
+        return keyCodec.read(page(slot), offset(slot) + TAG_WIDTH);
+    }
+
+    private V valueAt(int slot){
+        return valueCodec.read(page(slot), offset(slot) + TAG_WIDTH + keyCodec.width());
+    }
+
+    private void setValueAt(int slot, V value){
+        valueCodec.write(page(slot), offset(slot) + TAG_WIDTH + keyCodec.width(), Objects.requireNonNull(value));
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(Object key){
+        int tag = tag(key);
+        int i = tag & mask;
+        while(true){
+            int t = tagAt(i);
+            if(t == EMPTY) return ~i;
+            if(t == tag && keyAt(i).equals(key)) return i;
+            i = (i + 1) & mask;
+        }
+    }
+
+    // copies raw slot bytes, so resizing and deletion never decode keys or values
+    private static void copySlot(ByteBuffer from, int fromOffset, ByteBuffer to, int toOffset, int width){
+        int i = 0;
+        for(; i + Long.BYTES <= width; i += Long.BYTES) to.putLong(toOffset + i, from.getLong(fromOffset + i));
+        for(; i < width; i++) to.put(toOffset + i, from.get(fromOffset + i));
+    }
+
+    private void resizeHashTable(int tableSize){
+        ByteBuffer[] oldPages = pages;
+        int oldCapacity = capacity();
+        initHashTable(tableSize);
+        for(int j = 0; j < oldCapacity; j++){
+            ByteBuffer oldPage = oldPages[j >>> pageShift];
+            int oldOffset = (j & pageMask) * slotWidth;
+            int tag = oldPage.getInt(oldOffset);
+            if(tag == EMPTY) continue;
+            int i = tag & mask;
+            while(tagAt(i) != EMPTY) i = (i + 1) & mask;
+            copySlot(oldPage, oldOffset, page(i), offset(i), slotWidth);
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    public V delete(K key) {
+        ensureWritable();
+        int slot = findSlot(key);
+        ensureKeyExists(slot, key);
+        V value = valueAt(slot);
+        removeSlot(slot);
+        n--;
+
+        if(n < minLoadFactor * capacity() && capacity() > minCapacity){
+            resizeHashTable(capacity() >> 1);
+        }
+
+        return value;
+    }
+
+    /*
+        Empties the slot and shifts back every following key of the same probe run whose
+        home slot does not lie between the emptied slot and the key's current slot.
+    */
+    private void removeSlot(int hole){
+        page(hole).putInt(offset(hole), EMPTY);
+        int i = hole;
+        while(true){
+            i = (i + 1) & mask;
+            int tag = tagAt(i);
+            if(tag == EMPTY) return;
+            int home = tag & mask;
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                copySlot(page(i), offset(i), page(hole), offset(hole), slotWidth);
+                page(i).putInt(offset(i), EMPTY);
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Inserts an absent key into the empty slot returned by {@link #findSlot(Object)}.
+     */
+    private void insertAt(int emptySlot, K key, V value){
+        Objects.requireNonNull(value);
+        if(n + 1 > maxLoadFactor * capacity() && capacity() < HashUtil.MAX_CAPACITY){
+            resizeHashTable(capacity() << 1);
+            emptySlot = findSlot(key);
+        }
+
+        int slot = ~emptySlot;
+        ByteBuffer page = page(slot);
+        int offset = offset(slot);
+        page.putInt(offset, tag(key));
+        keyCodec.write(page, offset + TAG_WIDTH, key);
+        valueCodec.write(page, offset + TAG_WIDTH + keyCodec.width(), value);
+        n++;
+    }
+
+    @Override
+    public void add(K key, V value) {
+        ensureWritable();
+        int slot = findSlot(key);
+        if(slot >= 0){
+            setValueAt(slot, value);
+        }else{
+            insertAt(slot, key, value);
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = findSlot(key);
+        ensureKeyExists(slot, key);
+        return valueAt(slot);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = findSlot(key);
+        return slot >= 0 ? valueAt(slot) : defaultValue;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        ensureWritable();
+        int slot = findSlot(key);
+        if(slot >= 0) return valueAt(slot);
+        insertAt(slot, key, value);
+        return null;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        ensureWritable();
+        int slot = findSlot(key);
+        V value = remappingFunction.apply(key, slot >= 0 ? valueAt(slot) : null);
+        if(slot >= 0){
+            setValueAt(slot, value);
+        }else{
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        ensureWritable();
+        int slot = findSlot(key);
+        if(slot < 0){
+            insertAt(slot, key, value);
+            return value;
+        }
+        V newValue = remappingFunction.apply(valueAt(slot), value);
+        setValueAt(slot, newValue);
+        return newValue;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    private void ensureKeyExists(int slot, K key){
+        if(slot < 0){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+    }
+
+    @Override
+    public List<K> keys() {
+        List<K> list = new ArrayList<>(n);
+        for(int i = 0; i <= mask; i++){
+            if(tagAt(i) != EMPTY) list.add(keyAt(i));
+        }
+        return list;
+    }
+
+    /**
+     * Returns a cursor that walks the slots of the hash table in order, decoding
+     * keys and values on demand.
+     * @return cursor over this dictionary
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new Cursor<K, V>(){
+            private int slot = -1;
+
+            @Override
+            public boolean next(){
+                while(++slot <= mask){
+                    if(tagAt(slot) != EMPTY) return true;
+                }
+                return false;
+            }
+
+            @Override
+            public K key(){
+                return keyAt(slot);
+            }
+
+            @Override
+            public V value(){
+                return valueAt(slot);
+            }
+
+            @Override
+            public void reset(){
+                slot = -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,231 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Implements {@link Dictionary} interface using an open-addressing hash table with
+ * linear probing. Keys and values are kept in two flat parallel arrays, so a lookup
+ * touches consecutive array slots instead of walking linked bucket nodes, and no
+ * objects are allocated on {@code get}, {@code containsKey} or {@code delete}.
+ * Deletion uses backward shifting, so the table never accumulates tombstones.
+ * Keys shall provide their own hash code and equals logic by overriding
+ * {@code hashCode()} and {@code equals(Object obj)} methods. Null keys are not permitted.
+ * @param <K> type of keys stored in this hash table
+ * @param <V> type of values stored in this hash table
+ */
+public class OpenAddressingHashDictionary<K, V> implements Dictionary<K, V>{
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private int n; // number of keys currently stored in the hash table
+    private int mask; // table size minus one; table size is always a power of two
+    private final int minCapacity;
+    private Object[] keys;
+    private Object[] values;
+
+    private final double maxLoadFactor = 0.7;
+    private final double minLoadFactor = 0.2;
+
+    /**
+     * Initializes a new empty hash table.
+     */
+    public OpenAddressingHashDictionary(){
+        this(0);
+    }
+
+    /**
+     * Initializes a new empty hash table large enough to hold {@code expectedSize}
+     * keys without resizing.
+     * @param expectedSize expected number of keys
+     */
+    public OpenAddressingHashDictionary(int expectedSize){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        minCapacity = Math.max(DEFAULT_CAPACITY, HashUtil.tableSizeFor(expectedSize, maxLoadFactor));
+        initHashTable(minCapacity);
+    }
+
+    private void initHashTable(int tableSize){
+        keys = new Object[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private double loadFactor(){
+        return (double) n / keys.length;
+    }
+
+    private int computeHash(Object key){
+        return HashUtil.mix(key.hashCode()) & mask;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(Object key){
+        int i = computeHash(key);
+        while(true){
+            Object k = keys[i];
+            if(k == null) return ~i;
+            if(k == key || k.equals(key)) return i;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void resizeHashTable(int tableSize){
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        initHashTable(tableSize);
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldKeys[i] != null){
+                int slot = ~findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V delete(K key) {
+        int slot = findSlot(key);
+        ensureKeyExists(slot, key);
+        V value = (V) values[slot];
+        removeSlot(slot);
+        n--;
+
+        if(loadFactor() < minLoadFactor && keys.length > minCapacity){
+            resizeHashTable(keys.length >> 1);
+        }
+
+        return value;
+    }
+
+    /*
+        Empties the slot and shifts back every following key of the same probe run whose
+        home slot does not lie between the emptied slot and the key's current slot,
+        so that lookups never stop early at the hole.
+    */
+    private void removeSlot(int hole){
+        keys[hole] = null;
+        values[hole] = null;
+        int i = hole;
+        while(true){
+            i = (i + 1) & mask;
+            Object k = keys[i];
+            if(k == null) return;
+            int home = computeHash(k);
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                keys[hole] = k;
+                values[hole] = values[i];
+                keys[i] = null;
+                values[i] = null;
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Inserts an absent key into the empty slot returned by {@link #findSlot(Object)}.
+     */
+    private void insertAt(int emptySlot, K key, V value){
+        if(n + 1 > maxLoadFactor * keys.length && keys.length < HashUtil.MAX_CAPACITY){
+            resizeHashTable(keys.length << 1);
+            emptySlot = findSlot(key);
+        }
+
+        keys[~emptySlot] = key;
+        values[~emptySlot] = value;
+        n++;
+    }
+
+    @Override
+    public void add(K key, V value) {
+        int slot = findSlot(key);
+        if(slot >= 0){
+            values[slot] = value;
+        }else{
+            insertAt(slot, key, value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int slot = findSlot(key);
+        ensureKeyExists(slot, key);
+        return (V) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(K key, V value) {
+        int slot = findSlot(key);
+        if(slot >= 0) return (V) values[slot];
+        insertAt(slot, key, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int slot = findSlot(key);
+        V value = remappingFunction.apply(key, slot >= 0 ? (V) values[slot] : null);
+        if(slot >= 0){
+            values[slot] = value;
+        }else{
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int slot = findSlot(key);
+        if(slot < 0){
+            insertAt(slot, key, value);
+            return value;
+        }
+        V newValue = remappingFunction.apply((V) values[slot], value);
+        values[slot] = newValue;
+        return newValue;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    private void ensureKeyExists(int slot, K key){
+        if(slot < 0){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<K> keys() {
+        List<K> list = new ArrayList<>(n);
+        for(Object key : keys){
+            if(key != null) list.add((K) key);
+        }
+        return list;
+    }
+}
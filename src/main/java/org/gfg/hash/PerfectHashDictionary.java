@@ -0,0 +1,338 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable {@link Dictionary} over a static key set that finds every key with a single
+ * probe, using a minimal perfect hash function built by the CHD (compress, hash, displace)
+ * algorithm. Keys are hashed into small buckets; buckets are placed largest first, each
+ * with the first displacement that sends all of its keys to free slots. A lookup hashes
+ * the key once, reads the displacement of its bucket and compares the single key stored
+ * in the resulting slot. The table has exactly one slot per key, and the hash function
+ * itself takes one int displacement per {@value #AVERAGE_BUCKET_SIZE} keys on average.
+ * <p>Keys are split into partitions of about {@value #PARTITION_SIZE} keys with
+ * independent hash functions, which keeps construction fast and lets partitions be built
+ * in parallel. The hash function only sees {@code hashCode()}, so keys that share a hash code
+ * with another key are kept in a small separate table instead.</p>
+ * Update methods throw {@link UnsupportedOperationException}. Null keys are not permitted.
+ * @param <K> type of keys stored in this dictionary
+ * @param <V> type of values stored in this dictionary
+ */
+public final class PerfectHashDictionary<K, V> implements Dictionary<K, V>{
+    private static final int AVERAGE_BUCKET_SIZE = 5;
+    private static final int PARTITION_SIZE = 1 << 14;
+    private static final int MAX_ATTEMPTS = 64;
+
+    private final int n; // number of keys
+    private final Object[] keys; // keys in slot order
+    private final Object[] values;
+    private final int partitions;
+    private final int[] partitionStart; // slots of partition p are partitionStart[p] .. partitionStart[p + 1] - 1
+    private final int[] bucketStart; // buckets of partition p are bucketStart[p] .. bucketStart[p + 1] - 1
+    private final int[] seeds;
+    private final int[] displacements;
+    private final Dictionary<K, V> overflow; // keys whose hash code is not unique, null if none
+
+    /**
+     * Builds a dictionary over a list of distinct keys.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param keys input keys
+     * @param values values of the keys, in the same order
+     * @return perfect hash dictionary
+     * @throws IllegalArgumentException if the lists differ in size or a key occurs twice
+     */
+    public static <K, V> PerfectHashDictionary<K, V> build(List<K> keys, List<V> values){
+        return build(keys, values, false);
+    }
+
+    /**
+     * Builds a dictionary over a list of distinct keys, optionally placing the keys of
+     * different partitions in parallel threads.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param keys input keys
+     * @param values values of the keys, in the same order
+     * @param parallel whether to build partitions in parallel
+     * @return perfect hash dictionary
+     * @throws IllegalArgumentException if the lists differ in size or a key occurs twice
+     */
+    public static <K, V> PerfectHashDictionary<K, V> build(List<K> keys, List<V> values, boolean parallel){
+        if(keys.size() != values.size()){
+            throw new IllegalArgumentException(String.format(
+                "Got %d keys, but %d values.", keys.size(), values.size()));
+        }
+        return new PerfectHashDictionary<>(keys, values, parallel);
+    }
+
+    /**
+     * Returns a perfect hash copy of a dictionary.
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @param dictionary input dictionary
+     * @return perfect hash dictionary with the same entries
+     */
+    public static <K, V> PerfectHashDictionary<K, V> copyOf(Dictionary<K, V> dictionary){
+        List<K> keys = new ArrayList<>(dictionary.size());
+        List<V> values = new ArrayList<>(dictionary.size());
+        dictionary.forEach((k, v) -> {
+            keys.add(k);
+            values.add(v);
+        });
+        return build(keys, values);
+    }
+
+    private PerfectHashDictionary(List<K> keyList, List<V> valueList, boolean parallel){
+        // keys sharing a hash code cannot be told apart by the hash function
+        IntIntDictionary hashCount = new IntIntDictionary(keyList.size());
+        for(K key : keyList){
+            int h = key.hashCode();
+            hashCount.add(h, hashCount.getOrDefault(h, 0) + 1);
+        }
+        Dictionary<K, V> collisions = null;
+        int[] hashes = new int[keyList.size()];
+        int[] sources = new int[keyList.size()];
+        int count = 0;
+        for(int i = 0; i < keyList.size(); i++){
+            K key = keyList.get(i);
+            int h = key.hashCode();
+            if(hashCount.get(h) == 1){
+                hashes[count] = h;
+                sources[count++] = i;
+                continue;
+            }
+            // equal keys have equal hash codes, so every duplicate ends up here
+            if(collisions == null) collisions = new HashDictionary<>();
+            if(collisions.containsKey(key)){
+                throw new IllegalArgumentException(String.format("Key '%s' occurs more than once.", key));
+            }
+            collisions.add(key, valueList.get(i));
+        }
+        overflow = collisions;
+        n = count;
+
+        // distribute the keys over partitions, in slot ranges sized by a counting pass
+        partitions = Math.max(1, (n + PARTITION_SIZE - 1) / PARTITION_SIZE);
+        partitionStart = new int[partitions + 1];
+        int[] partitionOf = new int[n];
+        for(int i = 0; i < n; i++){
+            partitionOf[i] = reduce(hash(hashes[i], 0, 0), partitions);
+            partitionStart[partitionOf[i] + 1]++;
+        }
+        bucketStart = new int[partitions + 1];
+        for(int p = 0; p < partitions; p++){
+            partitionStart[p + 1] += partitionStart[p];
+            int size = partitionStart[p + 1] - partitionStart[p];
+            bucketStart[p + 1] = bucketStart[p] + (size + AVERAGE_BUCKET_SIZE - 1) / AVERAGE_BUCKET_SIZE;
+        }
+        int[] partitionHashes = new int[n];
+        int[] partitionSources = new int[n];
+        int[] next = Arrays.copyOf(partitionStart, partitions);
+        for(int i = 0; i < n; i++){
+            int j = next[partitionOf[i]]++;
+            partitionHashes[j] = hashes[i];
+            partitionSources[j] = sources[i];
+        }
+
+        keys = new Object[n];
+        values = new Object[n];
+        seeds = new int[partitions];
+        displacements = new int[bucketStart[partitions]];
+        IntStream range = IntStream.range(0, partitions);
+        if(parallel) range = range.parallel();
+        range.forEach(p -> buildPartition(p, partitionHashes, partitionSources, keyList, valueList));
+    }
+
+    // hashes a key's hash code with a seed; salt distinguishes independent functions of the same seed
+    private static int hash(int hashCode, int seed, int salt){
+        return HashUtil.mix(((long) seed << 32 | (hashCode & 0xFFFFFFFFL)) ^ (salt * 0x9E3779B97F4A7C15L));
+    }
+
+    // maps a hash uniformly onto [0, range) without division
+    private static int reduce(int hash, int range){
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+
+    private static int slot(int f1, int f2, int displacement, int size){
+        int d0 = displacement / size;
+        int d1 = displacement % size;
+        return (int) ((f1 + (long) d0 * f2 + d1) % size);
+    }
+
+    /*
+        Finds displacements for the buckets of one partition and stores its keys and values
+        in their slots. Partitions write disjoint ranges of the arrays, so they can be built
+        concurrently.
+    */
+    private void buildPartition(int p, int[] hashes, int[] sources, List<K> keyList, List<V> valueList){
+        int from = partitionStart[p];
+        int size = partitionStart[p + 1] - from;
+        int buckets = bucketStart[p + 1] - bucketStart[p];
+        if(size == 0) return;
+        int[] slots = new int[size];
+        for(int seed = p; ; seed += partitions){
+            if(seed >= p + MAX_ATTEMPTS * partitions){
+                throw new IllegalStateException("Could not find a perfect hash function for the key set.");
+            }
+            if(placeBuckets(hashes, from, size, bucketStart[p], buckets, seed, slots)){
+                seeds[p] = seed;
+                break;
+            }
+        }
+        for(int i = 0; i < size; i++){
+            keys[from + slots[i]] = keyList.get(sources[from + i]);
+            values[from + slots[i]] = valueList.get(sources[from + i]);
+        }
+    }
+
+    private boolean placeBuckets(int[] hashes, int from, int size, int firstBucket, int buckets, int seed, int[] slots){
+        int[] f1 = new int[size];
+        int[] f2 = new int[size];
+        int[] bucketOf = new int[size];
+        int[] start = new int[buckets + 1];
+        for(int i = 0; i < size; i++){
+            int h = hashes[from + i];
+            bucketOf[i] = reduce(hash(h, seed, 1), buckets);
+            f1[i] = reduce(hash(h, seed, 2), size);
+            f2[i] = reduce(hash(h, seed, 3), size);
+            start[bucketOf[i] + 1]++;
+        }
+
+        // group keys by bucket
+        int maxBucketSize = 0;
+        for(int b = 0; b < buckets; b++){
+            maxBucketSize = Math.max(maxBucketSize, start[b + 1]);
+            start[b + 1] += start[b];
+        }
+        int[] members = new int[size];
+        int[] next = Arrays.copyOf(start, buckets);
+        for(int i = 0; i < size; i++) members[next[bucketOf[i]]++] = i;
+
+        // order buckets from largest to smallest with a counting sort on their sizes
+        int[] sizeStart = new int[maxBucketSize + 2];
+        for(int b = 0; b < buckets; b++) sizeStart[maxBucketSize - (start[b + 1] - start[b]) + 1]++;
+        for(int s = 0; s <= maxBucketSize; s++) sizeStart[s + 1] += sizeStart[s];
+        int[] order = new int[buckets];
+        for(int b = 0; b < buckets; b++) order[sizeStart[maxBucketSize - (start[b + 1] - start[b])]++] = b;
+
+        boolean[] taken = new boolean[size];
+        long maxDisplacement = Math.min(Integer.MAX_VALUE, (long) size * size);
+        for(int b : order){
+            if(start[b + 1] == start[b]) break; // remaining buckets are empty
+            boolean placed = false;
+            for(int d = 0; d < maxDisplacement && !placed; d++){
+                placed = tryDisplacement(members, start[b], start[b + 1], f1, f2, d, size, taken, slots);
+                if(placed) displacements[firstBucket + b] = d;
+            }
+            if(!placed) return false;
+        }
+        return true;
+    }
+
+    private static boolean tryDisplacement(int[] members, int from, int to, int[] f1, int[] f2,
+        int displacement, int size, boolean[] taken, int[] slots){
+        for(int j = from; j < to; j++){
+            int i = members[j];
+            int slot = slot(f1[i], f2[i], displacement, size);
+            if(taken[slot]){
+                // release slots claimed by earlier keys of this bucket
+                for(int k = from; k < j; k++) taken[slots[members[k]]] = false;
+                return false;
+            }
+            taken[slot] = true;
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the only slot where a key can be stored, or -1 if the table is empty.
+     */
+    private int slotOf(int hashCode){
+        if(n == 0) return -1;
+        int p = reduce(hash(hashCode, 0, 0), partitions);
+        int from = partitionStart[p];
+        int size = partitionStart[p + 1] - from;
+        if(size == 0) return -1;
+        int seed = seeds[p];
+        int bucket = reduce(hash(hashCode, seed, 1), bucketStart[p + 1] - bucketStart[p]);
+        int f1 = reduce(hash(hashCode, seed, 2), size);
+        int f2 = reduce(hash(hashCode, seed, 3), size);
+        return from + slot(f1, f2, displacements[bucketStart[p] + bucket], size);
+    }
+
+    private int findSlot(Object key){
+        int slot = slotOf(key.hashCode());
+        return slot >= 0 && keys[slot].equals(key) ? slot : -1;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0 || overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int slot = findSlot(key);
+        if(slot >= 0) return (V) values[slot];
+        if(overflow == null){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+        return overflow.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = findSlot(key);
+        if(slot >= 0) return (V) values[slot];
+        return overflow != null ? overflow.getOrDefault(key, defaultValue) : defaultValue;
+    }
+
+    @Override
+    public int size() {
+        return n + (overflow != null ? overflow.size() : 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<K> keys() {
+        List<K> list = new ArrayList<>(size());
+        for(Object key : keys) list.add((K) key);
+        if(overflow != null) list.addAll(overflow.keys());
+        return list;
+    }
+
+    private static UnsupportedOperationException readOnly(){
+        return new UnsupportedOperationException("Dictionary is read-only.");
+    }
+
+    @Override
+    public void add(K key, V value) {
+        throw readOnly();
+    }
+
+    @Override
+    public V delete(K key) {
+        throw readOnly();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw readOnly();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw readOnly();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw readOnly();
+    }
+}
@@ -0,0 +1,23 @@
+package org.gfg.hash;
+
+/**
+ * Accumulates the operation counters of a hash table while its statistics are enabled.
+ */
+final class StatsRecorder{
+    final long[] probeHistogram = new long[DictionaryStats.HISTOGRAM_SIZE];
+    int resizeCount;
+    long resizeNanos;
+
+    void recordProbes(int probes){
+        probeHistogram[Math.min(probes, DictionaryStats.HISTOGRAM_SIZE - 1)]++;
+    }
+
+    void recordResize(long startNanos){
+        resizeCount++;
+        resizeNanos += System.nanoTime() - startNanos;
+    }
+
+    void recordMigration(long startNanos){
+        resizeNanos += System.nanoTime() - startNanos;
+    }
+}
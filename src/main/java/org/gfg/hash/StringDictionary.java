@@ -0,0 +1,333 @@
+package org.gfg.hash;
+
+import org.gfg.Dictionary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dictionary specialized for string keys. The characters of all keys are copied into a
+ * single shared {@code char[]} arena and each key is stored once as an offset and length
+ * into it, next to its cached hash code, so a key costs a few array slots instead of a
+ * {@code String} and an entry object. Lookups accept any {@link CharSequence}, e.g. a
+ * reused {@link StringBuilder}, and compare it with the arena character by character
+ * without creating a {@code String}.
+ * <p>Keys are compared by content, and their hash codes are computed like
+ * {@link String#hashCode()}, whatever the class of the sequence. Keys returned by
+ * {@link #keys()} and cursors are new {@code String} copies of the arena contents.
+ * Null keys are not permitted.</p>
+ * @param <V> type of values stored in this dictionary
+ */
+public class StringDictionary<V> implements Dictionary<CharSequence, V>{
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // entries are kept densely packed in insertion order, except that deleting an entry moves the last one into its place
+    private int n; // number of keys currently stored in the dictionary
+    private int[] offsets; // position of the first character of each key in the arena
+    private int[] lengths;
+    private int[] hashes;
+    private Object[] values;
+
+    private char[] arena;
+    private int arenaLength; // number of arena characters in use, including garbage
+    private int garbage; // number of arena characters left behind by deleted keys
+
+    private int mask; // table size minus one; table size is always a power of two
+    private final int minCapacity;
+    private int[] table; // index of an entry plus one, 0 marks an empty slot
+
+    private final double maxLoadFactor = 0.7;
+    private final double minLoadFactor = 0.2;
+    // a sparser table once frozen, like FrozenDictionary, since it is never resized again
+    private static final double FROZEN_LOAD_FACTOR = 0.5;
+    private boolean frozen;
+
+    /**
+     * Initializes a new empty dictionary.
+     */
+    public StringDictionary(){
+        this(0);
+    }
+
+    /**
+     * Initializes a new empty dictionary large enough to hold {@code expectedSize}
+     * keys without resizing.
+     * @param expectedSize expected number of keys
+     */
+    public StringDictionary(int expectedSize){
+        if(expectedSize < 0){
+            throw new IllegalArgumentException(
+                String.format("Expected size must be non-negative, but was %d.", expectedSize));
+        }
+        minCapacity = Math.max(DEFAULT_CAPACITY, HashUtil.tableSizeFor(expectedSize, maxLoadFactor));
+        table = new int[minCapacity];
+        mask = minCapacity - 1;
+        int entries = Math.max(DEFAULT_CAPACITY, expectedSize);
+        offsets = new int[entries];
+        lengths = new int[entries];
+        hashes = new int[entries];
+        values = new Object[entries];
+        arena = new char[entries * 8];
+    }
+
+    private static int hash(CharSequence key){
+        // strings cache their hash code, any other sequence gets the same value computed
+        int h;
+        if(key instanceof String){
+            h = key.hashCode();
+        }else{
+            h = 0;
+            for(int i = 0; i < key.length(); i++) h = 31 * h + key.charAt(i);
+        }
+        return HashUtil.mix(h);
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the bitwise complement of the empty slot
+     * where it would be inserted if the key is absent.
+     */
+    private int findSlot(CharSequence key, int hash){
+        int i = hash & mask;
+        while(true){
+            int e = table[i] - 1;
+            if(e < 0) return ~i;
+            if(hashes[e] == hash && keyEquals(e, key)) return i;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private int findSlot(CharSequence key){
+        return findSlot(key, hash(key));
+    }
+
+    private boolean keyEquals(int e, CharSequence key){
+        int length = lengths[e];
+        if(length != key.length()) return false;
+        int offset = offsets[e];
+        for(int i = 0; i < length; i++){
+            if(arena[offset + i] != key.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void resizeHashTable(int tableSize){
+        // hash codes are cached, so rehashing never touches the characters of the keys
+        table = new int[tableSize];
+        mask = tableSize - 1;
+        for(int e = 0; e < n; e++){
+            int i = hashes[e] & mask;
+            while(table[i] != 0) i = (i + 1) & mask;
+            table[i] = e + 1;
+        }
+    }
+
+    /**
+     * Makes this dictionary read-only and optimizes it for lookups, like a
+     * {@link FrozenDictionary}: the arena is compacted, the entry arrays are trimmed to
+     * the number of keys and the probe table is rebuilt sparser. Afterwards update
+     * methods throw {@link UnsupportedOperationException}.
+     * @return this dictionary
+     */
+    public StringDictionary<V> freeze(){
+        if(frozen) return this;
+        compactArena(arenaLength - garbage);
+        offsets = Arrays.copyOf(offsets, n);
+        lengths = Arrays.copyOf(lengths, n);
+        hashes = Arrays.copyOf(hashes, n);
+        values = Arrays.copyOf(values, n);
+        resizeHashTable(Math.max(2, HashUtil.tableSizeFor(n, FROZEN_LOAD_FACTOR)));
+        frozen = true;
+        return this;
+    }
+
+    private void ensureNotFrozen(){
+        if(frozen) throw new UnsupportedOperationException("Dictionary is read-only.");
+    }
+
+    private static void ensureKeyExists(boolean exists, CharSequence key){
+        if(!exists){
+            throw new IllegalArgumentException(String.format("Key '%s' does not exist in the dictionary.", key));
+        }
+    }
+
+    @Override
+    public boolean containsKey(CharSequence key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence key) {
+        int slot = findSlot(key);
+        ensureKeyExists(slot >= 0, key);
+        return (V) values[table[slot] - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(CharSequence key, V defaultValue) {
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[table[slot] - 1] : defaultValue;
+    }
+
+    @Override
+    public void add(CharSequence key, V value) {
+        ensureNotFrozen();
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if(slot >= 0){
+            values[table[slot] - 1] = value;
+            return;
+        }
+
+        if(n + 1 > maxLoadFactor * table.length && table.length < HashUtil.MAX_CAPACITY){
+            resizeHashTable(table.length << 1);
+            slot = findSlot(key, hash);
+        }
+        if(n == offsets.length){
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * n);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        offsets[n] = appendToArena(key);
+        lengths[n] = key.length();
+        hashes[n] = hash;
+        values[n] = value;
+        table[~slot] = ++n;
+    }
+
+    private int appendToArena(CharSequence key){
+        int length = key.length();
+        if(arenaLength + length > arena.length){
+            // reclaim the space of deleted keys once it makes up half of the arena, otherwise grow it
+            if(garbage >= arenaLength / 2){
+                compactArena(Math.max(arena.length, 2 * (arenaLength - garbage + length)));
+            }else{
+                arena = Arrays.copyOf(arena, (int) Math.min(Integer.MAX_VALUE - 8,
+                    Math.max(2L * arena.length, (long) arenaLength + length)));
+            }
+        }
+        int offset = arenaLength;
+        if(key instanceof String){
+            ((String) key).getChars(0, length, arena, offset);
+        }else{
+            for(int i = 0; i < length; i++) arena[offset + i] = key.charAt(i);
+        }
+        arenaLength += length;
+        return offset;
+    }
+
+    private void compactArena(int capacity){
+        char[] compacted = new char[capacity];
+        int length = 0;
+        for(int e = 0; e < n; e++){
+            System.arraycopy(arena, offsets[e], compacted, length, lengths[e]);
+            offsets[e] = length;
+            length += lengths[e];
+        }
+        arena = compacted;
+        arenaLength = length;
+        garbage = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V delete(CharSequence key) {
+        ensureNotFrozen();
+        int slot = findSlot(key);
+        ensureKeyExists(slot >= 0, key);
+        int e = table[slot] - 1;
+        V value = (V) values[e];
+        garbage += lengths[e];
+        removeSlot(slot);
+
+        // keep entries densely packed by moving the last entry into the freed one
+        int last = n - 1;
+        if(e != last){
+            int i = hashes[last] & mask;
+            while(table[i] != last + 1) i = (i + 1) & mask;
+            table[i] = e + 1;
+            offsets[e] = offsets[last];
+            lengths[e] = lengths[last];
+            hashes[e] = hashes[last];
+            values[e] = values[last];
+        }
+        values[last] = null;
+        n--;
+        if(n == 0){
+            arenaLength = 0;
+            garbage = 0;
+        }
+
+        if(n < minLoadFactor * table.length && table.length > minCapacity){
+            resizeHashTable(table.length >> 1);
+        }
+        return value;
+    }
+
+    /*
+        Empties the slot and shifts back every following key of the same probe run whose
+        home slot does not lie between the emptied slot and the key's current slot.
+    */
+    private void removeSlot(int hole){
+        table[hole] = 0;
+        int i = hole;
+        while(true){
+            i = (i + 1) & mask;
+            int e = table[i] - 1;
+            if(e < 0) return;
+            int home = hashes[e] & mask;
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                table[hole] = table[i];
+                table[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    private String keyAt(int e){
+        return new String(arena, offsets[e], lengths[e]);
+    }
+
+    @Override
+    public List<CharSequence> keys() {
+        List<CharSequence> list = new ArrayList<>(n);
+        for(int e = 0; e < n; e++) list.add(keyAt(e));
+        return list;
+    }
+
+    @Override
+    public Cursor<CharSequence, V> cursor() {
+        return new Cursor<CharSequence, V>(){
+            private int e = -1;
+
+            @Override
+            public boolean next(){
+                return ++e < n;
+            }
+
+            @Override
+            public CharSequence key(){
+                return keyAt(e);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V value(){
+                return (V) values[e];
+            }
+
+            @Override
+            public void reset(){
+                e = -1;
+            }
+        };
+    }
+}
@@ -1,8 +1,8 @@
 package org.gfg.misc.berkleetoberkley;
 
 import java.util.*;
-import org.gfg.Dictionary;
-import org.gfg.hash.HashDictionary;
+import org.gfg.hash.IntDoubleDictionary;
+import org.gfg.hash.IntIntDictionary;
 
 /**
  * Finds shortest path between a source node and all other nodes using Dijsktra's algorithm.
@@ -34,13 +34,13 @@ public class PathFinder{
             Set<Integer> visited = new HashSet<>();
 
             // initialize parent and distance maps
-            Dictionary<Integer, Double> dist = new HashDictionary<>();
-            Dictionary<Integer, Integer> parent = new HashDictionary<>();
+            // the source node is the only node without an entry in the parent map
+            IntDoubleDictionary dist = new IntDoubleDictionary();
+            IntIntDictionary parent = new IntIntDictionary();
             for(int node : roadNetwork.getNodes()){
                 dist.add(node, INF);
             }
             dist.add(sourceNode.getNodeId(), 0.0);
-            parent.add(sourceNode.getNodeId(), null);
 
             // initialize min priority queue of nodes to visit in the order of increasing distance
             PriorityQueue<NodeIdDistancePair> pq = new PriorityQueue<>(
@@ -83,14 +83,15 @@ public class PathFinder{
     }
 
     private List<Node> getShortestPath(
-        Integer source, 
-        Integer destination,
-        Dictionary<Integer, Integer> parent){
+        int source, 
+        int destination,
+        IntIntDictionary parent){
         List<Node> path = new ArrayList<>();
-        Integer nodeId = destination;
-        while(nodeId != null){
-            path.add(roadNetwork.getNode(nodeId));
+        int nodeId = destination;
+        path.add(roadNetwork.getNode(nodeId));
+        while(nodeId != source){
             nodeId = parent.get(nodeId);
+            path.add(roadNetwork.getNode(nodeId));
         }
         Collections.reverse(path);
         return path;
@@ -1,7 +1,8 @@
 package org.gfg.misc.berkleetoberkley;
 
 import org.gfg.Dictionary;
-import org.gfg.hash.HashDictionary;
+import org.gfg.hash.IntDictionary;
+import org.gfg.hash.StringDictionary;
 import java.io.IOException;
 import java.util.*;
 
@@ -11,23 +12,23 @@ import java.util.*;
 public class RoadNetwork {
 
     private RoadNetwork(
-        Dictionary<Integer, List<Road>> network, 
-        Dictionary<String, Node> nodeNameMap,
-        Dictionary<Integer, Node> nodeIdMap){
+        IntDictionary<List<Road>> network, 
+        Dictionary<CharSequence, Node> nodeNameMap,
+        IntDictionary<Node> nodeIdMap){
             this.network = network;
             this.nodeNameMap = nodeNameMap;
             this.nodeIdMap = nodeIdMap;
         }
 
-    private Dictionary<Integer, List<Road>> network;
-    private Dictionary<String, Node> nodeNameMap;
-    private Dictionary<Integer, Node> nodeIdMap;
+    private IntDictionary<List<Road>> network;
+    private Dictionary<CharSequence, Node> nodeNameMap;
+    private IntDictionary<Node> nodeIdMap;
 
     /**
      * Returns all nodes that are part of this road network.
      * @return node ids for each node in the road network
      */
-    public List<Integer> getNodes(){
+    public int[] getNodes(){
         return network.keys();
     }
 
@@ -36,7 +37,7 @@ public class RoadNetwork {
      * @param nodeId node id
      * @return {@code Node} object
      */
-    public Node getNode(Integer nodeId){
+    public Node getNode(int nodeId){
         if(!nodeIdMap.containsKey(nodeId)){
             throw new IllegalArgumentException(
                 String.format("Node with id '%d' not found.", nodeId));
@@ -83,26 +84,30 @@ public class RoadNetwork {
             buildNodeIdMap(nodes));
     }
 
-    private static Dictionary<Integer, Node> buildNodeIdMap(List<Node> nodes){
-        Dictionary<Integer, Node> nodeIdMap = new HashDictionary<>();
+    private static IntDictionary<Node> buildNodeIdMap(List<Node> nodes){
+        IntDictionary<Node> nodeIdMap = new IntDictionary<>(nodes.size());
         for(Node node : nodes){
             nodeIdMap.add(node.getNodeId(), node);
         }
         return nodeIdMap;
     }
 
-    private static Dictionary<String, Node> buildNodeNameMap(List<Node> nodes){
-        Dictionary<String, Node> nodeNameMap = new HashDictionary<>();
+    private static Dictionary<CharSequence, Node> buildNodeNameMap(List<Node> nodes){
+        // node names are assembled in one reused buffer and copied into the dictionary's arena,
+        // so no String is created per node; the map never changes after loading, so it is frozen
+        StringDictionary<Node> nodeNameMap = new StringDictionary<>(nodes.size());
+        StringBuilder nodeKey = new StringBuilder();
         for(Node node : nodes){
-            String nodeKey = node.getState() + node.getDescription();
+            nodeKey.setLength(0);
+            nodeKey.append(node.getState()).append(node.getDescription());
             nodeNameMap.add(nodeKey, node);
         }
-        return nodeNameMap;
+        return nodeNameMap.freeze();
     }
 
-    private static Dictionary<Integer, List<Road>> buildNetwork(List<Node> nodes, List<Link> links){
-        Dictionary<Integer, Node> nodeMap = buildNodeMap(nodes);
-        Dictionary<Integer, List<Road>> network = new HashDictionary<>();
+    private static IntDictionary<List<Road>> buildNetwork(List<Node> nodes, List<Link> links){
+        IntDictionary<Node> nodeMap = buildNodeMap(nodes);
+        IntDictionary<List<Road>> network = new IntDictionary<>(nodes.size());
         
         for(Link link : links){
             int node1 = link.getaNode();
@@ -125,8 +130,8 @@ public class RoadNetwork {
         return network;
     }
 
-    private static Dictionary<Integer, Node> buildNodeMap(List<Node> nodes){
-        Dictionary<Integer, Node> map = new HashDictionary<>();
+    private static IntDictionary<Node> buildNodeMap(List<Node> nodes){
+        IntDictionary<Node> map = new IntDictionary<>(nodes.size());
         for(Node node : nodes){
             map.add(node.getNodeId(), node);
         }
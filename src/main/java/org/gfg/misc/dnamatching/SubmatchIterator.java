@@ -2,8 +2,8 @@ package org.gfg.misc.dnamatching;
 
 import java.io.IOException;
 import java.util.*;
-import org.gfg.Dictionary;
-import org.gfg.hash.HashDictionary;
+import org.gfg.hash.BloomFilter;
+import org.gfg.hash.IntMultiDictionary;
 
 /**
  * Iterator that returns {@link Submatch} tuples containing submatches of size k 
@@ -14,8 +14,13 @@ public class SubmatchIterator implements Iterator<Submatch> {
     private DnaSubsequenceHashIterator A;
     private DnaSubsequenceHashIterator B;
     
-    // maps subsequence hash to a list of offsets where this subsequence occurs
-    private Dictionary<Integer, List<DnaSubsequence>> dictB;
+    // maps subsequence hash to the offsets where this subsequence occurs
+    private IntMultiDictionary dictB;
+    // rules out most subsequence hashes of A that do not occur in B before dictB is probed
+    private BloomFilter<DnaSubsequence> filterB;
+    // second input, so that subsequences at the offsets above can be compared without keeping them
+    private String sequenceB;
+    private int subsequenceLengthB;
 
     /**
      * Initializes a new instance of {@link SubmatchIterator}.
@@ -28,42 +33,66 @@ public class SubmatchIterator implements Iterator<Submatch> {
         B = new DnaSubsequenceHashIterator(fastaFile2, k);
 
         // build subsequence table for B
-        dictB = new HashDictionary<>();
+        IntMultiDictionary.Builder builder = new IntMultiDictionary.Builder();
+        StringBuilder sequence = new StringBuilder();
         while(B.hasNext()){
             DnaSubsequence s = B.next();
-            if(!dictB.containsKey(s.hashCode())){
-                dictB.add(s.hashCode(), new ArrayList<>());
+            String subsequence = s.subsequence();
+            if(sequence.length() == 0){
+                sequence.append(subsequence);
+                subsequenceLengthB = subsequence.length();
+            }else{
+                sequence.append(subsequence.charAt(subsequence.length() - 1));
             }
-            dictB.get(s.hashCode()).add(s);
+            builder.add(s.hashCode(), s.offset());
         }
+        dictB = builder.build();
+        filterB = new BloomFilter<>(dictB.size(), 0.01);
+        for(int key : dictB.keys()) filterB.addHash(key);
+        sequenceB = sequence.toString();
     }
 
+    // candidate offsets in B of the current subsequence of A are dictB values i..end-1
     private int i;
-    private List<DnaSubsequence> subBList;
+    private int end;
     private DnaSubsequence subA;
+    private String subsequenceA;
+    private int matchB = -1; // offset in B of the next verified submatch, -1 if not found yet
 
+    /*
+        Advances to the next offset in B whose subsequence actually equals the current
+        subsequence of A. Offsets with a colliding hash are skipped, and so is the rest
+        of A's subsequences once their candidates run out.
+    */
     @Override
     public boolean hasNext() {
-        if(subBList != null && i < subBList.size()) return true;
-
-        while(A.hasNext()){
+        if(matchB >= 0) return true;
+        while(true){
+            while(i < end){
+                int offsetB = dictB.valueAt(i++);
+                if(subsequenceA.length() == subsequenceLengthB
+                    && sequenceB.regionMatches(offsetB, subsequenceA, 0, subsequenceLengthB)){
+                    matchB = offsetB;
+                    return true;
+                }
+            }
+            if(!A.hasNext()) return false;
             subA = A.next();
-            if(!dictB.containsKey(subA.hashCode())) continue;
-            subBList = dictB.get(subA.hashCode());
-            i = 0;
-            return true;
+            if(!filterB.mightContainHash(subA.hashCode())) continue;
+            int group = dictB.groupOf(subA.hashCode());
+            if(group < 0) continue;
+            subsequenceA = subA.subsequence();
+            i = dictB.start(group);
+            end = dictB.end(group);
         }
-        
-        return false;
     }
 
     @Override
     public Submatch next() {
-        DnaSubsequence subB = subBList.get(i++);
-        if(subA.subsequence().equals(subB.subsequence())){
-            return new Submatch(subA.offset(), subB.offset());
-        }
-        return next();
+        if(!hasNext()) throw new NoSuchElementException();
+        Submatch submatch = new Submatch(subA.offset(), matchB);
+        matchB = -1;
+        return submatch;
     }
     
-}
\ No newline at end of file
+}
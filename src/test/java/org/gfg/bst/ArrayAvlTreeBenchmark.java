@@ -0,0 +1,84 @@
+package org.gfg.bst;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.function.IntFunction;
+import org.gfg.SortedSet;
+
+/**
+ * Compares {@link ArrayAvlTree} against {@link AvlTree} for sets of random keys: heap
+ * retained by the tree, time to build it and the part of it spent in garbage collection,
+ * and {@code contains} throughput with half of the probes present. Sizes are given as
+ * arguments and default to 1M and 10M; larger sizes need a correspondingly larger heap.
+ * Heap figures are measured after full collections and exclude the keys themselves.
+ * Not part of the test suite; run its {@code main} method directly, e.g. with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes org.gfg.bst.ArrayAvlTreeBenchmark 1000000 10000000}.
+ */
+public class ArrayAvlTreeBenchmark{
+    private static final int LOOKUPS = 2000000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args){
+        int[] sizes = args.length > 0 ? new int[args.length] : new int[]{ 1000000, 10000000 };
+        for(int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+
+        for(int size : sizes){
+            Random random = new Random(42);
+            // even keys are present, odd keys are misses
+            Integer[] keys = new Integer[size];
+            for(int i = 0; i < size; i++) keys[i] = 2 * i;
+            for(int i = size - 1; i > 0; i--){
+                int j = random.nextInt(i + 1);
+                Integer tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+            Integer[] probes = new Integer[LOOKUPS];
+            for(int i = 0; i < LOOKUPS; i++) probes[i] = random.nextInt(2 * size);
+
+            System.out.printf("%,d keys:%n", size);
+            run("AvlTree", n -> new AvlTree<>(), keys, probes);
+            run("ArrayAvlTree", n -> new ArrayAvlTree<>(), keys, probes);
+        }
+    }
+
+    private static void run(String name, IntFunction<SortedSet<Integer>> factory, Integer[] keys, Integer[] probes){
+        long before = usedHeap();
+        long gcBefore = gcMillis();
+        long start = System.nanoTime();
+        SortedSet<Integer> set = factory.apply(keys.length);
+        for(Integer key : keys) set.add(key);
+        double buildMillis = (System.nanoTime() - start) / 1e6;
+        long gc = gcMillis() - gcBefore;
+        long retained = usedHeap() - before;
+        System.out.printf("  %-14s build: %8.1f ms (gc %6d ms)  retained: %7.1f MB (%4.1f bytes per key)%n",
+            name, buildMillis, gc, retained / 1e6, (double) retained / keys.length);
+
+        for(int round = 0; round < ROUNDS; round++){
+            long checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes) if(set.contains(probe)) checksum++;
+            System.out.printf("  %-14s contains: %6.2f Mops/s  (checksum %d)%n",
+                name, LOOKUPS / ((System.nanoTime() - start) / 1e9) / 1e6, checksum);
+        }
+
+        // time a full collection with the tree still live
+        start = System.nanoTime();
+        System.gc();
+        System.out.printf("  %-14s full gc with tree live: %6.1f ms%n", name, (System.nanoTime() - start) / 1e6);
+        if(set.size() != keys.length) throw new AssertionError();
+    }
+
+    private static long usedHeap(){
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long gcMillis(){
+        long millis = 0;
+        for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) millis += gc.getCollectionTime();
+        return millis;
+    }
+}
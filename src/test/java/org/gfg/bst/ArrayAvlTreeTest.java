@@ -0,0 +1,58 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class ArrayAvlTreeTest extends SortedSetContractTest<ArrayAvlTree<Integer>>{
+
+    @Override
+    protected ArrayAvlTree<Integer> newSet(){
+        return new ArrayAvlTree<>();
+    }
+
+    @Override
+    protected boolean isValid(ArrayAvlTree<Integer> tree){
+        return tree.isValid();
+    }
+
+    @Test
+    public void arrayAvlTreeEmpty(){
+        ArrayAvlTree<Integer> tree = new ArrayAvlTree<>(0);
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.height(), is(0));
+        assertThat(tree.min(), is(nullValue()));
+        assertThat(tree.max(), is(nullValue()));
+        assertThat(tree.iterator().hasNext(), is(false));
+        tree.remove(1);
+        assertThat(tree.size(), is(0));
+    }
+
+    @Test
+    public void arrayAvlTreeStaysBalanced(){
+        ArrayAvlTree<Integer> tree = new ArrayAvlTree<>();
+        final int n = 100000;
+        for(int i = 0; i < n; i++) tree.add(i);
+        assertThat(tree.isValid(), is(true));
+        // an AVL tree of n nodes is at most 1.44 log2(n) high
+        assertThat(tree.height(), is(lessThanOrEqualTo((int) (1.44 * Math.log(n) / Math.log(2)) + 1)));
+        for(int i = 0; i < n; i += 2) tree.remove(i);
+        assertThat(tree.isValid(), is(true));
+        assertThat(tree.size(), is(n / 2));
+        assertThat(tree.min(), is(1));
+    }
+
+    @Test
+    public void removedSlotsAreReused(){
+        ArrayAvlTree<Integer> tree = new ArrayAvlTree<>(1000);
+        for(int round = 0; round < 10; round++){
+            for(int i = 0; i < 1000; i++) tree.add(round * 1000 + i);
+            for(int i = 0; i < 1000; i++) tree.remove(round * 1000 + i);
+        }
+        assertThat(tree.isEmpty(), is(true));
+        for(int i = 0; i < 1000; i++) tree.add(i);
+        assertThat(tree.isValid(), is(true));
+        assertThat(tree.toList().size(), is(1000));
+    }
+}
@@ -227,4 +227,155 @@ public class AvlTreeTest{
         boolean actual = Util.isSorted(bst.toList(), Comparator.naturalOrder());
         assertThat(actual, is(true));
     }
+
+    @Test
+    public void avlTreeOrderStatisticsRandom(){
+        Bst<Integer> bst = new AvlTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(17);
+        for(int i = 0; i < 20000; i++){
+            int key = random.nextInt(2000);
+            if(random.nextInt(3) == 0){
+                bst.remove(key);
+                expected.remove(key);
+            }else{
+                bst.add(key);
+                expected.add(key);
+            }
+        }
+        assertThat(bst.size(), is(expected.size()));
+        List<Integer> sorted = new ArrayList<>(expected);
+        for(int k = 0; k < sorted.size(); k++){
+            assertThat(bst.select(k), is(sorted.get(k)));
+            assertThat(bst.rank(sorted.get(k)), is(k));
+        }
+        for(int i = 0; i < 200; i++){
+            int lo = random.nextInt(2000);
+            int hi = lo + random.nextInt(200);
+            assertThat(bst.countInRange(lo, hi), is(expected.subSet(lo, true, hi, true).size()));
+            List<Integer> range = new ArrayList<>();
+            bst.range(lo, hi).forEachRemaining(range::add);
+            assertThat(range, is(new ArrayList<>(expected.subSet(lo, true, hi, true))));
+            assertThat(bst.tailCount(lo), is(expected.tailSet(lo).size()));
+        }
+    }
+
+    @Test
+    public void avlTreeFromSorted(){
+        final int nNodes = 100000;
+        AvlTree<Integer> bst = AvlTree.fromSorted(IntStream.range(0, nNodes).iterator());
+        assertThat(bst.size(), is(nNodes));
+        assertThat(bst.height(), is((int)(Math.log(nNodes) / Math.log(2))));
+        assertThat(bst.isBalanced(), is(true));
+        assertThat(bst.select(12345), is(12345));
+
+        // heights set by the bulk build must keep later rebalancing correct
+        Random random = new Random(9);
+        for(int i = 0; i < 50000; i++) bst.remove(random.nextInt(nNodes));
+        for(int i = 0; i < 50000; i++) bst.add(nNodes + random.nextInt(nNodes));
+        assertThat(bst.isBalanced(), is(true));
+        assertThat(Util.isSorted(bst.toList(), Comparator.naturalOrder()), is(true));
+        assertThat(bst.toList().size(), is(bst.size()));
+    }
+
+    @Test
+    public void avlTreeAddAllSorted(){
+        AvlTree<Integer> bst = new AvlTree<>();
+        bst.add(-5);
+        bst.addAll(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        assertThat(bst.size(), is(1001));
+        assertThat(bst.isBalanced(), is(true));
+        bst.add(2000);
+        bst.remove(500);
+        assertThat(bst.isBalanced(), is(true));
+        assertThat(bst.rank(2000), is(1000));
+    }
+
+    private static AvlTree<Integer> randomTree(Random random, int size, int bound, TreeSet<Integer> copy){
+        AvlTree<Integer> tree = new AvlTree<>();
+        for(int i = 0; i < size; i++){
+            int key = random.nextInt(bound);
+            tree.add(key);
+            copy.add(key);
+        }
+        return tree;
+    }
+
+    private static void assertTree(AvlTree<Integer> tree, TreeSet<Integer> expected){
+        assertThat(tree.size(), is(expected.size()));
+        assertThat(tree.toList(), is(new ArrayList<>(expected)));
+        assertThat(tree.isBalanced(), is(true));
+        if(!expected.isEmpty()) assertThat(tree.select(expected.size() - 1), is(expected.last()));
+    }
+
+    @Test
+    public void avlTreeSetOperations(){
+        Random random = new Random(21);
+        // small trees are combined sequentially, large ones in parallel
+        for(int[] sizes : new int[][]{ { 0, 10 }, { 100, 5 }, { 1000, 1000 }, { 200000, 3000 }, { 100000, 100000 } }){
+            for(int operation = 0; operation < 3; operation++){
+                TreeSet<Integer> expectedA = new TreeSet<>();
+                TreeSet<Integer> expectedB = new TreeSet<>();
+                AvlTree<Integer> a = randomTree(random, sizes[0], 4 * sizes[0] + 10, expectedA);
+                AvlTree<Integer> b = randomTree(random, sizes[1], 4 * sizes[0] + 10, expectedB);
+                AvlTree<Integer> result;
+                if(operation == 0){
+                    result = AvlTree.union(a, b);
+                    expectedA.addAll(expectedB);
+                }else if(operation == 1){
+                    result = AvlTree.intersect(a, b);
+                    expectedA.retainAll(expectedB);
+                }else{
+                    result = AvlTree.difference(a, b);
+                    expectedA.removeAll(expectedB);
+                }
+                assertTree(result, expectedA);
+                assertThat(a.isEmpty(), is(true));
+                assertThat(b.isEmpty(), is(true));
+
+                // the result is a regular tree that can still be updated
+                result.add(-1);
+                result.remove(-1);
+                assertThat(result.isBalanced(), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void avlTreeUnionKeepsElementsOfSecondTree(){
+        AvlTree<String> a = new AvlTree<>();
+        AvlTree<String> b = new AvlTree<>();
+        String first = new String("x");
+        String second = new String("x");
+        a.add(first);
+        b.add(second);
+        assertThat(AvlTree.union(a, b).min(), is(sameInstance(second)));
+    }
+
+    @Test
+    public void avlTreeSplitAndJoin(){
+        Random random = new Random(4);
+        for(int size : new int[]{ 0, 1, 10, 1000, 50000 }){
+            TreeSet<Integer> expected = new TreeSet<>();
+            AvlTree<Integer> tree = randomTree(random, size, 4 * size + 10, expected);
+            int key = random.nextInt(4 * size + 10);
+            AvlTree<Integer> upper = tree.split(key);
+            assertTree(tree, new TreeSet<>(expected.headSet(key)));
+            assertTree(upper, new TreeSet<>(expected.tailSet(key)));
+
+            upper.remove(key);
+            AvlTree<Integer> joined = AvlTree.join(tree, key, upper);
+            expected.add(key);
+            assertTree(joined, expected);
+            assertThat(tree.isEmpty(), is(true));
+            assertThat(upper.isEmpty(), is(true));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void avlTreeJoinRejectsUnorderedTrees(){
+        AvlTree<Integer> left = new AvlTree<>();
+        left.add(5);
+        AvlTree.join(left, 3, new AvlTree<Integer>());
+    }
 }
\ No newline at end of file
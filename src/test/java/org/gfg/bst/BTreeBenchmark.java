@@ -0,0 +1,86 @@
+package org.gfg.bst;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+import org.gfg.Dictionary;
+import org.gfg.SortedSet;
+
+/**
+ * Compares {@link BTree} against {@link AvlTree} and {@link BTreeDictionary} against
+ * {@link TreeDictionary} for sets of random keys, building each structure and measuring
+ * {@code contains}/{@code ceil} or {@code getOrDefault} throughput with half of the probes
+ * present. Sizes are given as arguments and default to 1M and 10M; larger sizes need a
+ * correspondingly larger heap. Not part of the test suite; run its {@code main} method directly, e.g. with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes org.gfg.bst.BTreeBenchmark 1000000 10000000}.
+ */
+public class BTreeBenchmark{
+    private static final int LOOKUPS = 2000000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args){
+        int[] sizes = args.length > 0 ? new int[args.length] : new int[]{ 1000000, 10000000 };
+        for(int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+
+        for(int size : sizes){
+            Random random = new Random(42);
+            // even keys are present, odd keys are misses
+            Integer[] keys = new Integer[size];
+            for(int i = 0; i < size; i++) keys[i] = 2 * i;
+            for(int i = size - 1; i > 0; i--){
+                int j = random.nextInt(i + 1);
+                Integer tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+            Integer[] probes = new Integer[LOOKUPS];
+            for(int i = 0; i < LOOKUPS; i++) probes[i] = random.nextInt(2 * size);
+
+            System.out.printf("%,d keys:%n", size);
+            runSet("AvlTree", n -> new AvlTree<>(), keys, probes);
+            runSet("BTree", n -> new BTree<>(), keys, probes);
+            runDictionary("TreeDictionary", n -> new TreeDictionary<>(), keys, probes);
+            runDictionary("BTreeDictionary", n -> new BTreeDictionary<>(), keys, probes);
+        }
+    }
+
+    private static void runSet(String name, IntFunction<SortedSet<Integer>> factory, Integer[] keys, Integer[] probes){
+        long start = System.nanoTime();
+        SortedSet<Integer> set = factory.apply(keys.length);
+        for(Integer key : keys) set.add(key);
+        System.out.printf("  %-16s build: %8.1f ms%n", name, (System.nanoTime() - start) / 1e6);
+
+        for(int round = 0; round < ROUNDS; round++){
+            long checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes) if(set.contains(probe)) checksum++;
+            double containsRate = rate(start);
+
+            start = System.nanoTime();
+            for(Integer probe : probes){
+                Integer ceil = set.ceil(probe);
+                if(ceil != null) checksum += ceil;
+            }
+            System.out.printf("  %-16s contains: %6.2f Mops/s  ceil: %6.2f Mops/s  (checksum %d)%n",
+                name, containsRate, rate(start), checksum);
+        }
+    }
+
+    private static void runDictionary(String name, IntFunction<Dictionary<Integer, Integer>> factory,
+        Integer[] keys, Integer[] probes){
+        long start = System.nanoTime();
+        Dictionary<Integer, Integer> dict = factory.apply(keys.length);
+        for(Integer key : keys) dict.add(key, key);
+        System.out.printf("  %-16s build: %8.1f ms%n", name, (System.nanoTime() - start) / 1e6);
+
+        for(int round = 0; round < ROUNDS; round++){
+            long checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes) checksum += dict.getOrDefault(probe, 0);
+            System.out.printf("  %-16s get: %6.2f Mops/s  (checksum %d)%n", name, rate(start), checksum);
+        }
+    }
+
+    private static double rate(long start){
+        return LOOKUPS / ((System.nanoTime() - start) / 1e9) / 1e6;
+    }
+}
@@ -0,0 +1,74 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.*;
+import org.gfg.Dictionary;
+import org.junit.Test;
+
+public class BTreeDictionaryTest{
+    @Test
+    public void testAddGetDelete(){
+        Dictionary<Integer, String> dict = new BTreeDictionary<>(4);
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(11);
+        for(int i = 0; i < 20000; i++){
+            int key = random.nextInt(2000);
+            if(random.nextInt(3) == 0 && expected.containsKey(key)){
+                assertThat(dict.delete(key), is(expected.remove(key)));
+            }else{
+                dict.add(key, "v" + i);
+                expected.put(key, "v" + i);
+            }
+        }
+        assertThat(dict.size(), is(expected.size()));
+        for(int key = 0; key < 2000; key++){
+            assertThat(dict.containsKey(key), is(expected.containsKey(key)));
+            assertThat(dict.getOrDefault(key, null), is(expected.get(key)));
+        }
+
+        int previous = -1;
+        Dictionary.Cursor<Integer, String> cursor = dict.cursor();
+        while(cursor.next()){
+            assertThat(cursor.key(), is(greaterThan(previous)));
+            assertThat(cursor.value(), is(expected.get(cursor.key())));
+            previous = cursor.key();
+        }
+    }
+
+    @Test
+    public void testOrderStatisticsAndRange(){
+        BTreeDictionary<Integer, String> dict = new BTreeDictionary<>(4);
+        for(int i = 0; i < 100; i++) dict.add(2 * i, "v" + i);
+        assertThat(dict.rank(50), is(25));
+        assertThat(dict.rank(51), is(26));
+        assertThat(dict.select(25), is(50));
+        assertThat(dict.countInRange(10, 20), is(6));
+
+        List<Integer> keys = new ArrayList<>();
+        Dictionary.Cursor<Integer, String> cursor = dict.range(11, 17);
+        while(cursor.next()) keys.add(cursor.key());
+        assertThat(keys, is(Arrays.asList(12, 14, 16)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new BTreeDictionary<>();
+        dict.add(1, "ONE");
+        dict.get(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new BTreeDictionary<>();
+        dict.add(1, "ONE");
+        dict.delete(2);
+    }
+}
@@ -0,0 +1,107 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class BTreeTest extends SortedSetContractTest<BTree<Integer>>{
+
+    // the smallest fanout splits and merges nodes the most often
+    @Override
+    protected BTree<Integer> newSet(){
+        return new BTree<>(4);
+    }
+
+    @Override
+    protected boolean isValid(BTree<Integer> tree){
+        return tree.isValid();
+    }
+
+    @Test
+    public void bTreeEmpty(){
+        BTree<Integer> tree = new BTree<>();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.min(), is(nullValue()));
+        assertThat(tree.ceil(1), is(nullValue()));
+        assertThat(tree.iterator().hasNext(), is(false));
+        tree.remove(1);
+        assertThat(tree.size(), is(0));
+    }
+
+    @Test
+    public void bTreeRemoveAndGet(){
+        BTree<Integer> tree = new BTree<>(4);
+        for(int i = 0; i < 1000; i += 2) tree.add(i);
+        for(int i = 0; i < 1000; i++){
+            // absent keys rebalance the path too, which must leave every count intact
+            assertThat(tree.removeAndGet(i), is((i & 1) == 0 ? (Integer) i : null));
+            assertThat(tree.isValid(), is(true));
+        }
+        assertThat(tree.isEmpty(), is(true));
+    }
+
+    @Test
+    public void bTreeOverwritesEqualElements(){
+        BTree<String> tree = new BTree<>(4);
+        for(int i = 0; i < 100; i++) tree.add("key" + i);
+        for(int i = 0; i < 100; i++) tree.add("key" + i);
+        assertThat(tree.size(), is(100));
+        assertThat(tree.isValid(), is(true));
+    }
+
+    @Test
+    public void bTreeRandom(){
+        for(int fanout : new int[]{ 4, 5, 8, 64 }){
+            BTree<Integer> tree = new BTree<>(fanout);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(fanout);
+            for(int i = 0; i < 50000; i++){
+                int key = random.nextInt(5000);
+                if(random.nextInt(5) < 2){
+                    tree.remove(key);
+                    expected.remove(key);
+                }else{
+                    tree.add(key);
+                    expected.add(key);
+                }
+                assertThat(tree.size(), is(expected.size()));
+            }
+            assertThat(tree.isValid(), is(true));
+            assertThat(tree.toList(), is(new ArrayList<>(expected)));
+            List<Integer> iterated = new ArrayList<>();
+            tree.iterator().forEachRemaining(iterated::add);
+            assertThat(iterated, is(new ArrayList<>(expected)));
+
+            for(int key = -1; key <= 5001; key++){
+                assertThat(tree.contains(key), is(expected.contains(key)));
+                assertThat(tree.ceil(key), is(expected.ceiling(key)));
+                assertThat(tree.floor(key), is(expected.floor(key)));
+                assertThat(tree.successor(key), is(expected.higher(key)));
+                assertThat(tree.predecessor(key), is(expected.lower(key)));
+                assertThat(tree.rank(key), is(expected.headSet(key).size()));
+            }
+            List<Integer> sorted = new ArrayList<>(expected);
+            for(int k = 0; k < sorted.size(); k++) assertThat(tree.select(k), is(sorted.get(k)));
+
+            for(int key : sorted) tree.remove(key);
+            assertThat(tree.isEmpty(), is(true));
+            assertThat(tree.height(), is(0));
+            assertThat(tree.isValid(), is(true));
+        }
+    }
+
+    @Test
+    public void bTreeSequentialInsertKeepsHeightLogarithmic(){
+        BTree<Integer> tree = new BTree<>(4);
+        for(int i = 0; i < 100000; i++) tree.add(i);
+        assertThat(tree.isValid(), is(true));
+        // nodes of fanout 4 are at least half full, so there are at least 2 children per level
+        assertThat(tree.height(), is(lessThanOrEqualTo(17)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bTreeInvalidFanout(){
+        new BTree<Integer>(3);
+    }
+}
@@ -0,0 +1,58 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+/**
+ * Extends the {@link SortedSetContractTest} checks with those of batch insertion, which
+ * every binary search tree derived from {@link Bst} supports.
+ * @param <S> type of the binary search tree under test
+ */
+public abstract class BstContractTest<S extends Bst<Integer>> extends SortedSetContractTest<S>{
+
+    @Test
+    public void addAll(){
+        S tree = newSet();
+        for(int i = 1; i < 1000; i += 2) tree.add(i);
+        List<Integer> batch = new ArrayList<>();
+        for(int i = 0; i < 1000; i += 2) batch.add(i);
+        tree.addAll(batch);
+        assertThat(isValid(tree), is(true));
+        assertThat(tree.size(), is(1000));
+        tree.add(1000);
+        tree.remove(500);
+        assertThat(isValid(tree), is(true));
+        assertThat(tree.size(), is(1000));
+        assertThat(tree.min(), is(0));
+        assertThat(tree.max(), is(1000));
+    }
+
+    @Test
+    public void addAllUnsorted(){
+        S tree = newSet();
+        List<Integer> batch = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) batch.add((i * 7919) % 1000);
+        tree.addAll(batch);
+        assertThat(isValid(tree), is(true));
+        assertThat(tree.size(), is(1000));
+        assertThat(tree.select(500), is(500));
+    }
+
+    @Test
+    public void removeAndGetReturnsRemovedElement(){
+        S tree = newSet();
+        for(int i : new int[]{ 8, 3, 10, 1, 6, 4, 7, 14, 13 }) tree.add(i);
+        assertThat(tree.removeAndGet(5), is(nullValue()));
+        assertThat(tree.size(), is(9));
+        // removing an inner element moves its successor into its node, which must not be returned instead
+        assertThat(tree.removeAndGet(3), is(3));
+        assertThat(tree.removeAndGet(8), is(8));
+        assertThat(tree.removeAndGet(14), is(14));
+        assertThat(tree.removeAndGet(3), is(nullValue()));
+        assertThat(tree.size(), is(6));
+        assertThat(tree.toList(), is(Arrays.asList(1, 4, 6, 7, 10, 13)));
+        assertThat(isValid(tree), is(true));
+    }
+}
@@ -243,4 +243,80 @@ public class BstTest{
 
         assertThat(((Bst<Integer>)buildBst()).height(), is(3));
     }
+
+    @Test
+    public void bstOrderStatistics(){
+        SortedSet<Integer> set = buildBst();
+        // elements in order: 1 3 4 6 7 8 10 13 14
+        assertThat(set.rank(1), is(0));
+        assertThat(set.rank(0), is(0));
+        assertThat(set.rank(8), is(5));
+        assertThat(set.rank(9), is(6));
+        assertThat(set.rank(20), is(9));
+        assertThat(set.select(0), is(1));
+        assertThat(set.select(5), is(8));
+        assertThat(set.select(8), is(14));
+        assertThat(set.countInRange(4, 10), is(5));
+        assertThat(set.countInRange(5, 9), is(3));
+        assertThat(set.countInRange(9, 5), is(0));
+        assertThat(set.headCount(7), is(4));
+        assertThat(set.tailCount(7), is(5));
+
+        List<Integer> range = new ArrayList<>();
+        set.range(4, 13).forEachRemaining(range::add);
+        assertThat(range, is(Arrays.asList(4, 6, 7, 8, 10, 13)));
+        range.clear();
+        set.range(11, 12).forEachRemaining(range::add);
+        assertThat(range.isEmpty(), is(true));
+
+        set.remove(8);
+        assertThat(set.rank(10), is(5));
+        assertThat(set.select(5), is(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bstSelectOutOfRange(){
+        buildBst().select(9);
+    }
+
+    @Test
+    public void bstFromSorted(){
+        Bst<Integer> bst = Bst.fromSorted(Arrays.asList(1, 2, 2, 3, 4, 5, 6, 7).iterator());
+        assertThat(bst.size(), is(7));
+        assertThat(bst.height(), is(2));
+        assertThat(bst.toList(), is(Arrays.asList(1, 2, 3, 4, 5, 6, 7)));
+        assertThat(bst.select(3), is(4));
+
+        Bst<Integer> empty = Bst.fromSorted(Collections.<Integer>emptyIterator());
+        assertThat(empty.isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bstFromSortedRejectsUnsortedInput(){
+        Bst.fromSorted(Arrays.asList(1, 3, 2).iterator());
+    }
+
+    @Test
+    public void bstAddAll(){
+        Bst<Integer> bst = new Bst<>();
+        List<Integer> sorted = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) sorted.add(2 * i);
+        bst.addAll(sorted);
+        // a sorted batch is built balanced instead of degenerating into a list
+        assertThat(bst.isBalanced(), is(true));
+        assertThat(bst.size(), is(1000));
+
+        List<Integer> odd = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) odd.add(2 * i + 1);
+        bst.addAll(odd);
+        assertThat(bst.isBalanced(), is(true));
+        assertThat(bst.size(), is(2000));
+        assertThat(Util.isSorted(bst.toList(), Comparator.naturalOrder()), is(true));
+
+        bst.addAll(Arrays.asList(5000, -1, 3000));
+        assertThat(bst.size(), is(2003));
+        assertThat(bst.min(), is(-1));
+        assertThat(bst.max(), is(5000));
+        assertThat(bst.rank(3000), is(2001));
+    }
 }
\ No newline at end of file
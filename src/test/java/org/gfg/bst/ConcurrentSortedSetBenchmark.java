@@ -0,0 +1,58 @@
+package org.gfg.bst;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.gfg.SortedSet;
+
+/**
+ * Measures throughput of {@link ConcurrentSortedSet} for a read-mostly workload
+ * (90% lookups, 5% adds, 5% removes) as the number of threads grows. Not part of the
+ * test suite; run its {@code main} method directly, e.g. with
+ * {@code java -cp target/classes:target/test-classes org.gfg.bst.ConcurrentSortedSetBenchmark}.
+ */
+public class ConcurrentSortedSetBenchmark{
+    private static final int KEYS = 1 << 20;
+    private static final int OPS_PER_THREAD = 2000000;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for(int threads = 1; threads <= maxThreads; threads *= 2){
+            run(threads);
+        }
+    }
+
+    private static void run(int threads) throws Exception {
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        for(int i = 0; i < KEYS; i += 2) set.add(i);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            final long seed = t;
+            futures.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                long checksum = 0;
+                start.await();
+                for(int i = 0; i < OPS_PER_THREAD; i++){
+                    int key = random.nextInt(KEYS);
+                    int op = random.nextInt(20);
+                    if(op == 0) set.add(key);
+                    else if(op == 1) set.remove(key);
+                    else if(set.contains(key)) checksum++;
+                }
+                return checksum;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        long checksum = 0;
+        for(Future<Long> future : futures) checksum += future.get();
+        long nanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        System.out.printf("threads: %2d  throughput: %7.1f Mops/s  (checksum %d)%n",
+            threads, (double) threads * OPS_PER_THREAD / (nanos / 1e9) / 1e6, checksum);
+    }
+}
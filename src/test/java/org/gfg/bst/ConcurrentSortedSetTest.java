@@ -0,0 +1,187 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.hamcrest.Matchers.*;
+import org.gfg.SortedSet;
+import org.junit.Test;
+
+public class ConcurrentSortedSetTest{
+    private static final int THREADS = 8;
+
+    @Test
+    public void sequentialOperationsMatchTreeSet(){
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(22);
+        for(int i = 0; i < 50000; i++){
+            int key = random.nextInt(5000);
+            if(random.nextInt(3) == 0){
+                set.remove(key);
+                expected.remove(key);
+            }else{
+                set.add(key);
+                expected.add(key);
+            }
+        }
+        assertThat(set.size(), is(expected.size()));
+        assertThat(set.toList(), is(new ArrayList<>(expected)));
+        assertThat(set.min(), is(expected.first()));
+        assertThat(set.max(), is(expected.last()));
+        for(int key = -1; key <= 5001; key++){
+            assertThat(set.contains(key), is(expected.contains(key)));
+            assertThat(set.ceil(key), is(expected.ceiling(key)));
+            assertThat(set.floor(key), is(expected.floor(key)));
+            assertThat(set.successor(key), is(expected.higher(key)));
+            assertThat(set.predecessor(key), is(expected.lower(key)));
+        }
+        assertThat(set.rank(2500), is(expected.headSet(2500).size()));
+        assertThat(set.select(10), is(new ArrayList<>(expected).get(10)));
+        assertThat(set.countInRange(100, 200), is(expected.subSet(100, true, 200, true).size()));
+        List<Integer> range = new ArrayList<>();
+        set.range(100, 200).forEachRemaining(range::add);
+        assertThat(range, is(new ArrayList<>(expected.subSet(100, true, 200, true))));
+    }
+
+    @Test
+    public void emptySet(){
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        assertThat(set.isEmpty(), is(true));
+        assertThat(set.min(), is(nullValue()));
+        assertThat(set.max(), is(nullValue()));
+        assertThat(set.ceil(1), is(nullValue()));
+        assertThat(set.iterator().hasNext(), is(false));
+        set.remove(1);
+        assertThat(set.size(), is(0));
+    }
+
+    /*
+        Even keys are never removed while every thread adds and removes odd keys it owns
+        and checks on each step that operations agree with what it can know for sure:
+        its own keys are present exactly when it last added them, and neighbours of any
+        key are bounded by the stable even keys around it.
+    */
+    @Test
+    public void concurrentOperationsAreConsistent() throws Exception {
+        final int stable = 20000;
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        for(int i = 0; i < stable; i++) set.add(2 * i);
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Set<Integer>> owned = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++) owned.add(new HashSet<>());
+
+        runConcurrently(t -> {
+            Random random = new Random(t);
+            Set<Integer> mine = owned.get(t);
+            for(int i = 0; i < 100000 && failure.get() == null; i++){
+                int k = random.nextInt(stable - 1);
+                int key = 2 * (k - k % THREADS + t) + 1; // an odd key owned by this thread
+                if(key >= 2 * stable) continue;
+                if(random.nextBoolean()){
+                    set.add(key);
+                    mine.add(key);
+                }else{
+                    set.remove(key);
+                    mine.remove(key);
+                }
+                if(set.contains(key) != mine.contains(key)) failure.set("contains(" + key + ")");
+
+                int even = 2 * random.nextInt(stable);
+                if(!set.contains(even)) failure.set("contains(" + even + ")");
+                Integer ceil = set.ceil(even + 1);
+                if(ceil == null ? even + 2 < 2 * stable : ceil < even + 1 || ceil > even + 2) failure.set("ceil(" + (even + 1) + ")");
+                Integer floor = set.floor(even + 1);
+                if(floor == null || floor < even || floor > even + 1) failure.set("floor(" + (even + 1) + ")");
+                Integer successor = set.successor(even);
+                if(successor == null ? even + 2 < 2 * stable : successor <= even || successor > even + 2) failure.set("successor(" + even + ")");
+                Integer predecessor = set.predecessor(even);
+                if(predecessor == null ? even > 0 : predecessor >= even || predecessor < even - 2) failure.set("predecessor(" + even + ")");
+            }
+        });
+
+        assertThat(failure.get(), is(nullValue()));
+        TreeSet<Integer> expected = new TreeSet<>();
+        for(int i = 0; i < stable; i++) expected.add(2 * i);
+        for(Set<Integer> mine : owned) expected.addAll(mine);
+        assertThat(set.toList(), is(new ArrayList<>(expected)));
+        assertThat(set.size(), is(expected.size()));
+    }
+
+    @Test
+    public void contestedAddsAndRemovesLeaveConsistentState() throws Exception {
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        final int keys = 64;
+        runConcurrently(t -> {
+            Random random = new Random(t);
+            for(int i = 0; i < 200000; i++){
+                int key = random.nextInt(keys);
+                if(random.nextBoolean()) set.add(key);
+                else set.remove(key);
+            }
+        });
+
+        List<Integer> elements = set.toList();
+        assertThat(set.size(), is(elements.size()));
+        for(int i = 1; i < elements.size(); i++) assertThat(elements.get(i), is(greaterThan(elements.get(i - 1))));
+        for(int key = 0; key < keys; key++) assertThat(set.contains(key), is(elements.contains(key)));
+    }
+
+    @Test
+    public void iterationIsWeaklyConsistent() throws Exception {
+        SortedSet<Integer> set = new ConcurrentSortedSet<>();
+        final int stable = 10000;
+        for(int i = 0; i < stable; i++) set.add(2 * i);
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        runConcurrently(t -> {
+            Random random = new Random(t);
+            if(t % 2 == 0){
+                for(int i = 0; i < 200000; i++){
+                    int key = 2 * random.nextInt(stable) + 1;
+                    if(random.nextBoolean()) set.add(key);
+                    else set.remove(key);
+                }
+            }else{
+                for(int round = 0; round < 20; round++){
+                    // iterators see every stable element exactly once, in ascending order
+                    int previous = -1;
+                    int evens = 0;
+                    for(int value : set){
+                        if(value <= previous) failure.set("iteration order");
+                        if(value % 2 == 0) evens++;
+                        previous = value;
+                    }
+                    if(evens != stable) failure.set("iteration saw " + evens + " stable elements");
+                }
+            }
+        });
+        assertThat(failure.get(), is(nullValue()));
+    }
+
+    private interface Task{
+        void run(int threadIndex) throws Exception;
+    }
+
+    private static void runConcurrently(Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++){
+            final int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(threadIndex);
+                return null;
+            }));
+        }
+        start.countDown();
+        try{
+            for(Future<?> future : futures) future.get();
+        }finally{
+            executor.shutdown();
+        }
+    }
+}
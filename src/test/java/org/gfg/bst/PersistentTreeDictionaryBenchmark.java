@@ -0,0 +1,107 @@
+package org.gfg.bst;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.gfg.Dictionary;
+
+/**
+ * Compares {@link PersistentTreeDictionary} against {@link TreeDictionary}: retained heap
+ * per entry, update throughput, and the cost of keeping consistent views of a dictionary
+ * under updates, either as O(1) snapshots or, for the mutable tree, as copies made with
+ * {@code keys()}, which copy the keys only. The size is given as an argument and defaults to 1M keys. Heap figures
+ * are measured after full collections and are approximate. Not part of the test suite;
+ * run its {@code main} method directly, e.g. with
+ * {@code java -Xmx2g -cp target/classes:target/test-classes org.gfg.bst.PersistentTreeDictionaryBenchmark 1000000}.
+ */
+public class PersistentTreeDictionaryBenchmark{
+    private static final int UPDATES = 1000000;
+    private static final int VIEWS = 10;
+
+    public static void main(String[] args){
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        Random random = new Random(42);
+        Integer[] keys = new Integer[size];
+        for(int i = 0; i < size; i++) keys[i] = random.nextInt();
+        Integer[] updates = new Integer[UPDATES];
+        for(int i = 0; i < UPDATES; i++) updates[i] = keys[random.nextInt(size)];
+
+        System.out.printf("%,d keys:%n", size);
+        run("TreeDictionary", TreeDictionary::new, keys, updates);
+        run("PersistentTree", PersistentTreeDictionary::new, keys, updates);
+        runViews(keys, updates);
+    }
+
+    private static void run(String name, Supplier<Dictionary<Integer, Integer>> factory, Integer[] keys, Integer[] updates){
+        long before = usedHeap();
+        Dictionary<Integer, Integer> dict = factory.get();
+        for(Integer key : keys) dict.add(key, key);
+        long retained = usedHeap() - before;
+        System.out.printf("  %-16s retained: %6.1f MB  (%5.1f bytes per key, excluding the keys)%n",
+            name, retained / 1e6, (double) retained / dict.size());
+
+        for(int round = 0; round < 3; round++){
+            long start = System.nanoTime();
+            for(Integer key : updates){
+                dict.delete(key);
+                dict.add(key, key);
+            }
+            System.out.printf("  %-16s delete+add: %6.2f Mops/s%n", name, rate(start));
+        }
+    }
+
+    /*
+        Keeps the last VIEWS views of a dictionary that receives UPDATES / VIEWS updates
+        between views and reports what they retain on top of the live dictionary.
+    */
+    private static void runViews(Integer[] keys, Integer[] updates){
+        Dictionary<Integer, Integer> mutable = new TreeDictionary<>();
+        PersistentTreeDictionary<Integer, Integer> persistent = new PersistentTreeDictionary<>();
+        for(Integer key : keys){
+            mutable.add(key, key);
+            persistent.add(key, key);
+        }
+        int between = updates.length / VIEWS;
+
+        List<Object> copies = new ArrayList<>();
+        long copyNanos = 0;
+        long base = usedHeap();
+        for(int i = 0; i < updates.length; i++){
+            mutable.add(updates[i], i);
+            if((i + 1) % between == 0){
+                long start = System.nanoTime();
+                copies.add(mutable.keys());
+                copyNanos += System.nanoTime() - start;
+            }
+        }
+        System.out.printf("  %-16s %d copies: %6.1f MB retained, %8.3f ms per view%n",
+            "TreeDictionary", copies.size(), (usedHeap() - base) / 1e6, copyNanos / 1e6 / copies.size());
+        copies.clear();
+        mutable = null;
+
+        List<Object> snapshots = new ArrayList<>();
+        long snapshotNanos = 0;
+        base = usedHeap();
+        for(int i = 0; i < updates.length; i++){
+            persistent.add(updates[i], i);
+            if((i + 1) % between == 0){
+                long start = System.nanoTime();
+                snapshots.add(persistent.snapshot());
+                snapshotNanos += System.nanoTime() - start;
+            }
+        }
+        System.out.printf("  %-16s %d snapshots: %6.1f MB retained, %8.3f ms per view%n",
+            "PersistentTree", snapshots.size(), (usedHeap() - base) / 1e6, snapshotNanos / 1e6 / snapshots.size());
+    }
+
+    private static long usedHeap(){
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double rate(long start){
+        return UPDATES / ((System.nanoTime() - start) / 1e9) / 1e6;
+    }
+}
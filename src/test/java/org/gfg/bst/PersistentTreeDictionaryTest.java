@@ -0,0 +1,172 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.*;
+import org.gfg.Dictionary;
+import org.junit.Test;
+
+public class PersistentTreeDictionaryTest{
+    @Test
+    public void testAddGetAndDelete(){
+        Dictionary<Integer, String> dict = new PersistentTreeDictionary<>();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(2, "Two");
+        dict.add(1, "One");
+        dict.add(3, "Three");
+        dict.add(1, "ONE");
+        assertThat(dict.size(), is(3));
+        assertThat(dict.get(1), is("ONE"));
+        assertThat(dict.keys(), is(Arrays.asList(1, 2, 3)));
+        assertThat(dict.delete(2), is("Two"));
+        assertThat(dict.containsKey(2), is(false));
+        assertThat(dict.getOrDefault(2, "none"), is("none"));
+        assertThat(dict.size(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getMissingKey(){
+        new PersistentTreeDictionary<Integer, String>().get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deleteMissingKey(){
+        Dictionary<Integer, String> dict = new PersistentTreeDictionary<>();
+        dict.add(1, "One");
+        dict.delete(2);
+    }
+
+    @Test
+    public void randomOperationsMatchTreeMap(){
+        PersistentTreeDictionary<Integer, Integer> dict = new PersistentTreeDictionary<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(23);
+        for(int i = 0; i < 20000; i++){
+            int key = random.nextInt(2000);
+            if(random.nextInt(3) == 0){
+                if(expected.containsKey(key)) assertThat(dict.delete(key), is(expected.remove(key)));
+            }else{
+                dict.add(key, i);
+                expected.put(key, i);
+            }
+        }
+        assertThat(dict.isValid(), is(true));
+        assertThat(dict.size(), is(expected.size()));
+        assertThat(dict.keys(), is(new ArrayList<>(expected.keySet())));
+        for(int key = 0; key < 2000; key++){
+            assertThat(dict.getOrDefault(key, -1), is(expected.getOrDefault(key, -1)));
+            assertThat(dict.rank(key), is(expected.headMap(key).size()));
+        }
+        for(int k = 0; k < expected.size(); k++){
+            assertThat(dict.select(k), is(new ArrayList<>(expected.keySet()).get(k)));
+        }
+    }
+
+    @Test
+    public void rangeCursor(){
+        PersistentTreeDictionary<Integer, Integer> dict = new PersistentTreeDictionary<>();
+        for(int i = 0; i < 100; i += 2) dict.add(i, i * i);
+        Dictionary.Cursor<Integer, Integer> cursor = dict.range(15, 30);
+        List<Integer> keys = new ArrayList<>();
+        while(cursor.next()){
+            assertThat(cursor.value(), is(cursor.key() * cursor.key()));
+            keys.add(cursor.key());
+        }
+        assertThat(keys, is(Arrays.asList(16, 18, 20, 22, 24, 26, 28, 30)));
+    }
+
+    @Test
+    public void snapshotsAreIndependent(){
+        PersistentTreeDictionary<Integer, String> dict = new PersistentTreeDictionary<>();
+        for(int i = 0; i < 100; i++) dict.add(i, "v" + i);
+        PersistentTreeDictionary<Integer, String> snapshot = dict.snapshot();
+
+        dict.add(100, "v100");
+        dict.add(0, "changed");
+        dict.delete(50);
+        snapshot.delete(99);
+
+        assertThat(snapshot.size(), is(99));
+        assertThat(snapshot.get(0), is("v0"));
+        assertThat(snapshot.containsKey(50), is(true));
+        assertThat(snapshot.containsKey(100), is(false));
+        assertThat(dict.size(), is(100));
+        assertThat(dict.get(0), is("changed"));
+        assertThat(dict.containsKey(99), is(true));
+        assertThat(dict.isValid() && snapshot.isValid(), is(true));
+    }
+
+    @Test
+    public void cursorTraversesTheVersionItStartedOn(){
+        PersistentTreeDictionary<Integer, Integer> dict = new PersistentTreeDictionary<>();
+        for(int i = 0; i < 10; i++) dict.add(i, i);
+        Dictionary.Cursor<Integer, Integer> cursor = dict.cursor();
+        List<Integer> keys = new ArrayList<>();
+        while(cursor.next()){
+            keys.add(cursor.key());
+            dict.add(cursor.key() + 100, 0);
+        }
+        assertThat(keys, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        cursor.reset();
+        int count = 0;
+        while(cursor.next()) count++;
+        assertThat(count, is(20));
+    }
+
+    @Test
+    public void readersSeeConsistentVersionsWhileWriterUpdates() throws Exception {
+        // the writer adds keys in ascending order, so every version holds exactly 0..size-1
+        PersistentTreeDictionary<Integer, Integer> dict = new PersistentTreeDictionary<>();
+        final int n = 20000;
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for(int i = 0; i < n; i++) dict.add(i, i);
+        });
+        List<Thread> readers = new ArrayList<>();
+        for(int t = 0; t < 4; t++){
+            readers.add(new Thread(() -> {
+                while(failure.get() == null){
+                    PersistentTreeDictionary<Integer, Integer> snapshot = dict.snapshot();
+                    int size = snapshot.size();
+                    Dictionary.Cursor<Integer, Integer> cursor = snapshot.cursor();
+                    int expected = 0;
+                    while(cursor.next()){
+                        if(cursor.key() != expected++) failure.set("cursor saw " + cursor.key());
+                    }
+                    if(expected != size) failure.set("cursor saw " + expected + " of " + size + " keys");
+                    if(size > 0 && snapshot.select(size - 1) != size - 1) failure.set("select");
+                    if(size == n) return;
+                }
+            }));
+        }
+        for(Thread reader : readers) reader.start();
+        writer.start();
+        writer.join();
+        for(Thread reader : readers) reader.join();
+        assertThat(failure.get(), is(nullValue()));
+        assertThat(dict.size(), is(n));
+    }
+
+    @Test
+    public void concurrentWritersDoNotLoseUpdates() throws Exception {
+        PersistentTreeDictionary<Integer, Integer> dict = new PersistentTreeDictionary<>();
+        List<Thread> writers = new ArrayList<>();
+        for(int t = 0; t < 4; t++){
+            final int offset = t;
+            writers.add(new Thread(() -> {
+                for(int i = offset; i < 20000; i += 4) dict.add(i, i);
+            }));
+        }
+        for(Thread writer : writers) writer.start();
+        for(Thread writer : writers) writer.join();
+        assertThat(dict.size(), is(20000));
+        assertThat(dict.isValid(), is(true));
+    }
+}
@@ -0,0 +1,72 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class RedBlackTreeTest extends BstContractTest<RedBlackTree<Integer>>{
+
+    @Override
+    protected RedBlackTree<Integer> newSet(){
+        return new RedBlackTree<>();
+    }
+
+    @Override
+    protected boolean isValid(RedBlackTree<Integer> tree){
+        return tree.isValid();
+    }
+
+    @Test
+    public void redBlackTreeBuildsEverySize(){
+        for(int n = 0; n <= 300; n++){
+            RedBlackTree<Integer> tree = new RedBlackTree<>();
+            List<Integer> sorted = new ArrayList<>();
+            for(int i = 0; i < n; i++) sorted.add(i);
+            tree.addAll(sorted);
+            assertThat(tree.isValid(), is(true));
+            assertThat(tree.toList(), is(sorted));
+        }
+    }
+
+    // counts comparisons, so tests can tell a linear rebuild from inserting the elements one by one
+    private static class Counted implements Comparable<Counted>{
+        static long comparisons;
+        final int value;
+
+        Counted(int value){
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Counted other){
+            comparisons++;
+            return Integer.compare(value, other.value);
+        }
+    }
+
+    @Test
+    public void redBlackTreeSortedAddAllRebuildsInLinearTime(){
+        RedBlackTree<Counted> tree = new RedBlackTree<>();
+        List<Counted> existing = new ArrayList<>();
+        for(int i = 0; i < 100000; i++) existing.add(new Counted(2 * i));
+        tree.addAll(existing);
+        List<Counted> batch = new ArrayList<>();
+        for(int i = 0; i < 20000; i++) batch.add(new Counted(10 * i + 1));
+
+        Counted.comparisons = 0;
+        tree.addAll(batch);
+        // re-inserting all 120000 elements one by one would take about 17 comparisons each
+        assertThat(Counted.comparisons, is(lessThan(3L * tree.size())));
+        assertThat(tree.size(), is(120000));
+        assertThat(tree.isValid(), is(true));
+    }
+
+    @Test
+    public void redBlackTreeHeightIsLogarithmic(){
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        final int n = 1 << 16;
+        for(int i = 0; i < n; i++) tree.add(i);
+        assertThat(tree.height(), is(lessThanOrEqualTo(2 * 16)));
+    }
+}
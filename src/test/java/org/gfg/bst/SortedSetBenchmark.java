@@ -0,0 +1,130 @@
+package org.gfg.bst;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import org.gfg.SortedSet;
+
+/**
+ * Replays mixes of inserts, deletes and lookups against every {@link SortedSet} in this
+ * package, to help pick a tree for a workload. Each workload starts from a set of
+ * {@code size} random keys out of a key space twice as large, except for the sorted
+ * one, which starts empty:
+ * <ul>
+ * <li>{@code read-mostly}: 90% {@code contains}, 5% {@code add}, 5% {@code remove}, uniform keys;</li>
+ * <li>{@code update-heavy}: 50% {@code add}, 50% {@code remove}, uniform keys;</li>
+ * <li>{@code drain}: removes every element in random order;</li>
+ * <li>{@code sorted}: adds keys in ascending order, then looks up random ones;</li>
+ * <li>{@code skewed}: {@code contains} and {@code ceil} where 90% of the probes go to 1% of the keys.</li>
+ * </ul>
+ * The size and number of operations are given as arguments and default to 256K and 1M.
+ * Not part of the test suite; run its {@code main} method directly, e.g. with
+ * {@code java -Xmx2g -cp target/classes:target/test-classes org.gfg.bst.SortedSetBenchmark 262144 1000000}.
+ */
+public class SortedSetBenchmark{
+    private static final int ROUNDS = 2;
+    private static long sink; // consumes lookup results so they cannot be optimized away
+
+    private interface Workload{
+        long run(SortedSet<Integer> set, int size, int ops, SplittableRandom random);
+    }
+
+    public static void main(String[] args){
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 18;
+        int ops = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+
+        Map<String, Supplier<SortedSet<Integer>>> trees = new LinkedHashMap<>();
+        trees.put("AvlTree", AvlTree::new);
+        trees.put("RedBlackTree", RedBlackTree::new);
+        trees.put("Treap", Treap::new);
+        trees.put("SplayTree", SplayTree::new);
+        trees.put("ArrayAvlTree", ArrayAvlTree::new);
+        trees.put("BTree", BTree::new);
+
+        Map<String, Workload> workloads = new LinkedHashMap<>();
+        workloads.put("read-mostly", SortedSetBenchmark::readMostly);
+        workloads.put("update-heavy", SortedSetBenchmark::updateHeavy);
+        workloads.put("drain", SortedSetBenchmark::drain);
+        workloads.put("sorted", SortedSetBenchmark::sorted);
+        workloads.put("skewed", SortedSetBenchmark::skewed);
+
+        System.out.printf("%,d keys, %,d operations, Mops/s:%n", size, ops);
+        System.out.printf("  %-14s", "");
+        for(String workload : workloads.keySet()) System.out.printf("%14s", workload);
+        System.out.println();
+        for(Map.Entry<String, Supplier<SortedSet<Integer>>> tree : trees.entrySet()){
+            System.out.printf("  %-14s", tree.getKey());
+            for(Workload workload : workloads.values()){
+                double best = 0;
+                for(int round = 0; round < ROUNDS; round++){
+                    SplittableRandom random = new SplittableRandom(round);
+                    SortedSet<Integer> set = tree.getValue().get();
+                    long start = System.nanoTime();
+                    long operations = workload.run(set, size, ops, random);
+                    best = Math.max(best, operations / ((System.nanoTime() - start) / 1e9) / 1e6);
+                }
+                System.out.printf("%14.2f", best);
+            }
+            System.out.println();
+        }
+        System.out.printf("(checksum %d)%n", sink);
+    }
+
+    private static void fill(SortedSet<Integer> set, int size, SplittableRandom random){
+        while(set.size() < size) set.add(random.nextInt(2 * size));
+    }
+
+    private static long readMostly(SortedSet<Integer> set, int size, int ops, SplittableRandom random){
+        fill(set, size, random);
+        long checksum = 0;
+        for(int i = 0; i < ops; i++){
+            int key = random.nextInt(2 * size);
+            int op = random.nextInt(20);
+            if(op == 0) set.add(key);
+            else if(op == 1) set.remove(key);
+            else if(set.contains(key)) checksum++;
+        }
+        sink += checksum;
+        return size + ops;
+    }
+
+    private static long updateHeavy(SortedSet<Integer> set, int size, int ops, SplittableRandom random){
+        fill(set, size, random);
+        for(int i = 0; i < ops; i++){
+            int key = random.nextInt(2 * size);
+            if(random.nextBoolean()) set.add(key);
+            else set.remove(key);
+        }
+        return size + ops;
+    }
+
+    private static long drain(SortedSet<Integer> set, int size, int ops, SplittableRandom random){
+        fill(set, size, random);
+        while(!set.isEmpty()) set.remove(set.select(random.nextInt(set.size())));
+        return 3L * size;
+    }
+
+    private static long sorted(SortedSet<Integer> set, int size, int ops, SplittableRandom random){
+        for(int i = 0; i < size; i++) set.add(i);
+        long checksum = 0;
+        for(int i = 0; i < ops; i++) if(set.contains(random.nextInt(size))) checksum++;
+        if(checksum != ops) throw new AssertionError();
+        return size + ops;
+    }
+
+    private static long skewed(SortedSet<Integer> set, int size, int ops, SplittableRandom random){
+        fill(set, size, random);
+        int hot = Math.max(1, size / 100);
+        long checksum = 0;
+        for(int i = 0; i < ops; i++){
+            // hot keys are spread over the key space, so they do not share a subtree
+            int key = random.nextInt(10) != 0 ? random.nextInt(hot) * 200 : random.nextInt(2 * size);
+            if(set.contains(key)) checksum++;
+            Integer ceil = set.ceil(key);
+            if(ceil != null) checksum += ceil;
+        }
+        sink += checksum;
+        return size + 2L * ops;
+    }
+}
@@ -0,0 +1,124 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.gfg.SortedSet;
+import org.junit.Test;
+
+/**
+ * Checks the behaviour every {@link SortedSet} implementation shares. Tests of a
+ * particular tree extend this class with a factory and a check of the tree's own
+ * invariants, and add only the tests specific to that tree.
+ * @param <S> type of the sorted set under test
+ */
+public abstract class SortedSetContractTest<S extends SortedSet<Integer>>{
+
+    protected abstract S newSet();
+
+    // checks the structural invariants of the tree behind the set
+    protected abstract boolean isValid(S set);
+
+    @Test
+    public void lookups(){
+        S set = newSet();
+        for(int i : new int[]{ 8, 3, 10, 1, 6, 4, 7, 14, 13 }) set.add(i);
+        // elements in order: 1 3 4 6 7 8 10 13 14
+        assertThat(set.size(), is(9));
+        assertThat(set.contains(6), is(true));
+        assertThat(set.contains(5), is(false));
+        assertThat(set.min(), is(1));
+        assertThat(set.max(), is(14));
+        assertThat(set.successor(8), is(10));
+        assertThat(set.successor(9), is(10));
+        assertThat(set.successor(14), is(nullValue()));
+        assertThat(set.predecessor(8), is(7));
+        assertThat(set.predecessor(1), is(nullValue()));
+        assertThat(set.ceil(5), is(6));
+        assertThat(set.ceil(6), is(6));
+        assertThat(set.ceil(15), is(nullValue()));
+        assertThat(set.floor(12), is(10));
+        assertThat(set.floor(13), is(13));
+        assertThat(set.floor(0), is(nullValue()));
+        assertThat(set.toList(), is(Arrays.asList(1, 3, 4, 6, 7, 8, 10, 13, 14)));
+        assertThat(set.rank(9), is(6));
+        assertThat(set.select(6), is(10));
+        assertThat(set.countInRange(4, 10), is(5));
+
+        List<Integer> range = new ArrayList<>();
+        set.range(5, 13).forEachRemaining(range::add);
+        assertThat(range, is(Arrays.asList(6, 7, 8, 10, 13)));
+        assertThat(isValid(set), is(true));
+    }
+
+    @Test
+    public void emptySet(){
+        S set = newSet();
+        assertThat(set.isEmpty(), is(true));
+        assertThat(set.contains(1), is(false));
+        assertThat(set.ceil(1), is(nullValue()));
+        assertThat(set.floor(1), is(nullValue()));
+        assertThat(set.iterator().hasNext(), is(false));
+        set.remove(1);
+        assertThat(set.size(), is(0));
+        assertThat(isValid(set), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectOutOfRange(){
+        S set = newSet();
+        set.add(1);
+        set.select(1);
+    }
+
+    @Test
+    public void randomOperationsMatchTreeSet(){
+        S set = newSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(25);
+        for(int i = 0; i < 50000; i++){
+            int key = random.nextInt(3000);
+            int op = random.nextInt(4);
+            if(op == 0){
+                set.remove(key);
+                expected.remove(key);
+            }else if(op == 1){
+                assertThat(set.contains(key), is(expected.contains(key)));
+            }else{
+                set.add(key);
+                expected.add(key);
+            }
+        }
+        assertThat(isValid(set), is(true));
+        assertThat(set.size(), is(expected.size()));
+        assertThat(set.toList(), is(new ArrayList<>(expected)));
+        List<Integer> iterated = new ArrayList<>();
+        set.iterator().forEachRemaining(iterated::add);
+        assertThat(iterated, is(new ArrayList<>(expected)));
+        for(int key = -1; key <= 3001; key++){
+            assertThat(set.contains(key), is(expected.contains(key)));
+            assertThat(set.ceil(key), is(expected.ceiling(key)));
+            assertThat(set.floor(key), is(expected.floor(key)));
+            assertThat(set.successor(key), is(expected.higher(key)));
+            assertThat(set.predecessor(key), is(expected.lower(key)));
+            assertThat(set.rank(key), is(expected.headSet(key).size()));
+        }
+        List<Integer> sorted = new ArrayList<>(expected);
+        for(int k = 0; k < sorted.size(); k++) assertThat(set.select(k), is(sorted.get(k)));
+        assertThat(isValid(set), is(true));
+    }
+
+    @Test
+    public void sortedInsertsAndDeletes(){
+        S set = newSet();
+        final int n = 20000;
+        for(int i = 0; i < n; i++) set.add(i);
+        assertThat(isValid(set), is(true));
+        for(int i = 0; i < n; i += 2) set.remove(i);
+        for(int i = n - 1; i >= n / 2; i -= 2) set.remove(i);
+        assertThat(isValid(set), is(true));
+        assertThat(set.size(), is(n / 4));
+        assertThat(set.min(), is(1));
+        assertThat(set.select(set.size() - 1), is(n / 2 - 1));
+    }
+}
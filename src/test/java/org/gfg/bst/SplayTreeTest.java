@@ -0,0 +1,46 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class SplayTreeTest extends BstContractTest<SplayTree<Integer>>{
+
+    @Override
+    protected SplayTree<Integer> newSet(){
+        return new SplayTree<>();
+    }
+
+    @Override
+    protected boolean isValid(SplayTree<Integer> tree){
+        return tree.isValid();
+    }
+
+    @Test
+    public void splayTreeMovesAccessedElementToRoot(){
+        SplayTree<Integer> tree = new SplayTree<>();
+        for(int i = 0; i < 1000; i++) tree.add(i);
+        assertThat(tree.contains(500), is(true));
+        assertThat(tree.root.value, is(500));
+        assertThat(tree.contains(2000), is(false));
+        assertThat(tree.root.value, is(999));
+        tree.ceil(250);
+        assertThat(tree.root.value, is(250));
+        assertThat(tree.isValid(), is(true));
+    }
+
+    @Test
+    public void splayTreeHandlesDegeneratePaths(){
+        // sorted inserts leave a path as long as the tree, which lookups must not recurse along
+        SplayTree<Integer> tree = new SplayTree<>();
+        final int n = 200000;
+        for(int i = 0; i < n; i++) tree.add(i);
+        assertThat(tree.contains(0), is(true));
+        assertThat(tree.min(), is(0));
+        List<Integer> elements = new ArrayList<>();
+        tree.forEach(elements::add);
+        assertThat(elements.size(), is(n));
+        assertThat(tree.isValid(), is(true));
+    }
+}
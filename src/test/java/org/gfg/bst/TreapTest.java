@@ -0,0 +1,27 @@
+package org.gfg.bst;
+
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.Matchers.*;
+import org.junit.Test;
+
+public class TreapTest extends BstContractTest<Treap<Integer>>{
+
+    @Override
+    protected Treap<Integer> newSet(){
+        return new Treap<>();
+    }
+
+    @Override
+    protected boolean isValid(Treap<Integer> tree){
+        return tree.isValid();
+    }
+
+    @Test
+    public void treapHeightIsLogarithmicForSortedInput(){
+        Treap<Integer> tree = new Treap<>();
+        final int n = 1 << 16;
+        for(int i = 0; i < n; i++) tree.add(i);
+        // the expected height is about 3 log2(n); this bound fails with negligible probability
+        assertThat(tree.height(), is(lessThanOrEqualTo(6 * 16)));
+    }
+}
@@ -2,7 +2,9 @@ package org.gfg.bst;
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import org.gfg.Dictionary;
@@ -63,6 +65,33 @@ public class TreeDictionaryTest{
         }
     }
 
+    @Test
+    public void testCursorAndViewsInKeyOrder(){
+        Dictionary<Integer, String> dict = new TreeDictionary<>();
+        dict.add(3, "Three");
+        dict.add(1, "One");
+        dict.add(2, "Two");
+
+        Dictionary.Cursor<Integer, String> cursor = dict.cursor();
+        List<String> pairs = new ArrayList<>();
+        while(cursor.next()) pairs.add(cursor.key() + cursor.entry().getValue());
+        assertThat(pairs, is(Arrays.asList("1One", "2Two", "3Three")));
+        cursor.reset();
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.key(), is(1));
+
+        List<String> forEachPairs = new ArrayList<>();
+        dict.forEach((k, v) -> forEachPairs.add(k + v));
+        assertThat(forEachPairs, is(pairs));
+
+        List<Integer> keys = new ArrayList<>();
+        for(Integer key : dict.keyView()) keys.add(key);
+        assertThat(keys, is(Arrays.asList(1, 2, 3)));
+        List<String> values = new ArrayList<>();
+        for(String value : dict.values()) values.add(value);
+        assertThat(values, is(Arrays.asList("One", "Two", "Three")));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testDeleteExceptionIfKeyDoesNotExist(){
         Dictionary<Integer, String> dict = new TreeDictionary<>();
@@ -76,4 +105,34 @@ public class TreeDictionaryTest{
         dict.add(1, "ONE");
         dict.get(2);
     }
+
+    @Test
+    public void testOrderStatistics(){
+        TreeDictionary<Integer, String> dict = new TreeDictionary<>();
+        for(int i = 0; i < 100; i += 10) dict.add(i, "v" + i);
+        assertThat(dict.rank(35), is(4));
+        assertThat(dict.select(4), is(40));
+        assertThat(dict.countInRange(15, 60), is(5));
+
+        List<String> values = new ArrayList<>();
+        Dictionary.Cursor<Integer, String> cursor = dict.range(15, 60);
+        while(cursor.next()) values.add(cursor.key() + cursor.value());
+        assertThat(values, is(Arrays.asList("20v20", "30v30", "40v40", "50v50", "60v60")));
+        cursor.reset();
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.key(), is(20));
+    }
+
+    @Test
+    public void testFromSorted(){
+        TreeDictionary<Integer, String> source = new TreeDictionary<>();
+        for(int i = 0; i < 1000; i++) source.add(i, "v" + i);
+        TreeDictionary<Integer, String> dict = TreeDictionary.fromSorted(source.entries().iterator());
+        assertThat(dict.size(), is(1000));
+        for(int i = 0; i < 1000; i++) assertThat(dict.get(i), is("v" + i));
+        dict.add(1000, "v1000");
+        assertThat(dict.delete(0), is("v0"));
+        assertThat(dict.select(0), is(1));
+        assertThat(dict.size(), is(1000));
+    }
 }
\ No newline at end of file
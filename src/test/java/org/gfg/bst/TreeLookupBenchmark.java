@@ -0,0 +1,77 @@
+package org.gfg.bst;
+
+import java.util.Random;
+
+/**
+ * Measures lookup throughput of {@link AvlTree} and {@link TreeDictionary} on a large tree.
+ * Half of the looked up keys are present. Not part of the test suite; run its {@code main}
+ * method directly with enough heap, e.g. with
+ * {@code java -Xmx3g -cp target/classes:target/test-classes org.gfg.bst.TreeLookupBenchmark [size]}.
+ */
+public class TreeLookupBenchmark{
+    private static final int DEFAULT_SIZE = 10000000;
+    private static final int LOOKUPS = 5000000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args){
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        Random random = new Random(42);
+
+        // even keys are present, odd keys are misses
+        int[] keys = new int[size];
+        for(int i = 0; i < size; i++) keys[i] = 2 * i;
+        for(int i = size - 1; i > 0; i--){
+            int j = random.nextInt(i + 1);
+            int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        Integer[] probes = new Integer[LOOKUPS];
+        for(int i = 0; i < LOOKUPS; i++) probes[i] = random.nextInt(2 * size);
+
+        long start = System.nanoTime();
+        AvlTree<Integer> tree = new AvlTree<>();
+        for(int key : keys) tree.add(key);
+        System.out.printf("AvlTree build: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        start = System.nanoTime();
+        TreeDictionary<Integer, Integer> dict = new TreeDictionary<>();
+        for(int key : keys) dict.add(key, key);
+        System.out.printf("TreeDictionary build: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+        keys = null;
+
+        for(int round = 0; round < ROUNDS; round++){
+            long checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes) if(tree.contains(probe)) checksum++;
+            report("AvlTree.contains", start, checksum);
+
+            checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes){
+                Integer ceil = tree.ceil(probe);
+                if(ceil != null) checksum += ceil;
+            }
+            report("AvlTree.ceil", start, checksum);
+
+            checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes){
+                Integer successor = tree.successor(probe);
+                if(successor != null) checksum += successor;
+            }
+            report("AvlTree.successor", start, checksum);
+
+            checksum = 0;
+            start = System.nanoTime();
+            for(Integer probe : probes) checksum += dict.getOrDefault(probe, 0);
+            report("TreeDictionary.getOrDefault", start, checksum);
+            System.out.println();
+        }
+    }
+
+    private static void report(String name, long start, long checksum){
+        long nanos = System.nanoTime() - start;
+        System.out.printf("  %-28s %6.2f Mops/s  (checksum %d)%n", name, LOOKUPS / (nanos / 1e9) / 1e6, checksum);
+    }
+}
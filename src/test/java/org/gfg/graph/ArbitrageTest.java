@@ -8,16 +8,27 @@ import java.util.*;
 public class ArbitrageTest{
     @Test
     public void arbitrageAvailable(){
-        List<String> arbitrage = Arbitrage.check(
-            new String[]{"USD", "EUR", "GBP", "CHF", "CAD"}, 
-            new double[][]{
-                {    1, 0.741, 0.657, 1.061, 1.005},
-                {1.349,     1, 0.888, 1.433, 1.366},
-                {1.521, 1.126,     1, 1.614, 1.538},
-                {0.942, 0.698, 0.619,     1, 0.953},
-                {0.995, 0.732, 0.650, 1.049,     1}
-            });
+        String[] currencies = {"USD", "EUR", "GBP", "CHF", "CAD"};
+        double[][] rates = {
+            {    1, 0.741, 0.657, 1.061, 1.005},
+            {1.349,     1, 0.888, 1.433, 1.366},
+            {1.521, 1.126,     1, 1.614, 1.538},
+            {0.942, 0.698, 0.619,     1, 0.953},
+            {0.995, 0.732, 0.650, 1.049,     1}
+        };
+        List<String> arbitrage = Arbitrage.check(currencies, rates);
 
-        assertThat(arbitrage, is(Arrays.asList("EUR", "CAD", "USD", "EUR")));
+        // several cycles are profitable, and which one is found depends on iteration order
+        assertThat(arbitrage, is(notNullValue()));
+        assertThat(arbitrage.size(), is(greaterThanOrEqualTo(3)));
+        assertThat(arbitrage.get(arbitrage.size() - 1), is(arbitrage.get(0)));
+        assertThat(new HashSet<>(arbitrage).size(), is(arbitrage.size() - 1));
+
+        List<String> codes = Arrays.asList(currencies);
+        double product = 1;
+        for(int i = 0; i + 1 < arbitrage.size(); i++){
+            product *= rates[codes.indexOf(arbitrage.get(i))][codes.indexOf(arbitrage.get(i + 1))];
+        }
+        assertThat(product, is(greaterThan(1.0)));
     }
-}
\ No newline at end of file
+}
@@ -19,7 +19,14 @@ public class GraphSearchTest{
         graph.add('F', Arrays.asList());
 
         List<Character> toposort = GraphSearch.toposort(graph);
-        assertThat(toposort, is(Arrays.asList('C', 'A', 'B', 'E', 'D', 'F')));
+        // several orders are valid, so check that every vertex appears once and every edge points forward
+        assertThat(toposort.size(), is(graph.size()));
+        assertThat(new HashSet<>(toposort), is(new HashSet<>(graph.keys())));
+        for(Character u : graph.keys()){
+            for(Character v : graph.get(u)){
+                assertThat(toposort.indexOf(u), is(lessThan(toposort.indexOf(v))));
+            }
+        }
     }
 
     @Test(expected = IllegalArgumentException.class)
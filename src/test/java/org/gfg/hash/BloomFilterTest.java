@@ -0,0 +1,53 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.Matchers.*;
+
+public class BloomFilterTest{
+    @Test
+    public void testNoFalseNegatives(){
+        final int N = 100000;
+        BloomFilter<Integer> filter = new BloomFilter<>(N, 0.01);
+        for(int i = 0; i < N; i++) assertThat(filter.add(i * 7), is(true));
+        assertThat(filter.size(), is(N));
+        for(int i = 0; i < N; i++) assertThat(filter.mightContain(i * 7), is(true));
+    }
+
+    @Test
+    public void testFalsePositiveRate(){
+        final int N = 100000;
+        for(double rate : new double[]{ 0.1, 0.01, 0.001 }){
+            BloomFilter<Integer> filter = new BloomFilter<>(N, rate);
+            for(int i = 0; i < N; i++) filter.add(i);
+            int falsePositives = 0;
+            for(int i = N; i < 11 * N; i++){
+                if(filter.mightContain(i)) falsePositives++;
+            }
+            assertThat((double) falsePositives / (10 * N), is(lessThan(rate)));
+        }
+    }
+
+    @Test
+    public void testEmpty(){
+        BloomFilter<String> filter = new BloomFilter<>(0, 0.01);
+        assertThat(filter.size(), is(0));
+        assertThat(filter.mightContain("a"), is(false));
+        filter.add("a");
+        assertThat(filter.mightContain("a"), is(true));
+    }
+
+    @Test
+    public void testRemoveNotSupported(){
+        BloomFilter<String> filter = new BloomFilter<>(10, 0.01);
+        filter.add("a");
+        assertThat(filter.remove("a"), is(false));
+        assertThat(filter.mightContain("a"), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFalsePositiveRate(){
+        new BloomFilter<String>(10, 1.0);
+    }
+}
@@ -0,0 +1,56 @@
+package org.gfg.hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.gfg.Dictionary;
+
+/**
+ * Measures throughput of {@link ConcurrentHashDictionary} for a read-mostly workload
+ * (90% gets, 10% adds) as the number of threads grows. Not part of the test suite;
+ * run its {@code main} method directly, e.g. with
+ * {@code java -cp target/classes:target/test-classes org.gfg.hash.ConcurrentHashDictionaryBenchmark}.
+ */
+public class ConcurrentHashDictionaryBenchmark{
+    private static final int KEYS = 1 << 20;
+    private static final int OPS_PER_THREAD = 5000000;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for(int threads = 1; threads <= maxThreads; threads *= 2){
+            run(threads);
+        }
+    }
+
+    private static void run(int threads) throws Exception {
+        Dictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>(KEYS, 64);
+        for(int i = 0; i < KEYS; i += 2) dict.add(i, i);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            final long seed = t;
+            futures.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                long checksum = 0;
+                start.await();
+                for(int i = 0; i < OPS_PER_THREAD; i++){
+                    int key = random.nextInt(KEYS);
+                    if(random.nextInt(10) == 0) dict.add(key, i);
+                    else checksum += dict.getOrDefault(key, 0);
+                }
+                return checksum;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        long checksum = 0;
+        for(Future<Long> future : futures) checksum += future.get();
+        long nanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        System.out.printf("threads: %2d  throughput: %7.1f Mops/s  (checksum %d)%n",
+            threads, (double) threads * OPS_PER_THREAD / (nanos / 1e9) / 1e6, checksum);
+    }
+}
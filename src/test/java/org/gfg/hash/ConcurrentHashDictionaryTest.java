@@ -0,0 +1,184 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class ConcurrentHashDictionaryTest{
+    private static final int THREADS = 8;
+
+    @Test
+    public void getKeys(){
+        Dictionary<Integer, String> dict = new ConcurrentHashDictionary<>();
+        dict.add(1, "One");
+        dict.add(2, "Two");
+        dict.add(3, "Three");
+        assertThat(dict.keys().stream()
+                              .sorted()
+                              .collect(Collectors.toList()), 
+                    is(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testAddRemoveAndContains(){
+        Dictionary<Integer, String> dict = new ConcurrentHashDictionary<>();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(1, "One");
+        dict.add(1, "ONE");
+        dict.add(2, null);
+        assertThat(dict.get(1), is("ONE"));
+        assertThat(dict.containsKey(2), is(true));
+        assertThat(dict.get(2), is(nullValue()));
+        assertThat(dict.size(), is(2));
+        assertThat(dict.delete(1), is("ONE"));
+        assertThat(dict.containsKey(1), is(false));
+        assertThat(dict.size(), is(1));
+    }
+
+    @Test
+    public void testBigData(){
+        Dictionary<Integer, Integer> squares = new ConcurrentHashDictionary<>(0, 1);
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) squares.add(i, -i);
+
+        assertThat(squares.size(), is(MAX));
+        for(int i = 1; i < MAX; i += 2) assertThat(squares.delete(i), is(-i));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(squares.get(i), is(-i));
+            else assertThat(squares.containsKey(i), is(false));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new ConcurrentHashDictionary<>();
+        dict.add(1, "ONE");
+        dict.get(2);
+    }
+
+    @Test
+    public void concurrentDisjointAdds() throws Exception {
+        Dictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>();
+        final int perThread = 100000;
+        runConcurrently(t -> {
+            for(int i = t * perThread; i < (t + 1) * perThread; i++) dict.add(i, i);
+        });
+
+        assertThat(dict.size(), is(THREADS * perThread));
+        assertThat(dict.keys().size(), is(THREADS * perThread));
+        for(int i = 0; i < THREADS * perThread; i++) assertThat(dict.get(i), is(i));
+    }
+
+    @Test
+    public void concurrentMergeIsAtomic() throws Exception {
+        Dictionary<Integer, Integer> counters = new ConcurrentHashDictionary<>();
+        final int keys = 1000;
+        final int rounds = 200;
+        runConcurrently(t -> {
+            for(int r = 0; r < rounds; r++){
+                for(int k = 0; k < keys; k++) counters.merge(k, 1, Integer::sum);
+            }
+        });
+
+        assertThat(counters.size(), is(keys));
+        for(int k = 0; k < keys; k++) assertThat(counters.get(k), is(THREADS * rounds));
+    }
+
+    @Test
+    public void readersSeeStableKeysDuringResizeAndChurn() throws Exception {
+        Dictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>(0, 4);
+        final int stable = 10000;
+        for(int i = 0; i < stable; i++) dict.add(-i - 1, i);
+
+        AtomicBoolean failed = new AtomicBoolean();
+        runConcurrently(t -> {
+            if(t % 2 == 0){
+                // writers grow the table and churn keys that readers do not look at
+                for(int i = 0; i < 200000; i++){
+                    int key = t * 1000000 + i;
+                    dict.add(key, i);
+                    if(i % 3 == 0) dict.delete(key);
+                }
+            }else{
+                Random random = new Random(t);
+                for(int i = 0; i < 500000; i++){
+                    int k = random.nextInt(stable);
+                    if(dict.getOrDefault(-k - 1, -1) != k) failed.set(true);
+                }
+            }
+        });
+
+        assertThat(failed.get(), is(false));
+        int churned = 0;
+        for(int t = 0; t < THREADS; t += 2) churned += 200000 - (200000 + 2) / 3;
+        assertThat(dict.size(), is(stable + churned));
+    }
+
+    @Test
+    public void traversalsTolerateConcurrentDeletes() throws Exception {
+        Dictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>(0, 4);
+        final int stable = 5000;
+        for(int i = 0; i < stable; i++) dict.add(-i - 1, i);
+
+        AtomicBoolean failed = new AtomicBoolean();
+        runConcurrently(t -> {
+            if(t % 2 == 0){
+                for(int i = 0; i < 100000; i++){
+                    int key = t * 1000000 + i % 2000;
+                    if(dict.containsKey(key)) dict.delete(key);
+                    else dict.add(key, key);
+                }
+            }else{
+                for(int round = 0; round < 50; round++){
+                    // every stable pair is seen with its value, however the other keys change
+                    int[] seen = { 0 };
+                    dict.forEach((key, value) -> {
+                        if(key < 0){
+                            if(value != -key - 1) failed.set(true);
+                            seen[0]++;
+                        }
+                    });
+                    Dictionary.Cursor<Integer, Integer> cursor = dict.cursor();
+                    while(cursor.next()){
+                        if(cursor.key() < 0){
+                            if(cursor.value() != -cursor.key() - 1) failed.set(true);
+                            seen[0]++;
+                        }
+                    }
+                    if(seen[0] != 2 * stable) failed.set(true);
+                }
+            }
+        });
+        assertThat(failed.get(), is(false));
+    }
+
+    private interface Task{
+        void run(int threadIndex) throws Exception;
+    }
+
+    private static void runConcurrently(Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < THREADS; t++){
+            final int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(threadIndex);
+                return null;
+            }));
+        }
+        start.countDown();
+        try{
+            for(Future<?> future : futures) future.get();
+        }finally{
+            executor.shutdown();
+        }
+    }
+}
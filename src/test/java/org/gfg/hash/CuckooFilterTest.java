@@ -0,0 +1,75 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.Matchers.*;
+
+public class CuckooFilterTest{
+    @Test
+    public void testNoFalseNegatives(){
+        final int N = 100000;
+        CuckooFilter<Integer> filter = new CuckooFilter<>(N, 0.01);
+        for(int i = 0; i < N; i++) assertThat(filter.add(i * 7), is(true));
+        assertThat(filter.size(), is(N));
+        for(int i = 0; i < N; i++) assertThat(filter.mightContain(i * 7), is(true));
+    }
+
+    @Test
+    public void testFalsePositiveRate(){
+        final int N = 100000;
+        for(double rate : new double[]{ 0.1, 0.01, 0.001 }){
+            CuckooFilter<Integer> filter = new CuckooFilter<>(N, rate);
+            for(int i = 0; i < N; i++) filter.add(i);
+            int falsePositives = 0;
+            for(int i = N; i < 11 * N; i++){
+                if(filter.mightContain(i)) falsePositives++;
+            }
+            assertThat((double) falsePositives / (10 * N), is(lessThan(rate)));
+        }
+    }
+
+    @Test
+    public void testRemove(){
+        final int N = 10000;
+        CuckooFilter<Integer> filter = new CuckooFilter<>(N, 0.001);
+        for(int i = 0; i < N; i++) filter.add(i);
+        for(int i = 0; i < N; i += 2) assertThat(filter.remove(i), is(true));
+        assertThat(filter.size(), is(N / 2));
+        for(int i = 1; i < N; i += 2) assertThat(filter.mightContain(i), is(true));
+        int falsePositives = 0;
+        for(int i = 0; i < N; i += 2){
+            if(filter.mightContain(i)) falsePositives++;
+        }
+        assertThat(falsePositives, is(lessThan(N / 100)));
+    }
+
+    @Test
+    public void testDuplicates(){
+        CuckooFilter<String> filter = new CuckooFilter<>(100, 0.01);
+        filter.add("a");
+        filter.add("a");
+        assertThat(filter.size(), is(2));
+        assertThat(filter.remove("a"), is(true));
+        assertThat(filter.mightContain("a"), is(true));
+        assertThat(filter.remove("a"), is(true));
+        assertThat(filter.mightContain("a"), is(false));
+        assertThat(filter.remove("a"), is(false));
+    }
+
+    @Test
+    public void testFull(){
+        CuckooFilter<Integer> filter = new CuckooFilter<>(100, 0.01);
+        int added = 0;
+        while(filter.add(added)) added++;
+        // the table is sized for the expected number of items with some headroom
+        assertThat(added, is(greaterThanOrEqualTo(100)));
+        for(int i = 0; i < added; i++) assertThat(filter.mightContain(i), is(true));
+        assertThat(filter.size(), is(added));
+
+        // removing items makes room again
+        for(int i = 0; i < added; i++) filter.remove(i);
+        assertThat(filter.size(), is(0));
+        assertThat(filter.add(-1), is(true));
+    }
+}
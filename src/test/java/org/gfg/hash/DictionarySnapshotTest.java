@@ -0,0 +1,105 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class DictionarySnapshotTest{
+    private static Dictionary<Integer, Long> squares(int max){
+        Dictionary<Integer, Long> dict = new HashDictionary<>(max);
+        for(int i = 0; i < max; i++) dict.add(i, (long) i * i);
+        return dict;
+    }
+
+    @Test
+    public void testSaveAndOpen() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            final int MAX = 100000;
+            DictionarySnapshot.save(squares(MAX), file, Codec.INT, Codec.LONG);
+            Dictionary<Integer, Long> dict = DictionarySnapshot.open(file, Codec.INT, Codec.LONG);
+
+            assertThat(dict.size(), is(MAX));
+            assertThat(dict.keys().size(), is(MAX));
+            for(int i = 0; i < MAX; i++) assertThat(dict.get(i), is((long) i * i));
+            assertThat(dict.containsKey(MAX), is(false));
+            assertThat(dict.getOrDefault(-1, -1L), is(-1L));
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testSaveAndOpenEmpty() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            DictionarySnapshot.save(new HashDictionary<Integer, Long>(), file, Codec.INT, Codec.LONG);
+            Dictionary<Integer, Long> dict = DictionarySnapshot.open(file, Codec.INT, Codec.LONG);
+            assertThat(dict.size(), is(0));
+            assertThat(dict.containsKey(0), is(false));
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testOpenedSnapshotIsReadOnly() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            DictionarySnapshot.save(squares(10), file, Codec.INT, Codec.LONG);
+            DictionarySnapshot.open(file, Codec.INT, Codec.LONG).add(10, 100L);
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCodecMismatchRejected() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            DictionarySnapshot.save(squares(10), file, Codec.INT, Codec.LONG);
+            DictionarySnapshot.open(file, Codec.INT, Codec.INT);
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyCodecOfSameWidthRejected() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            DictionarySnapshot.save(squares(10), file, Codec.INT, Codec.LONG);
+            // FLOAT is as wide as INT, but Float keys hash differently, so lookups would miss
+            DictionarySnapshot.open(file, Codec.FLOAT, Codec.LONG);
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueCodecOfSameWidthRejected() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            DictionarySnapshot.save(squares(10), file, Codec.INT, Codec.LONG);
+            DictionarySnapshot.open(file, Codec.INT, Codec.DOUBLE);
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotSnapshotRejected() throws IOException{
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try{
+            Files.write(file, "not a snapshot".getBytes());
+            DictionarySnapshot.open(file, Codec.INT, Codec.LONG);
+        }finally{
+            Files.delete(file);
+        }
+    }
+}
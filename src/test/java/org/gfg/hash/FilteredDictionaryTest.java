@@ -0,0 +1,70 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class FilteredDictionaryTest{
+    @Test
+    public void testBloomFiltered(){
+        Dictionary<Integer, Integer> base = new HashDictionary<>();
+        for(int i = 0; i < 100; i++) base.add(i, i * i);
+        Dictionary<Integer, Integer> dict = new FilteredDictionary<>(base, 1000, 0.01);
+        for(int i = 0; i < 100; i++) assertThat(dict.get(i), is(i * i));
+        for(int i = 100; i < 1000; i++) dict.add(i, i * i);
+        assertThat(dict.size(), is(1000));
+        for(int i = 0; i < 1000; i++){
+            assertThat(dict.containsKey(i), is(true));
+            assertThat(dict.getOrDefault(i, -1), is(i * i));
+        }
+        for(int i = 1000; i < 2000; i++){
+            assertThat(dict.containsKey(i), is(false));
+            assertThat(dict.getOrDefault(i, -1), is(-1));
+        }
+
+        assertThat(dict.delete(5), is(25));
+        assertThat(dict.containsKey(5), is(false));
+        assertThat(dict.putIfAbsent(5, 1), is(nullValue()));
+        assertThat(dict.putIfAbsent(5, 2), is(1));
+        assertThat(dict.merge(2000, 1, Integer::sum), is(1));
+        assertThat(dict.merge(2000, 1, Integer::sum), is(2));
+        assertThat(dict.compute(2001, (k, v) -> v == null ? 7 : v), is(7));
+        assertThat(dict.get(2001), is(7));
+    }
+
+    @Test
+    public void testCuckooFiltered(){
+        FilteredDictionary<String, Integer> dict =
+            new FilteredDictionary<>(new HashDictionary<String, Integer>(), new CuckooFilter<String>(100, 0.01));
+        dict.add("a", 1);
+        dict.add("b", 2);
+        dict.add("a", 3);
+        assertThat(dict.filter().size(), is(2));
+        assertThat(dict.get("a"), is(3));
+        assertThat(dict.delete("a"), is(3));
+        assertThat(dict.filter().size(), is(1));
+        assertThat(dict.containsKey("a"), is(false));
+        assertThat(dict.containsKey("b"), is(true));
+    }
+
+    @Test
+    public void testFullFilterIsBypassed(){
+        Dictionary<Integer, Integer> dict =
+            new FilteredDictionary<>(new HashDictionary<Integer, Integer>(), new CuckooFilter<Integer>(10, 0.01));
+        for(int i = 0; i < 1000; i++) dict.add(i, i);
+        for(int i = 0; i < 1000; i++) assertThat(dict.get(i), is(i));
+        assertThat(dict.containsKey(1000), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMissingKey(){
+        new FilteredDictionary<>(new HashDictionary<Integer, Integer>(), 10, 0.01).get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteMissingKey(){
+        new FilteredDictionary<>(new HashDictionary<Integer, Integer>(), 10, 0.01).delete(1);
+    }
+}
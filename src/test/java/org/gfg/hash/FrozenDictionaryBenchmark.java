@@ -0,0 +1,72 @@
+package org.gfg.hash;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import org.gfg.Dictionary;
+import org.gfg.bst.TreeDictionary;
+
+/**
+ * Compares lookup throughput of {@link FrozenDictionary} against {@link HashDictionary}
+ * and {@link TreeDictionary} on key sets shaped like those of a road network: node ids
+ * and node names of the form state + description. Not part of the test suite; run its
+ * {@code main} method directly, e.g. with
+ * {@code java -cp target/classes:target/test-classes org.gfg.hash.FrozenDictionaryBenchmark}.
+ */
+public class FrozenDictionaryBenchmark{
+    private static final int NODES = 100000; // roughly the size of the NHPN node file
+    private static final int LOOKUPS = 2000000;
+    private static final int ROUNDS = 5;
+    private static final String[] STATES = { "AL", "CA", "MA", "NY", "OK", "TX", "WA" };
+
+    public static void main(String[] args){
+        Random random = new Random(42);
+        Integer[] ids = new Integer[NODES];
+        String[] names = new String[NODES];
+        for(int i = 0; i < NODES; i++){
+            ids[i] = 10000000 + random.nextInt(90000000);
+            names[i] = STATES[random.nextInt(STATES.length)] + "NODE " + i + " " + Integer.toHexString(random.nextInt());
+        }
+
+        for(int round = 0; round < ROUNDS; round++){
+            System.out.println("node ids:");
+            runAll(ids, random);
+            System.out.println("node names:");
+            runAll(names, random);
+        }
+    }
+
+    private static <K extends Comparable<K>> void runAll(K[] keys, Random random){
+        int[] order = new int[LOOKUPS];
+        for(int i = 0; i < LOOKUPS; i++) order[i] = random.nextInt(keys.length);
+
+        run("HashDictionary", () -> {
+            Dictionary<K, Integer> dict = new HashDictionary<>(keys.length);
+            for(int i = 0; i < keys.length; i++) dict.add(keys[i], i);
+            return dict;
+        }, keys, order);
+        run("TreeDictionary", () -> {
+            Dictionary<K, Integer> dict = new TreeDictionary<>();
+            for(int i = 0; i < keys.length; i++) dict.add(keys[i], i);
+            return dict;
+        }, keys, order);
+        run("FrozenDictionary", () -> {
+            FrozenDictionary.Builder<K, Integer> builder = new FrozenDictionary.Builder<>(keys.length);
+            for(int i = 0; i < keys.length; i++) builder.add(keys[i], i);
+            return builder.build();
+        }, keys, order);
+    }
+
+    private static <K> void run(String name, Supplier<Dictionary<K, Integer>> factory, K[] keys, int[] order){
+        long start = System.nanoTime();
+        Dictionary<K, Integer> dict = factory.get();
+        long buildNanos = System.nanoTime() - start;
+
+        long checksum = 0;
+        start = System.nanoTime();
+        for(int i : order) checksum += dict.get(keys[i]);
+        long getNanos = System.nanoTime() - start;
+
+        System.out.printf("  %-20s build: %7.1f ms  get: %6.1f Mops/s  (checksum %d)%n",
+            name, buildNanos / 1e6, LOOKUPS / (getNanos / 1e9) / 1e6, checksum);
+    }
+}
@@ -0,0 +1,82 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class FrozenDictionaryTest{
+    @Test
+    public void getKeys(){
+        Dictionary<Integer, String> dict = new FrozenDictionary.Builder<Integer, String>()
+            .add(1, "One")
+            .add(2, "Two")
+            .add(3, "Three")
+            .build();
+        assertThat(dict.keys().stream()
+                              .sorted()
+                              .collect(Collectors.toList()), 
+                    is(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testLastValueWins(){
+        Dictionary<String, Integer> dict = new FrozenDictionary.Builder<String, Integer>()
+            .add("a", 1)
+            .add("b", 2)
+            .add("a", 3)
+            .build();
+        assertThat(dict.size(), is(2));
+        assertThat(dict.get("a"), is(3));
+        assertThat(dict.get("b"), is(2));
+        assertThat(dict.containsKey("c"), is(false));
+        assertThat(dict.getOrDefault("c", -1), is(-1));
+    }
+
+    @Test
+    public void testCopyOf(){
+        Dictionary<Integer, Integer> squares = new HashDictionary<>();
+        final int MAX = 100000;
+        for(int i = 0; i < MAX; i++) squares.add(i, i * i);
+        Dictionary<Integer, Integer> frozen = FrozenDictionary.copyOf(squares);
+
+        assertThat(frozen.size(), is(MAX));
+        for(int i = 0; i < MAX; i++) assertThat(frozen.get(i), is(i * i));
+        assertThat(frozen.containsKey(MAX), is(false));
+        int[] count = new int[1];
+        frozen.forEach((k, v) -> {
+            assertThat(v, is(k * k));
+            count[0]++;
+        });
+        assertThat(count[0], is(MAX));
+    }
+
+    @Test
+    public void testEmpty(){
+        Dictionary<Integer, Integer> dict = new FrozenDictionary.Builder<Integer, Integer>().build();
+        assertThat(dict.size(), is(0));
+        assertThat(dict.containsKey(1), is(false));
+        assertThat(dict.cursor().next(), is(false));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddNotSupported(){
+        Dictionary<Integer, String> dict = new FrozenDictionary.Builder<Integer, String>().add(1, "One").build();
+        dict.add(2, "Two");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testDeleteNotSupported(){
+        Dictionary<Integer, String> dict = new FrozenDictionary.Builder<Integer, String>().add(1, "One").build();
+        dict.delete(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new FrozenDictionary.Builder<Integer, String>().add(1, "One").build();
+        dict.get(2);
+    }
+}
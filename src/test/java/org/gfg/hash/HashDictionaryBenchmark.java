@@ -0,0 +1,45 @@
+package org.gfg.hash;
+
+import java.util.function.Supplier;
+import org.gfg.Dictionary;
+
+/**
+ * Compares get/add throughput of the chained {@link HashDictionary} against
+ * {@link OpenAddressingHashDictionary}. Not part of the test suite; run its
+ * {@code main} method directly, e.g. from the IDE or with
+ * {@code java -cp target/classes:target/test-classes org.gfg.hash.HashDictionaryBenchmark}.
+ */
+public class HashDictionaryBenchmark{
+    private static final int N = 1000000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args){
+        Integer[] keys = new Integer[N];
+        for(int i = 0; i < N; i++) keys[i] = i * 31;
+
+        for(int round = 0; round < ROUNDS; round++){
+            run("HashDictionary", HashDictionary::new, keys);
+            run("OpenAddressingHashDictionary", OpenAddressingHashDictionary::new, keys);
+        }
+    }
+
+    private static void run(String name, Supplier<Dictionary<Integer, Integer>> factory, Integer[] keys){
+        Dictionary<Integer, Integer> dict = factory.get();
+
+        long start = System.nanoTime();
+        for(Integer key : keys) dict.add(key, key);
+        long addNanos = System.nanoTime() - start;
+
+        long checksum = 0;
+        start = System.nanoTime();
+        for(Integer key : keys) checksum += dict.get(key);
+        long getNanos = System.nanoTime() - start;
+
+        System.out.printf("%-30s add: %6.1f Mops/s  get: %6.1f Mops/s  (checksum %d)%n",
+            name, opsPerSecond(keys.length, addNanos), opsPerSecond(keys.length, getNanos), checksum);
+    }
+
+    private static double opsPerSecond(int ops, long nanos){
+        return ops / (nanos / 1e9) / 1e6;
+    }
+}
@@ -0,0 +1,52 @@
+package org.gfg.hash;
+
+import java.util.Arrays;
+import org.gfg.hash.HashDictionary.ResizeMode;
+
+/**
+ * Measures per-operation latency of {@link HashDictionary#add(Object, Object)} in
+ * stop-the-world and incremental resize modes and prints latency percentiles.
+ * Not part of the test suite; run its {@code main} method directly, e.g. with
+ * {@code java -cp target/classes:target/test-classes org.gfg.hash.HashDictionaryLatencyBenchmark}.
+ */
+public class HashDictionaryLatencyBenchmark{
+    private static final int N = 4000000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args){
+        Integer[] keys = new Integer[N];
+        for(int i = 0; i < N; i++) keys[i] = i;
+
+        for(int round = 0; round < ROUNDS; round++){
+            for(ResizeMode mode : ResizeMode.values()){
+                run(mode, keys);
+            }
+        }
+    }
+
+    private static void run(ResizeMode mode, Integer[] keys){
+        HashDictionary<Integer, Integer> dict = new HashDictionary<>(mode);
+        long[] latencies = new long[keys.length];
+
+        long start = System.nanoTime();
+        for(int i = 0; i < keys.length; i++){
+            long t = System.nanoTime();
+            dict.add(keys[i], keys[i]);
+            latencies[i] = System.nanoTime() - t;
+        }
+        long total = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-15s p50: %6d ns  p99: %6d ns  p999: %8d ns  max: %10d ns  total: %5d ms%n",
+            mode,
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.99),
+            percentile(latencies, 0.999),
+            latencies[latencies.length - 1],
+            total / 1000000);
+    }
+
+    private static long percentile(long[] sorted, double p){
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+}
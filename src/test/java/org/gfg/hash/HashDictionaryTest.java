@@ -2,10 +2,16 @@ package org.gfg.hash;
 
 import org.junit.Test;
 import static org.junit.Assert.assertThat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.gfg.Dictionary;
+import org.gfg.hash.HashDictionary.ResizeMode;
 import static org.hamcrest.Matchers.*;
 
 public class HashDictionaryTest{
@@ -74,6 +80,298 @@ public class HashDictionaryTest{
         }
     }
 
+    @Test
+    public void testBigDataIncrementalResize(){
+        Dictionary<Integer, Integer> squares = new HashDictionary<>(ResizeMode.INCREMENTAL);
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) squares.add(i, -i);
+
+        assertThat(squares.size(), is(MAX));
+        assertThat(squares.keys().size(), is(MAX));
+        for(int i = 0; i < MAX; i++){
+            assertThat(squares.get(i), is(-i));
+        }
+
+        for(int i = 1; i < MAX; i += 2) assertThat(squares.delete(i), is(-i));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(squares.get(i), is(-i));
+            else assertThat(squares.containsKey(i), is(false));
+        }
+    }
+
+    @Test
+    public void testRandomOperationsIncrementalResize(){
+        Dictionary<Integer, Integer> dict = new HashDictionary<>(ResizeMode.INCREMENTAL);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for(int i = 0; i < 200000; i++){
+            int key = random.nextInt(5000);
+            if(random.nextInt(3) == 0 && expected.containsKey(key)){
+                assertThat(dict.delete(key), is(expected.remove(key)));
+            }else{
+                dict.add(key, i);
+                expected.put(key, i);
+            }
+            assertThat(dict.size(), is(expected.size()));
+        }
+        assertThat(dict.keys().stream().sorted().collect(Collectors.toList()),
+            is(expected.keySet().stream().sorted().collect(Collectors.toList())));
+        for(Map.Entry<Integer, Integer> entry : expected.entrySet()){
+            assertThat(dict.get(entry.getKey()), is(entry.getValue()));
+        }
+    }
+
+    @Test
+    public void testCapacityHints(){
+        HashDictionary<Integer, Integer> dict = new HashDictionary<>(1000, 0.1, 0.5);
+        for(int i = 0; i < 1000; i++) dict.add(i, i);
+        dict.ensureCapacity(100000);
+        for(int i = 0; i < 900; i++) dict.delete(i);
+        dict.trimToSize();
+        assertThat(dict.size(), is(100));
+        for(int i = 900; i < 1000; i++) assertThat(dict.get(i), is(i));
+        for(int i = 0; i < 900; i++) assertThat(dict.containsKey(i), is(false));
+    }
+
+    @Test
+    public void testAlternatingAddDeleteAtThreshold(){
+        HashDictionary<Integer, Integer> dict = new HashDictionary<>();
+        // 97 keys load a table of 128 beyond the maximum load factor, so the next new key grows it
+        for(int i = 0; i < 97; i++) dict.add(i, i);
+        assertThat(dict.stats().capacity(), is(128));
+        dict.enableStats();
+        for(int i = 0; i < 10000; i++){
+            dict.add(-1, i);
+            assertThat(dict.stats().capacity(), is(256));
+            dict.delete(-1);
+            // the grown table is far from the minimum load factor, so deleting does not shrink it back
+            assertThat(dict.stats().capacity(), is(256));
+        }
+        assertThat(dict.stats().resizeCount(), is(1));
+        assertThat(dict.size(), is(97));
+        for(int i = 0; i < 97; i++) assertThat(dict.get(i), is(i));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadFactorsWithoutHysteresisRejected(){
+        new HashDictionary<Integer, Integer>(0, 0.4, 0.75);
+    }
+
+    @Test
+    public void testDeleteAllAndReuse(){
+        Dictionary<Integer, String> dict = new HashDictionary<>();
+        dict.add(1, "One");
+        dict.delete(1);
+        assertThat(dict.size(), is(0));
+        dict.add(2, "Two");
+        assertThat(dict.get(2), is("Two"));
+    }
+
+    @Test
+    public void testGetOrDefaultAndPutIfAbsent(){
+        Dictionary<String, Integer> dict = new HashDictionary<>();
+        assertThat(dict.getOrDefault("a", -1), is(-1));
+        assertThat(dict.putIfAbsent("a", 1), is(nullValue()));
+        assertThat(dict.putIfAbsent("a", 2), is(1));
+        assertThat(dict.getOrDefault("a", -1), is(1));
+        assertThat(dict.size(), is(1));
+    }
+
+    @Test
+    public void testComputeAndMerge(){
+        Dictionary<String, Integer> dict = new HashDictionary<>();
+        for(String word : "to be or not to be".split(" ")){
+            dict.merge(word, 1, Integer::sum);
+        }
+        assertThat(dict.get("to"), is(2));
+        assertThat(dict.get("be"), is(2));
+        assertThat(dict.get("or"), is(1));
+        assertThat(dict.size(), is(4));
+
+        assertThat(dict.compute("not", (k, v) -> v == null ? 0 : v * 10), is(10));
+        assertThat(dict.compute("maybe", (k, v) -> v == null ? 0 : v * 10), is(0));
+        assertThat(dict.get("maybe"), is(0));
+        assertThat(dict.size(), is(5));
+    }
+
+    @Test
+    public void testHashStrategies(){
+        for(HashStrategy strategy : Arrays.asList(HashStrategy.identity(), HashStrategy.murmur(),
+            HashStrategy.seeded(42), HashStrategy.randomized())){
+            Dictionary<Integer, Integer> dict = new HashDictionary<>(strategy);
+            final int MAX = 10000;
+            for(int i = 0; i < MAX; i++) dict.add(i << 16, i);
+            assertThat(dict.size(), is(MAX));
+            for(int i = 0; i < MAX; i++) assertThat(dict.get(i << 16), is(i));
+            for(int i = 0; i < MAX; i += 2) assertThat(dict.delete(i << 16), is(i));
+            for(int i = 0; i < MAX; i++) assertThat(dict.containsKey(i << 16), is((i & 1) == 1));
+        }
+    }
+
+    private static class CollidingKey{
+        protected final int id;
+        public CollidingKey(int id){
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode(){
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj){
+            return obj != null && obj.getClass() == getClass() && ((CollidingKey) obj).id == id;
+        }
+    }
+
+    private static class ComparableCollidingKey extends CollidingKey implements Comparable<ComparableCollidingKey>{
+        public ComparableCollidingKey(int id){
+            super(id);
+        }
+
+        @Override
+        public int compareTo(ComparableCollidingKey other){
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    private void testCollidingKeys(Dictionary<CollidingKey, Integer> dict, int max){
+        for(int i = 0; i < max; i++){
+            dict.add(new ComparableCollidingKey(i), i);
+            dict.add(new CollidingKey(i), -i);
+        }
+        assertThat(dict.size(), is(2 * max));
+        for(int i = 0; i < max; i++){
+            assertThat(dict.get(new ComparableCollidingKey(i)), is(i));
+            assertThat(dict.get(new CollidingKey(i)), is(-i));
+        }
+        assertThat(dict.containsKey(new ComparableCollidingKey(max)), is(false));
+        assertThat(dict.merge(new ComparableCollidingKey(0), 5, Integer::sum), is(5));
+
+        for(int i = 0; i < max; i++){
+            assertThat(dict.delete(new ComparableCollidingKey(i)), is(i == 0 ? 5 : i));
+            if(i % 2 == 0) assertThat(dict.delete(new CollidingKey(i)), is(-i));
+        }
+        assertThat(dict.size(), is(max / 2));
+        for(int i = 0; i < max; i++){
+            assertThat(dict.containsKey(new ComparableCollidingKey(i)), is(false));
+            assertThat(dict.containsKey(new CollidingKey(i)), is(i % 2 == 1));
+        }
+        assertThat(dict.keys().size(), is(max / 2));
+    }
+
+    @Test
+    public void testIdenticalHashCodes(){
+        testCollidingKeys(new HashDictionary<>(), 2000);
+    }
+
+    @Test
+    public void testIdenticalHashCodesIncrementalResize(){
+        testCollidingKeys(new HashDictionary<>(ResizeMode.INCREMENTAL), 2000);
+    }
+
+    @Test
+    public void testTreeBinShrinksBackToChain(){
+        Dictionary<CollidingKey, Integer> dict = new HashDictionary<>();
+        for(int i = 0; i < 20; i++) dict.add(new ComparableCollidingKey(i), i);
+        for(int i = 0; i < 18; i++) dict.delete(new ComparableCollidingKey(i));
+        assertThat(dict.keys().size(), is(2));
+        assertThat(dict.get(new ComparableCollidingKey(18)), is(18));
+        assertThat(dict.get(new ComparableCollidingKey(19)), is(19));
+        for(int i = 0; i < 20; i++) dict.add(new ComparableCollidingKey(i), -i);
+        for(int i = 0; i < 20; i++) assertThat(dict.get(new ComparableCollidingKey(i)), is(-i));
+    }
+
+    @Test
+    public void testCursorAndViews(){
+        for(ResizeMode mode : ResizeMode.values()){
+            HashDictionary<Integer, Integer> dict = new HashDictionary<>(mode);
+            final int MAX = 1000;
+            for(int i = 0; i < MAX; i++) dict.add(i, -i);
+
+            Dictionary.Cursor<Integer, Integer> cursor = dict.cursor();
+            for(int round = 0; round < 2; round++){
+                List<Integer> keys = new ArrayList<>();
+                cursor.reset();
+                while(cursor.next()){
+                    assertThat(cursor.value(), is(-cursor.key()));
+                    assertThat(cursor.entry().getKey(), is(cursor.key()));
+                    keys.add(cursor.key());
+                }
+                assertThat(keys, is(dict.keys()));
+            }
+
+            List<Integer> keys = new ArrayList<>();
+            dict.forEach((k, v) -> {
+                assertThat(v, is(-k));
+                keys.add(k);
+            });
+            assertThat(keys, is(dict.keys()));
+
+            List<Integer> viewKeys = new ArrayList<>();
+            for(Integer key : dict.keyView()) viewKeys.add(key);
+            assertThat(viewKeys, is(dict.keys()));
+            long sum = 0;
+            for(Integer value : dict.values()) sum += value;
+            assertThat(sum, is(-(long) MAX * (MAX - 1) / 2));
+            for(Dictionary.Entry<Integer, Integer> entry : dict.entries()){
+                assertThat(entry.getValue(), is(-entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testCursorOverTreeBins(){
+        Dictionary<CollidingKey, Integer> dict = new HashDictionary<>();
+        for(int i = 0; i < 50; i++){
+            dict.add(new ComparableCollidingKey(i), i);
+            dict.add(new CollidingKey(i), i);
+        }
+        int count = 0;
+        for(Dictionary.Entry<CollidingKey, Integer> entry : dict.entries()){
+            assertThat(entry.getValue(), is(entry.getKey().id));
+            count++;
+        }
+        assertThat(count, is(100));
+    }
+
+    @Test
+    public void testStats(){
+        HashDictionary<Integer, Integer> dict = new HashDictionary<>();
+        for(int i = 0; i < 1000; i++) dict.add(i, i);
+        DictionaryStats stats = dict.stats();
+        assertThat(stats.size(), is(1000));
+        assertThat(stats.loadFactor(), is(lessThanOrEqualTo(0.75)));
+        assertThat(stats.maxChainLength(), is(greaterThanOrEqualTo(1)));
+        assertThat(stats.averageChainLength(), is(greaterThanOrEqualTo(1.0)));
+        assertThat(stats.lookupCount(), is(0L));
+        assertThat(stats.resizeCount(), is(0));
+
+        dict.enableStats();
+        for(int i = 1000; i < 2000; i++) dict.add(i, i);
+        for(int i = 0; i < 2000; i++) dict.get(i);
+        stats = dict.stats();
+        assertThat(stats.resizeCount(), is(greaterThan(0)));
+        assertThat(stats.resizeNanos(), is(greaterThan(0L)));
+        assertThat(stats.lookupCount(), is(greaterThanOrEqualTo(3000L)));
+        assertThat(stats.probeHistogram()[0], is(greaterThan(0L)));
+
+        dict.disableStats();
+        assertThat(dict.stats().lookupCount(), is(0L));
+    }
+
+    @Test
+    public void testStatsShowCollisions(){
+        HashDictionary<CollidingKey, Integer> dict = new HashDictionary<>();
+        dict.enableStats();
+        for(int i = 0; i < 100; i++) dict.add(new CollidingKey(i), i);
+        DictionaryStats stats = dict.stats();
+        assertThat(stats.maxChainLength(), is(100));
+        assertThat(stats.averageChainLength(), is(100.0));
+        assertThat(stats.probeHistogram()[DictionaryStats.HISTOGRAM_SIZE - 1], is(greaterThan(0L)));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testDeleteExceptionIfKeyDoesNotExist(){
         Dictionary<Integer, String> dict = new HashDictionary<>();
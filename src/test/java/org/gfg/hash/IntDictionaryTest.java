@@ -0,0 +1,96 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+
+public class IntDictionaryTest{
+    @Test
+    public void getKeys(){
+        IntDictionary<String> dict = new IntDictionary<>();
+        dict.add(0, "Zero");
+        dict.add(1, "One");
+        dict.add(-2, "Minus two");
+        dict.add(3, "Three");
+        int[] keys = dict.keys();
+        Arrays.sort(keys);
+        assertThat(keys, is(new int[]{-2, 0, 1, 3}));
+    }
+
+    @Test
+    public void testAddAndContains(){
+        IntDictionary<String> dict = new IntDictionary<>();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(1, "One");
+        assertThat(dict.containsKey(1), is(true));
+        assertThat(dict.get(1), is("One"));
+        dict.add(1, "ONE");
+        assertThat(dict.get(1), is("ONE"));
+        assertThat(dict.size(), is(1));
+        assertThat(dict.containsKey(2), is(false));
+        assertThat(dict.getOrDefault(2, "None"), is("None"));
+    }
+
+    @Test
+    public void testZeroKey(){
+        IntDictionary<String> dict = new IntDictionary<>();
+        assertThat(dict.containsKey(0), is(false));
+        dict.add(0, "Zero");
+        dict.add(0, "ZERO");
+        assertThat(dict.get(0), is("ZERO"));
+        assertThat(dict.size(), is(1));
+        assertThat(dict.delete(0), is("ZERO"));
+        assertThat(dict.containsKey(0), is(false));
+        assertThat(dict.size(), is(0));
+    }
+
+    @Test
+    public void testBigData(){
+        IntDictionary<Integer> squares = new IntDictionary<>();
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) squares.add(i, -i);
+
+        assertThat(squares.size(), is(MAX));
+        for(int i = 0; i < MAX; i++){
+            assertThat(squares.get(i), is(-i));
+        }
+
+        for(int i = 1; i < MAX; i += 2) assertThat(squares.delete(i), is(-i));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(squares.get(i), is(-i));
+            else assertThat(squares.containsKey(i), is(false));
+        }
+    }
+
+    @Test
+    public void testStats(){
+        IntDictionary<Integer> dict = new IntDictionary<>();
+        dict.enableStats();
+        for(int i = 0; i < 1000; i++) dict.add(i, i);
+        for(int i = 0; i < 1000; i++) dict.get(i);
+        DictionaryStats stats = dict.stats();
+        assertThat(stats.size(), is(1000));
+        assertThat(stats.loadFactor(), is(lessThanOrEqualTo(0.7)));
+        assertThat(stats.maxChainLength(), is(greaterThanOrEqualTo(1)));
+        assertThat(stats.resizeCount(), is(greaterThan(0)));
+        // key 0 is stored outside the table and is not probed for; inserts that resize probe twice
+        assertThat(stats.lookupCount(), is(greaterThanOrEqualTo(1998L)));
+        assertThat(stats.probeHistogram()[0], is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteExceptionIfKeyDoesNotExist(){
+        IntDictionary<String> dict = new IntDictionary<>();
+        dict.add(1, "ONE");
+        dict.delete(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        IntDictionary<String> dict = new IntDictionary<>();
+        dict.add(1, "ONE");
+        dict.get(2);
+    }
+}
@@ -0,0 +1,41 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.Matchers.*;
+
+public class IntDoubleDictionaryTest{
+    @Test
+    public void testAddAndContains(){
+        IntDoubleDictionary dict = new IntDoubleDictionary();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(1, Double.MAX_VALUE);
+        dict.add(0, 0.5);
+        assertThat(dict.get(1), is(Double.MAX_VALUE));
+        dict.add(1, 2.5);
+        assertThat(dict.get(1), is(2.5));
+        assertThat(dict.get(0), is(0.5));
+        assertThat(dict.size(), is(2));
+        assertThat(dict.getOrDefault(3, -1.0), is(-1.0));
+    }
+
+    @Test
+    public void testRemoveAndContains(){
+        IntDoubleDictionary dict = new IntDoubleDictionary();
+        final int MAX = 100000;
+        for(int i = 0; i < MAX; i++) dict.add(-i, i / 2.0);
+        for(int i = 0; i < MAX; i += 3) assertThat(dict.delete(-i), is(i / 2.0));
+        for(int i = 0; i < MAX; i++){
+            if(i % 3 == 0) assertThat(dict.containsKey(-i), is(false));
+            else assertThat(dict.get(-i), is(i / 2.0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteExceptionIfKeyDoesNotExist(){
+        IntDoubleDictionary dict = new IntDoubleDictionary();
+        dict.add(1, 1.0);
+        dict.delete(2);
+    }
+}
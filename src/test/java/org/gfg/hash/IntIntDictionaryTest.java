@@ -0,0 +1,54 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+
+public class IntIntDictionaryTest{
+    @Test
+    public void getKeys(){
+        IntIntDictionary dict = new IntIntDictionary();
+        for(int i = -2; i <= 2; i++) dict.add(i, i * 10);
+        int[] keys = dict.keys();
+        Arrays.sort(keys);
+        assertThat(keys, is(new int[]{-2, -1, 0, 1, 2}));
+    }
+
+    @Test
+    public void testAddAndContains(){
+        IntIntDictionary dict = new IntIntDictionary();
+        assertThat(dict.containsKey(0), is(false));
+        dict.add(0, 7);
+        dict.add(36004404, 9000789);
+        assertThat(dict.get(0), is(7));
+        assertThat(dict.get(36004404), is(9000789));
+        dict.add(36004404, 1);
+        assertThat(dict.get(36004404), is(1));
+        assertThat(dict.size(), is(2));
+        assertThat(dict.getOrDefault(5, -1), is(-1));
+    }
+
+    @Test
+    public void testBigData(){
+        IntIntDictionary dict = new IntIntDictionary();
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) dict.add(i * 7, i);
+
+        assertThat(dict.size(), is(MAX));
+        for(int i = 0; i < MAX; i += 2) assertThat(dict.delete(i * 7), is(i));
+        assertThat(dict.size(), is(MAX / 2));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(dict.containsKey(i * 7), is(false));
+            else assertThat(dict.get(i * 7), is(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        IntIntDictionary dict = new IntIntDictionary();
+        dict.add(1, 1);
+        dict.get(2);
+    }
+}
@@ -0,0 +1,75 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.*;
+
+public class IntMultiDictionaryTest{
+    @Test
+    public void testValuesKeepInsertionOrder(){
+        IntMultiDictionary dict = new IntMultiDictionary.Builder()
+            .add(7, 1)
+            .add(0, 2)
+            .add(7, 3)
+            .add(-5, 4)
+            .add(7, 5)
+            .build();
+        assertThat(dict.size(), is(3));
+        assertThat(dict.valueCount(), is(5));
+        assertThat(dict.get(7), is(new int[]{ 1, 3, 5 }));
+        assertThat(dict.get(0), is(new int[]{ 2 }));
+        assertThat(dict.get(-5), is(new int[]{ 4 }));
+        assertThat(dict.get(8), is(new int[0]));
+        assertThat(dict.count(7), is(3));
+        assertThat(dict.count(8), is(0));
+        assertThat(dict.containsKey(-5), is(true));
+        assertThat(dict.containsKey(8), is(false));
+    }
+
+    @Test
+    public void testGroupAccess(){
+        IntMultiDictionary dict = new IntMultiDictionary.Builder().add(1, 10).add(2, 20).add(1, 11).build();
+        int group = dict.groupOf(1);
+        List<Integer> values = new ArrayList<>();
+        for(int i = dict.start(group); i < dict.end(group); i++) values.add(dict.valueAt(i));
+        assertThat(values.size(), is(2));
+        assertThat(values.get(0), is(10));
+        assertThat(values.get(1), is(11));
+        assertThat(dict.groupOf(3), is(-1));
+    }
+
+    @Test
+    public void testEmpty(){
+        IntMultiDictionary dict = new IntMultiDictionary.Builder().build();
+        assertThat(dict.size(), is(0));
+        assertThat(dict.valueCount(), is(0));
+        assertThat(dict.keys().length, is(0));
+        assertThat(dict.containsKey(0), is(false));
+    }
+
+    @Test
+    public void testBigData(){
+        Random random = new Random(3);
+        IntMultiDictionary.Builder builder = new IntMultiDictionary.Builder();
+        Map<Integer, List<Integer>> expected = new HashMap<>();
+        for(int i = 0; i < 200000; i++){
+            int key = random.nextInt(10000) - 5000;
+            builder.add(key, i);
+            expected.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        IntMultiDictionary dict = builder.build();
+        assertThat(dict.size(), is(expected.size()));
+        assertThat(dict.valueCount(), is(200000));
+        for(Map.Entry<Integer, List<Integer>> entry : expected.entrySet()){
+            int[] values = dict.get(entry.getKey());
+            assertThat(values.length, is(entry.getValue().size()));
+            for(int i = 0; i < values.length; i++) assertThat(values[i], is(entry.getValue().get(i)));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+
+public class LongDictionaryTest{
+    @Test
+    public void getKeys(){
+        LongDictionary<String> dict = new LongDictionary<>();
+        dict.add(Long.MIN_VALUE, "Min");
+        dict.add(0L, "Zero");
+        dict.add(Long.MAX_VALUE, "Max");
+        long[] keys = dict.keys();
+        Arrays.sort(keys);
+        assertThat(keys, is(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE}));
+    }
+
+    @Test
+    public void testBigData(){
+        LongDictionary<Long> dict = new LongDictionary<>();
+        final int MAX = 1000000;
+        for(long i = 0; i < MAX; i++) dict.add(i << 32, i);
+
+        assertThat(dict.size(), is(MAX));
+        for(long i = 1; i < MAX; i += 2) assertThat(dict.delete(i << 32), is(i));
+        for(long i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(dict.get(i << 32), is(i));
+            else assertThat(dict.containsKey(i << 32), is(false));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        LongDictionary<String> dict = new LongDictionary<>();
+        dict.add(1L, "ONE");
+        dict.get(2L);
+    }
+}
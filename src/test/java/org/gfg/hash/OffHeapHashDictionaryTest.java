@@ -0,0 +1,144 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class OffHeapHashDictionaryTest{
+    @Test
+    public void getKeys(){
+        Dictionary<Integer, Double> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.DOUBLE);
+        dict.add(1, 1.5);
+        dict.add(2, 2.5);
+        dict.add(3, 3.5);
+        dict.add(4, 4.5);
+        dict.add(5, 5.5);
+        assertThat(dict.keys().stream()
+                              .sorted()
+                              .collect(Collectors.toList()),
+                    is(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void testAddAndContains(){
+        Dictionary<Long, Integer> dict = new OffHeapHashDictionary<>(Codec.LONG, Codec.INT);
+        assertThat(dict.containsKey(1L), is(false));
+        dict.add(1L, 1);
+        assertThat(dict.containsKey(1L), is(true));
+        assertThat(dict.get(1L), is(1));
+        dict.add(1L, 11);
+        assertThat(dict.get(1L), is(11));
+        assertThat(dict.size(), is(1));
+        assertThat(dict.containsKey(0L), is(false));
+        dict.add(0L, 0);
+        assertThat(dict.get(0L), is(0));
+        assertThat(dict.size(), is(2));
+    }
+
+    @Test
+    public void testBigData(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) dict.add(i, -i);
+
+        assertThat(dict.size(), is(MAX));
+        for(int i = 0; i < MAX; i++){
+            assertThat(dict.get(i), is(-i));
+        }
+
+        for(int i = 1; i < MAX; i += 2) assertThat(dict.delete(i), is(-i));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(dict.get(i), is(-i));
+            else assertThat(dict.containsKey(i), is(false));
+        }
+    }
+
+    @Test
+    public void testRandomOperations(){
+        Dictionary<Integer, Long> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.LONG);
+        Map<Integer, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+        for(int i = 0; i < 200000; i++){
+            int key = random.nextInt(5000);
+            if(random.nextInt(3) == 0 && expected.containsKey(key)){
+                assertThat(dict.delete(key), is(expected.remove(key)));
+            }else{
+                long value = random.nextLong();
+                dict.add(key, value);
+                expected.put(key, value);
+            }
+        }
+        assertThat(dict.size(), is(expected.size()));
+        for(Map.Entry<Integer, Long> entry : expected.entrySet()){
+            assertThat(dict.get(entry.getKey()), is(entry.getValue()));
+        }
+    }
+
+    @Test
+    public void testMappedAllocator() throws IOException{
+        Path directory = Files.createTempDirectory("offheap");
+        try{
+            Dictionary<Integer, Float> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.FLOAT, 1000,
+                OffHeapHashDictionary.Allocator.mapped(directory));
+            for(int i = 0; i < 10000; i++) dict.add(i, i / 2f);
+            for(int i = 0; i < 10000; i++) assertThat(dict.get(i), is(i / 2f));
+        }finally{
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testGetOrDefaultAndPutIfAbsent(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        assertThat(dict.getOrDefault(1, -1), is(-1));
+        assertThat(dict.putIfAbsent(1, 1), is(nullValue()));
+        assertThat(dict.putIfAbsent(1, 2), is(1));
+        assertThat(dict.getOrDefault(1, -1), is(1));
+        assertThat(dict.size(), is(1));
+    }
+
+    @Test
+    public void testComputeMergeAndCursor(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        for(int i = 0; i < 100; i++) dict.merge(i % 10, 1, Integer::sum);
+        assertThat(dict.compute(3, (k, v) -> v * k), is(30));
+
+        Dictionary.Cursor<Integer, Integer> cursor = dict.cursor();
+        int count = 0;
+        while(cursor.next()){
+            assertThat(cursor.value(), is(cursor.key() == 3 ? 30 : 10));
+            count++;
+        }
+        assertThat(count, is(10));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValueRejected(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        dict.add(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        dict.add(1, 1);
+        dict.delete(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, Integer> dict = new OffHeapHashDictionary<>(Codec.INT, Codec.INT);
+        dict.add(1, 1);
+        dict.get(2);
+    }
+}
@@ -0,0 +1,186 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class OpenAddressingHashDictionaryTest{
+    @Test
+    public void getKeys(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        dict.add(1, "One");
+        dict.add(2, "Two");
+        dict.add(3, "Three");
+        dict.add(4, "Four");
+        dict.add(5, "Five");
+        assertThat(dict.keys().stream()
+                              .sorted()
+                              .collect(Collectors.toList()), 
+                    is(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void testAddAndContains(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(1, "One");
+        assertThat(dict.containsKey(1), is(true));
+        assertThat(dict.get(1), is("One"));
+        dict.add(1, "ONE");
+        assertThat(dict.containsKey(1), is(true));
+        assertThat(dict.get(1), is("ONE"));
+        assertThat(dict.size(), is(1));
+        assertThat(dict.containsKey(2), is(false));
+    }
+
+    @Test
+    public void testRemoveAndContains(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        assertThat(dict.containsKey(1), is(false));
+        dict.add(1, "One");
+        dict.add(2, "Two");
+        dict.add(3, "Three");
+        assertThat(dict.containsKey(1), is(true));
+        assertThat(dict.containsKey(2), is(true));
+        assertThat(dict.containsKey(3), is(true));
+        assertThat(dict.size(), is(3));
+        dict.delete(1);
+        assertThat(dict.containsKey(1), is(false));
+        assertThat(dict.size(), is(2));
+        dict.delete(2);
+        assertThat(dict.containsKey(2), is(false));
+        assertThat(dict.size(), is(1));
+    }
+
+    @Test
+    public void testBigData(){
+        Dictionary<Integer, Integer> squares = new OpenAddressingHashDictionary<>();
+        final int MAX = 1000000;
+        for(int i = 0; i < MAX; i++) squares.add(i, -i);
+
+        assertThat(squares.size(), is(MAX));
+        for(int i = 0; i < MAX; i++){
+            assertThat(squares.get(i), is(-i));
+        }
+
+        for(int i = 1; i < MAX; i += 2) assertThat(squares.delete(i), is(-i));
+        for(int i = 0; i < MAX; i++){
+            if((i & 1) == 0) assertThat(squares.get(i), is(-i));
+            else assertThat(squares.containsKey(i), is(false));
+        }
+    }
+
+    private static class CollidingKey{
+        private final int id;
+        public CollidingKey(int id){
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode(){
+            return id % 3;
+        }
+
+        @Override
+        public boolean equals(Object obj){
+            return obj instanceof CollidingKey && ((CollidingKey) obj).id == id;
+        }
+    }
+
+    @Test
+    public void testDeleteFromCollidingProbeRuns(){
+        Dictionary<CollidingKey, Integer> dict = new OpenAddressingHashDictionary<>();
+        final int MAX = 300;
+        for(int i = 0; i < MAX; i++) dict.add(new CollidingKey(i), i);
+        for(int i = 0; i < MAX; i += 3) assertThat(dict.delete(new CollidingKey(i)), is(i));
+
+        assertThat(dict.size(), is(MAX - MAX / 3));
+        for(int i = 0; i < MAX; i++){
+            if(i % 3 == 0) assertThat(dict.containsKey(new CollidingKey(i)), is(false));
+            else assertThat(dict.get(new CollidingKey(i)), is(i));
+        }
+    }
+
+    @Test
+    public void testDeleteAllAndReuse(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        dict.add(1, "One");
+        dict.delete(1);
+        assertThat(dict.size(), is(0));
+        dict.add(2, "Two");
+        assertThat(dict.get(2), is("Two"));
+    }
+
+    @Test
+    public void testGetOrDefaultAndPutIfAbsent(){
+        Dictionary<String, Integer> dict = new OpenAddressingHashDictionary<>();
+        assertThat(dict.getOrDefault("a", -1), is(-1));
+        assertThat(dict.putIfAbsent("a", 1), is(nullValue()));
+        assertThat(dict.putIfAbsent("a", 2), is(1));
+        assertThat(dict.getOrDefault("a", -1), is(1));
+        assertThat(dict.size(), is(1));
+    }
+
+    @Test
+    public void testComputeAndMerge(){
+        Dictionary<String, Integer> dict = new OpenAddressingHashDictionary<>();
+        for(String word : "to be or not to be".split(" ")){
+            dict.merge(word, 1, Integer::sum);
+        }
+        assertThat(dict.get("to"), is(2));
+        assertThat(dict.get("be"), is(2));
+        assertThat(dict.get("or"), is(1));
+        assertThat(dict.size(), is(4));
+
+        assertThat(dict.compute("not", (k, v) -> v == null ? 0 : v * 10), is(10));
+        assertThat(dict.compute("maybe", (k, v) -> v == null ? 0 : v * 10), is(0));
+        assertThat(dict.get("maybe"), is(0));
+        assertThat(dict.size(), is(5));
+    }
+
+    @Test
+    public void testDefaultCursorAndViews(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        dict.add(1, "One");
+        dict.add(2, "Two");
+        dict.add(3, "Three");
+        Dictionary.Cursor<Integer, String> cursor = dict.cursor();
+        List<String> values = new ArrayList<>();
+        while(cursor.next()) values.add(cursor.key() + cursor.value());
+        assertThat(values.stream().sorted().collect(Collectors.toList()), is(Arrays.asList("1One", "2Two", "3Three")));
+        assertThat(cursor.next(), is(false));
+        cursor.reset();
+        assertThat(cursor.next(), is(true));
+
+        List<Integer> keys = new ArrayList<>();
+        for(Integer key : dict.keyView()) keys.add(key);
+        assertThat(keys, is(dict.keys()));
+        List<String> viewValues = new ArrayList<>();
+        for(String value : dict.values()) viewValues.add(value);
+        assertThat(viewValues.size(), is(3));
+        dict.forEach((k, v) -> assertThat(dict.get(k), is(v)));
+        for(Dictionary.Entry<Integer, String> entry : dict.entries()){
+            assertThat(dict.get(entry.getKey()), is(entry.getValue()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        dict.add(1, "ONE");
+        dict.delete(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        Dictionary<Integer, String> dict = new OpenAddressingHashDictionary<>();
+        dict.add(1, "ONE");
+        dict.get(2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class PerfectHashDictionaryTest{
+    @Test
+    public void getKeys(){
+        Dictionary<Integer, String> dict = PerfectHashDictionary.build(
+            Arrays.asList(1, 2, 3, 4, 5), Arrays.asList("One", "Two", "Three", "Four", "Five"));
+        assertThat(dict.keys().stream()
+                              .sorted()
+                              .collect(Collectors.toList()), 
+                    is(Arrays.asList(1, 2, 3, 4, 5)));
+        assertThat(dict.get(3), is("Three"));
+        assertThat(dict.containsKey(6), is(false));
+        assertThat(dict.getOrDefault(6, "None"), is("None"));
+    }
+
+    private static void testBigData(boolean parallel){
+        final int MAX = 200000;
+        List<String> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < MAX; i++){
+            keys.add("node-" + i);
+            values.add(i);
+        }
+        Dictionary<String, Integer> dict = PerfectHashDictionary.build(keys, values, parallel);
+        assertThat(dict.size(), is(MAX));
+        for(int i = 0; i < MAX; i++) assertThat(dict.get("node-" + i), is(i));
+        for(int i = MAX; i < 2 * MAX; i++) assertThat(dict.containsKey("node-" + i), is(false));
+    }
+
+    @Test
+    public void testBigData(){
+        testBigData(false);
+    }
+
+    @Test
+    public void testBigDataParallel(){
+        testBigData(true);
+    }
+
+    @Test
+    public void testKeysWithEqualHashCodes(){
+        // "Aa" and "BB" have the same hash code
+        Dictionary<String, Integer> dict = PerfectHashDictionary.build(
+            Arrays.asList("Aa", "BB", "C", "AaAa", "BBBB", "AaBB"), Arrays.asList(1, 2, 3, 4, 5, 6));
+        assertThat(dict.size(), is(6));
+        assertThat(dict.get("Aa"), is(1));
+        assertThat(dict.get("BB"), is(2));
+        assertThat(dict.get("C"), is(3));
+        assertThat(dict.get("AaAa"), is(4));
+        assertThat(dict.get("BBBB"), is(5));
+        assertThat(dict.get("AaBB"), is(6));
+        assertThat(dict.containsKey("BBAa"), is(false));
+        assertThat(dict.keys().size(), is(6));
+    }
+
+    @Test
+    public void testCopyOf(){
+        Dictionary<Integer, Integer> squares = new HashDictionary<>();
+        for(int i = -1000; i < 1000; i++) squares.add(i, i * i);
+        Dictionary<Integer, Integer> dict = PerfectHashDictionary.copyOf(squares);
+        assertThat(dict.size(), is(2000));
+        for(int i = -1000; i < 1000; i++) assertThat(dict.get(i), is(i * i));
+    }
+
+    @Test
+    public void testEmpty(){
+        Dictionary<Integer, Integer> dict = PerfectHashDictionary.build(new ArrayList<>(), new ArrayList<>());
+        assertThat(dict.size(), is(0));
+        assertThat(dict.containsKey(1), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateKeysRejected(){
+        PerfectHashDictionary.build(Arrays.asList(1, 2, 1), Arrays.asList(1, 2, 3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddNotSupported(){
+        PerfectHashDictionary.build(Arrays.asList(1), Arrays.asList(1)).add(2, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetExceptionIfKeyDoesNotExist(){
+        PerfectHashDictionary.build(Arrays.asList(1), Arrays.asList(1)).get(2);
+    }
+}
@@ -0,0 +1,121 @@
+package org.gfg.hash;
+
+import org.junit.Test;
+import static org.junit.Assert.assertThat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.gfg.Dictionary;
+import static org.hamcrest.Matchers.*;
+
+public class StringDictionaryTest{
+    @Test
+    public void testCharSequenceLookups(){
+        Dictionary<CharSequence, Integer> dict = new StringDictionary<>();
+        StringBuilder key = new StringBuilder("NY");
+        key.append("HARRISON");
+        dict.add(key, 1);
+
+        // the key was copied, so changing the buffer afterwards does not affect the dictionary
+        key.setLength(0);
+        key.append("OK");
+        assertThat(dict.containsKey("NYHARRISON"), is(true));
+        assertThat(dict.containsKey(key), is(false));
+        assertThat(dict.get(new StringBuilder("NYHARRISON")), is(1));
+        assertThat(dict.getOrDefault("NYHARRISO", -1), is(-1));
+
+        dict.add("NYHARRISON", 2);
+        assertThat(dict.size(), is(1));
+        assertThat(dict.get("NYHARRISON"), is(2));
+        assertThat(dict.keys().get(0).toString(), is("NYHARRISON"));
+    }
+
+    @Test
+    public void testEmptyKey(){
+        Dictionary<CharSequence, String> dict = new StringDictionary<>();
+        dict.add("", "empty");
+        assertThat(dict.get(new StringBuilder()), is("empty"));
+        assertThat(dict.delete(""), is("empty"));
+        assertThat(dict.size(), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMissingKey(){
+        new StringDictionary<Integer>().get("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteMissingKey(){
+        new StringDictionary<Integer>().delete("a");
+    }
+
+    @Test
+    public void testFreeze(){
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        for(int i = 0; i < 1000; i++) dict.add("key" + i, i);
+        for(int i = 0; i < 1000; i += 2) dict.delete("key" + i);
+        assertThat(dict.freeze(), is(sameInstance(dict)));
+        assertThat(dict.size(), is(500));
+        StringBuilder key = new StringBuilder();
+        for(int i = 0; i < 1000; i++){
+            key.setLength(0);
+            key.append("key").append(i);
+            assertThat(dict.getOrDefault(key, -1), is(i % 2 == 0 ? -1 : i));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenDictionaryIsReadOnly(){
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        dict.add("a", 1);
+        dict.freeze().add("b", 2);
+    }
+
+    @Test
+    public void testCursor(){
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        for(int i = 0; i < 100; i++) dict.add("key" + i, i);
+        Dictionary.Cursor<CharSequence, Integer> cursor = dict.cursor();
+        int count = 0;
+        while(cursor.next()){
+            assertThat(cursor.key().toString(), is("key" + cursor.value()));
+            count++;
+        }
+        assertThat(count, is(100));
+    }
+
+    @Test
+    public void testBigData(){
+        Random random = new Random(5);
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        Map<String, Integer> expected = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        StringBuilder buffer = new StringBuilder();
+        for(int i = 0; i < 200000; i++){
+            int op = random.nextInt(3);
+            if(op < 2 || keys.isEmpty()){
+                buffer.setLength(0);
+                int length = random.nextInt(12);
+                for(int j = 0; j < length; j++) buffer.append((char) ('a' + random.nextInt(4)));
+                String key = buffer.toString();
+                if(!expected.containsKey(key)) keys.add(key);
+                dict.add(buffer, i);
+                expected.put(key, i);
+            }else{
+                int index = random.nextInt(keys.size());
+                String key = keys.get(index);
+                keys.set(index, keys.get(keys.size() - 1));
+                keys.remove(keys.size() - 1);
+                assertThat(dict.delete(key), is(expected.remove(key)));
+            }
+            assertThat(dict.size(), is(expected.size()));
+        }
+        for(Map.Entry<String, Integer> entry : expected.entrySet()){
+            assertThat(dict.get(entry.getKey()), is(entry.getValue()));
+        }
+        for(CharSequence key : dict.keys()) assertThat(expected.containsKey(key.toString()), is(true));
+    }
+}
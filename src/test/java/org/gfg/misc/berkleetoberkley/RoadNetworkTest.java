@@ -12,7 +12,7 @@ public class RoadNetworkTest{
         String linkFilePath = this.getClass().getResource("/dijkstra/nhpn.lnk").getFile();
         RoadNetwork network = RoadNetwork.fromFile(nodeFilePath, linkFilePath);
 
-        assertThat(network.getNodes().size(), is(90415));
+        assertThat(network.getNodes().length, is(90415));
 
         Node node = network.getNode("NYHARRISON MANHATT");
         assertThat(node, is(not(nullValue())));